@@ -0,0 +1,179 @@
+package com.docmall.basic.admin.product;
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.LocalCacheScope;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import com.docmall.basic.common.utils.SearchCriteria;
+
+/**
+ * 관리자 상품 목록(AdProductMapper) 조회 벤치마크
+ *
+ * - 내장 H2(MySQL 호환 모드)에 db/schema.sql 스키마와 상품 데이터를 만들고
+ *   운영과 같은 mapper/AdProductMapper.xml을 그대로 사용합니다.
+ * - firstPage / deepPage: offset 페이징 (깊은 페이지일수록 건너뛰는 행이 늘어남)
+ * - deepCursor: 같은 위치를 keyset(커서) 페이징으로 조회
+ * - search: 상품명/제조사 LIKE 검색 (검색 색인을 사용하지 않는 경우)
+ * - H2 수치는 MySQL과 절대값이 다르므로 같은 환경에서의 전후 비교용으로 사용합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductListBenchmark {
+
+    // 등록할 상품 개수
+    @Param({"10000", "100000"})
+    private int productCount;
+
+    private SqlSessionFactory sqlSessionFactory;
+    private SqlSession sqlSession;
+    private AdProductMapper mapper;
+    private JdbcDataSource dataSource;
+
+    private SearchCriteria firstPage;
+    private SearchCriteria deepPage;
+    private SearchCriteria deepCursor;
+    private SearchCriteria search;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:jmh_product;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+
+        try(Connection conn = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(conn, new ClassPathResource("db/schema.sql"));
+            seed(conn);
+        }
+
+        // 스프링 없이 MyBatis만 구성 (application.properties에 별도 MyBatis 설정이 없으므로 기본값 사용)
+        Environment environment = new Environment("jmh", new JdbcTransactionFactory(), dataSource);
+        Configuration configuration = new Configuration(environment);
+        // 같은 세션에서 같은 조회를 반복하므로 1차 캐시가 결과를 돌려주지 않도록 문장 단위로 제한
+        configuration.setLocalCacheScope(LocalCacheScope.STATEMENT);
+        String resource = "mapper/AdProductMapper.xml";
+        try(InputStream in = new ClassPathResource(resource).getInputStream()) {
+            new XMLMapperBuilder(in, configuration, resource, configuration.getSqlFragments()).parse();
+        }
+        sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+        sqlSession = sqlSessionFactory.openSession(true);
+        mapper = sqlSession.getMapper(AdProductMapper.class);
+
+        firstPage = new SearchCriteria();
+
+        // 전체의 중간 위치
+        int middlePage = productCount / 10 / 2;
+        deepPage = new SearchCriteria();
+        deepPage.setPage(middlePage);
+
+        deepCursor = new SearchCriteria();
+        deepCursor.setMode(SearchCriteria.MODE_CURSOR);
+        deepCursor.setCursor(String.valueOf(productCount - (middlePage - 1) * 10 + 1));
+
+        search = new SearchCriteria();
+        search.setSearchType("np");
+        search.setKeyword("출판");
+    }
+
+    /** 카테고리 2개(1차/2차)와 상품 productCount건 등록 */
+    private void seed(Connection conn) throws Exception {
+        conn.setAutoCommit(false);
+        try(PreparedStatement pstmt = conn.prepareStatement(
+                "insert into category_tbl(cate_code, cate_prtcode, cate_name) values (?, ?, ?)")) {
+            pstmt.setInt(1, 1);
+            pstmt.setObject(2, null);
+            pstmt.setString(3, "도서");
+            pstmt.addBatch();
+            pstmt.setInt(1, 11);
+            pstmt.setInt(2, 1);
+            pstmt.setString(3, "IT");
+            pstmt.addBatch();
+            pstmt.executeBatch();
+        }
+
+        String sql = "insert into product_tbl(cate_code, pro_name, pro_price, pro_discount, pro_publisher,"
+                   + " pro_content, pro_up_folder, pro_img, pro_amount, pro_buy) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        try(PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for(int i = 1; i <= productCount; i++) {
+                pstmt.setInt(1, 11);
+                pstmt.setString(2, "상품 " + i);
+                pstmt.setInt(3, 10_000 + i % 50_000);
+                pstmt.setInt(4, i % 30);
+                // 100건 중 1건만 검색어와 일치
+                pstmt.setString(5, i % 100 == 0 ? "테스트출판" : "제조사 " + (i % 500));
+                pstmt.setString(6, "상품 " + i + " 상세 설명입니다.");
+                pstmt.setString(7, "2025/05/01");
+                pstmt.setString(8, "product_" + i + ".jpg");
+                pstmt.setInt(9, 100);
+                pstmt.setString(10, "Y");
+                pstmt.addBatch();
+                if(i % 1000 == 0) {
+                    pstmt.executeBatch();
+                }
+            }
+            pstmt.executeBatch();
+        }
+        conn.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        sqlSession.close();
+        try(Connection conn = dataSource.getConnection()) {
+            conn.createStatement().execute("drop all objects");
+        }
+    }
+
+    @Benchmark
+    public List<ProductVO> firstPage() {
+        return mapper.pro_list(firstPage);
+    }
+
+    @Benchmark
+    public List<ProductVO> deepPage() {
+        return mapper.pro_list(deepPage);
+    }
+
+    @Benchmark
+    public List<ProductVO> deepCursor() {
+        return mapper.pro_list_cursor(deepCursor);
+    }
+
+    @Benchmark
+    public List<ProductVO> search() {
+        return mapper.pro_list(search);
+    }
+}
@@ -0,0 +1,57 @@
+package com.docmall.basic.common.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 비밀번호 검증(BCrypt) 벤치마크
+ *
+ * - SecurityConfig에 등록된 PasswordEncoder로 로그인 1회분의 matches() 비용을 측정합니다.
+ * - BCrypt는 의도적으로 느린 알고리즘이므로 로그인 처리량의 상한을 결정합니다.
+ * - strength별로 측정하여 com.docmall.security.bcrypt-strength 설정 시 참고합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordEncoderBenchmark {
+
+    @Param({"10", "11", "12"})
+    private int strength;
+
+    private PasswordEncoder passwordEncoder;
+    private String encoded;
+
+    @Setup
+    public void setup() {
+        passwordEncoder = new SecurityConfig().passwordEncoder(strength);
+        encoded = passwordEncoder.encode("password1234!");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches("password1234!", encoded);
+    }
+
+    @Benchmark
+    public boolean mismatch() {
+        return passwordEncoder.matches("wrong-password", encoded);
+    }
+}
@@ -0,0 +1,114 @@
+package com.docmall.basic.common.utils;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.FileSystemUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * FileUtils 관련 벤치마크
+ *
+ * - getDateFolder: 업로드마다 호출되는 날짜 폴더명 생성 (호출마다 SimpleDateFormat 생성)
+ *   (의존 객체를 사용하지 않으므로 null로 생성)
+ * - thumbnail: 업로드 1건의 썸네일 작업 (uploadFile이 ThumbnailGenerator에 넘기는 작업 전체:
+ *   원본 디코딩 1회 + 's_' 썸네일 + 크기별 변형 이미지 + 매니페스트)
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileUtilsBenchmark {
+
+    private FileUtils fileUtils;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        fileUtils = new FileUtils(null, null, null, null);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public String getDateFolder() {
+        return fileUtils.getDateFolder();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2, time = 5)
+    @Measurement(iterations = 5, time = 5)
+    public File thumbnail(ImageState state) throws Exception {
+        state.thumbnailGenerator.createThumbnail(state.source, state.thumbnail);
+        return state.thumbnail;
+    }
+
+    /** 썸네일 벤치마크용 원본 이미지와 생성기 */
+    @State(Scope.Benchmark)
+    public static class ImageState {
+
+        // 원본 이미지 가로 크기(px)
+        @Param({"1200", "4000"})
+        private int sourceWidth;
+
+        private ThumbnailGenerator thumbnailGenerator;
+        private File workDir;
+        private File source;
+        private File thumbnail;
+
+        @Setup(Level.Trial)
+        public void setup() throws Exception {
+            ImageVariantService imageVariantService = new ImageVariantService();
+            ReflectionTestUtils.setField(imageVariantService, "variantsConfig", "icon:80,card:300,detail:800");
+            ReflectionTestUtils.setField(imageVariantService, "webpEnabled", true);
+            imageVariantService.init();
+
+            thumbnailGenerator = new ThumbnailGenerator(imageVariantService, new SimpleMeterRegistry());
+            ReflectionTestUtils.setField(thumbnailGenerator, "ratio", 3.0);
+            ReflectionTestUtils.setField(thumbnailGenerator, "maxWidth", 300);
+
+            workDir = Files.createTempDirectory("jmh-thumbnail").toFile();
+            source = new File(workDir, "source.jpg");
+            thumbnail = new File(workDir, "s_source.jpg");
+
+            // 사진과 비슷하게 압축되도록 그라데이션 이미지 생성
+            int height = sourceWidth * 3 / 4;
+            BufferedImage image = new BufferedImage(sourceWidth, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = image.createGraphics();
+            g.setPaint(new GradientPaint(0, 0, Color.ORANGE, sourceWidth, height, Color.BLUE));
+            g.fillRect(0, 0, sourceWidth, height);
+            g.dispose();
+            ImageIO.write(image, "jpg", source);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            FileSystemUtils.deleteRecursively(workDir);
+        }
+    }
+}
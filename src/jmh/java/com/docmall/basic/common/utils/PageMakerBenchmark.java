@@ -0,0 +1,80 @@
+package com.docmall.basic.common.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * PageMaker 벤치마크
+ *
+ * - calcData: setTotalCount() 호출 시 페이지 블럭 계산
+ * - makeSearch: 페이지 번호 링크의 쿼리스트링(URI) 생성 (목록 화면에서 페이지 번호마다 호출)
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PageMakerBenchmark {
+
+    // 검색어 (빈 값: 검색 없음, 한글: URL 인코딩 포함)
+    @Param({"", "스프링 부트"})
+    private String keyword;
+
+    private SearchCriteria cri;
+    private PageMaker pageMaker;
+
+    @Setup
+    public void setup() {
+        cri = new SearchCriteria();
+        cri.setPage(37);
+        cri.setPerPageNum(10);
+        if(!keyword.isEmpty()) {
+            cri.setSearchType("np");
+            cri.setKeyword(keyword);
+        }
+        pageMaker = new PageMaker();
+        pageMaker.setCri(cri);
+        pageMaker.setTotalCount(12_345);
+    }
+
+    @Benchmark
+    public int calcData() {
+        PageMaker maker = new PageMaker();
+        maker.setCri(cri);
+        maker.setTotalCount(12_345);
+        return maker.getEndPage();
+    }
+
+    @Benchmark
+    public String makeSearch() {
+        return pageMaker.makeSearch(38);
+    }
+
+    /** 목록 화면 1개 렌더링 분량: 페이지 블럭 계산 + 페이지 번호 10개 링크 */
+    @Benchmark
+    public int pageBlock() {
+        PageMaker maker = new PageMaker();
+        maker.setCri(cri);
+        maker.setTotalCount(12_345);
+        int length = 0;
+        for(int num = maker.getStartPage(); num <= maker.getEndPage(); num++) {
+            length += maker.makeSearch(num).length();
+        }
+        return length;
+    }
+}
@@ -2,6 +2,7 @@ package com.docmall.basic;
 
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 
@@ -13,6 +14,7 @@ import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfi
  * - @SpringBootApplication은 스프링 부트의 핵심 설정을 자동으로 활성화합니다.
  * - @MapperScan은 MyBatis 매퍼 인터페이스가 위치한 패키지를 지정합니다.
  * - SecurityAutoConfiguration.class를 exclude하여 Spring Security 자동 설정을 비활성화합니다.
+ *   actuator가 추가하는 ManagementWebSecurityAutoConfiguration(HttpSecurity 필요)도 함께 제외합니다.
  *
  * @author main
  * @since 2025.05.01
@@ -20,7 +22,7 @@ import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfi
 @MapperScan(basePackages = {"com.docmall.basic.**"})
 // MyBatis 매퍼 인터페이스(@Mapper)가 위치한 패키지를 지정하여, 자동으로 빈으로 등록해줍니다.
 // 공식 문서: https://mybatis.org/spring-boot-starter/mybatis-spring-boot-autoconfigure/
-@SpringBootApplication(exclude = SecurityAutoConfiguration.class)
+@SpringBootApplication(exclude = {SecurityAutoConfiguration.class, ManagementWebSecurityAutoConfiguration.class})
 // @SpringBootApplication: @Configuration, @EnableAutoConfiguration, @ComponentScan을 합친 어노테이션
 // exclude 옵션으로 Spring Security 자동 설정을 제외(로그인/인증 없이 개발 가능)
 public class DemoshopApplication {
@@ -1,12 +1,17 @@
 package com.docmall.basic.admin;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import com.docmall.basic.common.security.LoginBusyException;
+import com.docmall.basic.common.security.LoginPrincipal;
+import com.docmall.basic.common.security.LoginRateLimiter;
+import com.docmall.basic.common.security.PasswordVerifier;
+
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,9 +33,12 @@ import lombok.extern.slf4j.Slf4j;
 @Controller // 스프링 MVC 컨트롤러 등록
 public class AdminController {
     
-    // 서비스 및 비밀번호 암호화 객체를 생성자 주입
+    // 서비스 및 비밀번호 확인(해시 전용 스레드 풀) 객체를 생성자 주입
     private final AdminService adminService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerifier passwordVerifier;
+
+    // 로그인 시도 횟수 제한
+    private final LoginRateLimiter loginRateLimiter;
     
     /**
      * 관리자 로그인 폼 페이지로 이동
@@ -47,12 +55,15 @@ public class AdminController {
      * 관리자 로그인 처리
      *
      * POST /admin/admin_ok
-     * - 아이디, 비밀번호 검증 후 세션에 관리자 정보 저장
+     * - 아이디, 비밀번호 검증 후 세션에 관리자 로그인 정보(LoginPrincipal: 아이디) 저장
      * - 실패 시 메시지와 함께 로그인 폼으로 리다이렉트
+     * - 시도 횟수 초과(toomany), 비밀번호 확인 작업 지연(busy) 시 비밀번호 확인 없이 거부
+     * - 저장된 비밀번호 해시의 비용이 현재 설정보다 낮으면 새 비용으로 다시 저장
      *
      * @param dto 로그인 폼에서 전달된 관리자 정보
      * @param session HttpSession (로그인 성공 시 관리자 정보 저장)
      * @param rttr RedirectAttributes (리다이렉트 시 메시지 전달)
+     * @param request 클라이언트 IP 확인용
      * @return 리다이렉트 경로
      * @throws Exception 예외 발생 시
      */
@@ -60,8 +71,15 @@ public class AdminController {
     public String admin_ok(
             AdminDTO dto,
             HttpSession session,
-            RedirectAttributes rttr
+            RedirectAttributes rttr,
+            HttpServletRequest request
     ) throws Exception {
+
+        // 시도 횟수 제한 (비밀번호 대입 공격 방지)
+        if(!loginRateLimiter.tryAcquire(request.getRemoteAddr(), dto.getAd_userid())) {
+            rttr.addFlashAttribute("msg", "toomany");
+            return "redirect:/admin/";
+        }
         
         // 입력받은 아이디로 관리자 정보 조회
         AdminDTO db_vo = adminService.getAdminById(dto.getAd_userid());
@@ -71,9 +89,24 @@ public class AdminController {
         
         if(db_vo != null) {
             // 입력 비밀번호(평문)와 DB 비밀번호(암호화) 비교
-            if(passwordEncoder.matches(dto.getAd_passwd(), db_vo.getAd_passwd())) {
-                // 로그인 성공: 세션에 관리자 정보 저장
-                session.setAttribute("admin_auth", db_vo);
+            PasswordVerifier.Result result;
+            try {
+                result = passwordVerifier.verify(db_vo.getAd_userid(), dto.getAd_passwd(), db_vo.getAd_passwd());
+            } catch(LoginBusyException ex) {
+                log.warn("관리자 로그인 처리 지연: {}", ex.getMessage());
+                rttr.addFlashAttribute("msg", "busy");
+                return "redirect:/admin/";
+            }
+
+            if(result.matched()) {
+                if(result.rehashed() != null) {
+                    // 이전 비용으로 저장된 비밀번호를 현재 비용으로 다시 저장
+                    adminService.updatePasswd(db_vo.getAd_userid(), result.rehashed());
+                }
+                // 로그인 전 세션 아이디를 그대로 쓰지 않도록 변경 (세션 고정 공격 방지)
+                request.changeSessionId();
+                // 로그인 성공: 세션에 관리자 아이디만 저장 (비밀번호 해시는 저장하지 않음)
+                session.setAttribute(LoginPrincipal.ADMIN_SESSION_KEY, LoginPrincipal.admin(db_vo.getAd_userid()));
                 url = "/admin/ad_menu";
             } else {
                 // 비밀번호 불일치
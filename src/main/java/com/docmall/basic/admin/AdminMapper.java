@@ -1,5 +1,9 @@
 package com.docmall.basic.admin;
 
+import org.apache.ibatis.annotations.Param;
+
 public interface AdminMapper {
 	AdminDTO getAdminById(String ad_userid);
+
+	void updatePasswd(@Param("ad_userid") String ad_userid, @Param("ad_passwd") String ad_passwd);
 }
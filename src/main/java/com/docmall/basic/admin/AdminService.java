@@ -12,4 +12,9 @@ public class AdminService {
 	public AdminDTO getAdminById(String ad_userid) throws Exception {
 		return adminMapper.getAdminById(ad_userid);
 	}
+
+	// 비밀번호(해시) 변경 - 로그인 시 해시 비용 재설정에 사용
+	public void updatePasswd(String ad_userid, String ad_passwd) throws Exception {
+		adminMapper.updatePasswd(ad_userid, ad_passwd);
+	}
 }
@@ -7,6 +7,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@ import lombok.extern.slf4j.Slf4j;
  * - @RequiredArgsConstructor: final 필드(AdCategoryService) 생성자 자동 생성(Lombok)
  * - @Slf4j: 로그 출력을 위한 Lombok 어노테이션
  * - RESTful 방식으로 2차 카테고리 목록을 제공합니다.
+ * - 메모리 카테고리 트리 수동 갱신 기능을 제공합니다.
  * 
  * @author main
  * @since 2025.05.09
@@ -52,4 +54,18 @@ public class AdCategoryController {
         // 조회 결과를 HTTP 200 상태 코드와 함께 ResponseEntity로 반환
         return new ResponseEntity<>(secondCategoryList, HttpStatus.OK);
     }
+
+    /**
+     * 메모리 카테고리 트리 수동 갱신 (REST API)
+     * POST /admin/category/refresh
+     * - DB에서 카테고리를 직접 수정한 경우 등에 관리자가 호출합니다.
+     *
+     * @return ResponseEntity<String> (갱신된 카테고리 개수)
+     * @throws Exception 예외 발생 시
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<String> refresh() throws Exception {
+        int count = adCategoryService.refresh();
+        return new ResponseEntity<>(String.valueOf(count), HttpStatus.OK);
+    }
 }
@@ -14,6 +14,14 @@ import java.util.List;
  */
 public interface AdCategoryMapper {
 
+    /**
+     * 전체 카테고리 목록 조회
+     * (서비스에서 메모리 카테고리 트리를 만들 때 사용)
+     *
+     * @return 전체 카테고리 리스트
+     */
+    List<CategoryVO> getAllCategoryList();
+
     /**
      * 1차 카테고리 목록 조회
      * (cate_prtcode가 null인 최상위 카테고리만 조회)
@@ -1,22 +1,29 @@
 package com.docmall.basic.admin.category;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * 카테고리 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
  *
  * - AdCategoryMapper(매퍼 인터페이스)를 주입받아 DB 연동 작업을 수행합니다.
  * - 1차/2차 카테고리 목록 조회, 카테고리 코드로 정보 조회 등 핵심 로직을 구현합니다.
+ * - 전체 카테고리 계층을 처음 사용할 때 한 번만 읽어 메모리 트리(CategoryTree)로 보관하며,
+ *   이후 조회는 DB 접근 없이 트리에서 처리합니다.
+ * - 카테고리가 변경되면 refresh()로 새 트리를 만들어 원자적으로 교체합니다.
  * - @Service 어노테이션을 통해 스프링 빈으로 등록됩니다.
  * - @RequiredArgsConstructor는 final 필드에 대한 생성자를 자동으로 생성합니다.
  *
  * @author main
  * @since 2025.05.09
  */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
 @RequiredArgsConstructor // Lombok: final 필드에 대한 생성자 자동 생성
 @Service // 해당 클래스가 서비스 계층(비즈니스 로직)임을 명시
 public class AdCategoryService {
@@ -24,14 +31,20 @@ public class AdCategoryService {
     // 카테고리 관련 DB 작업을 담당하는 MyBatis 매퍼
     private final AdCategoryMapper adCategoryMapper;
 
+    // 메모리 카테고리 트리 (volatile: 교체 즉시 모든 요청 스레드에 보이도록)
+    private volatile CategoryTree categoryTree;
+
+    // 최초 트리 생성 잠금 (DB 조회 중 대기하므로 synchronized 대신 사용: 가상 스레드 고정 방지)
+    private final ReentrantLock lock = new ReentrantLock();
+
     /**
      * 1차 카테고리 목록 조회
      * (cate_prtcode가 null인 최상위 카테고리만 조회)
      *
-     * @return 1차 카테고리 리스트
+     * @return 1차 카테고리 리스트 (수정 불가)
      */
     public List<CategoryVO> getFirstCategoryList() {
-        return adCategoryMapper.getFirstCategoryList();
+        return tree().getRoots();
     }
 
     /**
@@ -39,10 +52,13 @@ public class AdCategoryService {
      * (특정 1차 카테고리 코드에 속한 2차 카테고리만 조회)
      *
      * @param cate_prt_code 1차 카테고리 코드(부모 코드)
-     * @return 2차 카테고리 리스트
+     * @return 2차 카테고리 리스트 (수정 불가, 없으면 빈 리스트)
      */
     public List<CategoryVO> getSecondCategoryList(Integer cate_prt_code) {
-        return adCategoryMapper.getSecondCategoryList(cate_prt_code);
+        if(cate_prt_code == null) {
+            return Collections.emptyList();
+        }
+        return tree().getChildren(cate_prt_code);
     }
 
     /**
@@ -50,9 +66,51 @@ public class AdCategoryService {
      * (2차 카테고리 또는 임의의 카테고리 코드로 정보 조회)
      *
      * @param secondCategory 카테고리 코드
-     * @return 카테고리 정보(CategoryVO)
+     * @return 카테고리 정보(CategoryVO), 없으면 null
      */
     public CategoryVO getFirstCategoryBySecondCategory(int secondCategory) {
-        return adCategoryMapper.getFirstCategoryBySecondCategory(secondCategory);
+        return tree().get(secondCategory);
+    }
+
+    /**
+     * 자식 카테고리 코드로 부모 카테고리 정보 조회
+     *
+     * @param cate_code 자식(2차) 카테고리 코드
+     * @return 부모(1차) 카테고리 정보, 최상위이거나 없으면 null
+     */
+    public CategoryVO getParentCategory(int cate_code) {
+        return tree().getParent(cate_code);
+    }
+
+    /**
+     * DB에서 전체 카테고리를 다시 읽어 트리를 교체합니다.
+     * - 카테고리 등록/수정/삭제 후, 또는 관리자가 수동으로 호출합니다.
+     * - 새 트리를 모두 만든 뒤 참조만 바꾸므로, 조회 중인 요청은 이전 트리를 끝까지 사용합니다.
+     *
+     * @return 읽어온 전체 카테고리 개수
+     */
+    public int refresh() {
+        CategoryTree tree = CategoryTree.of(adCategoryMapper.getAllCategoryList());
+        categoryTree = tree;
+        log.info("카테고리 트리 갱신: {}건", tree.size());
+        return tree.size();
+    }
+
+    // 트리가 아직 없으면 처음 한 번만 DB에서 읽어옴
+    private CategoryTree tree() {
+        CategoryTree tree = categoryTree;
+        if(tree == null) {
+            lock.lock();
+            try {
+                tree = categoryTree;
+                if(tree == null) {
+                    refresh();
+                    tree = categoryTree;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return tree;
     }
 }
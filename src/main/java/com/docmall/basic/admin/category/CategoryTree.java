@@ -0,0 +1,136 @@
+package com.docmall.basic.admin.category;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 전체 카테고리 계층을 메모리에 올려둔 불변(immutable) 트리 클래스입니다.
+ *
+ * - cate_code(int)를 정렬된 int 배열로 보관하고 이진 탐색으로 찾으므로
+ *   조회 시 박싱(Integer)이나 Map 조회 없이 동작합니다.
+ * - 부모→자식 목록, 자식→부모 조회 결과를 모두 미리 계산해 두어
+ *   조회할 때마다 새 객체를 만들지 않습니다.
+ * - 반환되는 목록은 수정할 수 없으며, CategoryVO도 여러 요청이 공유하므로 수정하면 안 됩니다.
+ * - 카테고리가 바뀌면 새 트리를 만들어 통째로 교체합니다. (AdCategoryService.refresh)
+ *
+ * @author main
+ * @since 2025.05.09
+ */
+final class CategoryTree {
+
+    // cate_code 오름차순 정렬
+    private final int[] codes;
+
+    // codes와 같은 인덱스의 카테고리 정보
+    private final CategoryVO[] categories;
+
+    // 부모 카테고리의 인덱스 (최상위 또는 부모를 찾을 수 없으면 -1)
+    private final int[] parentIndex;
+
+    // 인덱스별 자식 카테고리 목록(수정 불가)
+    private final List<List<CategoryVO>> children;
+
+    // 1차(최상위) 카테고리 목록(수정 불가)
+    private final List<CategoryVO> roots;
+
+    private CategoryTree(List<CategoryVO> all) {
+        List<CategoryVO> sorted = new ArrayList<>(all);
+        sorted.sort(Comparator.comparingInt(CategoryVO::getCate_code));
+
+        int size = sorted.size();
+        this.codes = new int[size];
+        this.categories = sorted.toArray(new CategoryVO[0]);
+        for(int i = 0; i < size; i++) {
+            codes[i] = categories[i].getCate_code();
+        }
+
+        this.parentIndex = new int[size];
+        List<List<CategoryVO>> childBuilder = new ArrayList<>(size);
+        for(int i = 0; i < size; i++) {
+            childBuilder.add(new ArrayList<>());
+        }
+
+        List<CategoryVO> rootBuilder = new ArrayList<>();
+        for(int i = 0; i < size; i++) {
+            Integer prtcode = categories[i].getCate_prtcode();
+            int parent = prtcode == null ? -1 : Arrays.binarySearch(codes, prtcode);
+            parentIndex[i] = parent < 0 ? -1 : parent;
+
+            if(prtcode == null) {
+                rootBuilder.add(categories[i]);
+            } else if(parent >= 0) {
+                childBuilder.get(parent).add(categories[i]);
+            }
+        }
+
+        List<List<CategoryVO>> childLists = new ArrayList<>(size);
+        for(List<CategoryVO> list : childBuilder) {
+            childLists.add(list.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(list));
+        }
+        this.children = Collections.unmodifiableList(childLists);
+        this.roots = Collections.unmodifiableList(rootBuilder);
+    }
+
+    /**
+     * DB에서 읽어온 전체 카테고리 목록으로 트리를 생성합니다.
+     *
+     * @param all 전체 카테고리 목록
+     * @return 불변 카테고리 트리
+     */
+    static CategoryTree of(List<CategoryVO> all) {
+        return new CategoryTree(all);
+    }
+
+    /**
+     * 1차(최상위) 카테고리 목록
+     *
+     * @return 수정할 수 없는 1차 카테고리 리스트
+     */
+    List<CategoryVO> getRoots() {
+        return roots;
+    }
+
+    /**
+     * 특정 카테고리의 자식 카테고리 목록
+     *
+     * @param cate_code 부모 카테고리 코드
+     * @return 수정할 수 없는 자식 카테고리 리스트 (없으면 빈 리스트)
+     */
+    List<CategoryVO> getChildren(int cate_code) {
+        int idx = Arrays.binarySearch(codes, cate_code);
+        return idx < 0 ? Collections.emptyList() : children.get(idx);
+    }
+
+    /**
+     * 카테고리 코드로 카테고리 정보 조회
+     *
+     * @param cate_code 카테고리 코드
+     * @return 카테고리 정보, 없으면 null
+     */
+    CategoryVO get(int cate_code) {
+        int idx = Arrays.binarySearch(codes, cate_code);
+        return idx < 0 ? null : categories[idx];
+    }
+
+    /**
+     * 카테고리 코드로 부모 카테고리 정보 조회
+     *
+     * @param cate_code 자식 카테고리 코드
+     * @return 부모 카테고리 정보, 최상위이거나 없으면 null
+     */
+    CategoryVO getParent(int cate_code) {
+        int idx = Arrays.binarySearch(codes, cate_code);
+        if(idx < 0 || parentIndex[idx] < 0) {
+            return null;
+        }
+        return categories[parentIndex[idx]];
+    }
+
+    /** 전체 카테고리 개수 */
+    int size() {
+        return codes.length;
+    }
+}
@@ -0,0 +1,62 @@
+package com.docmall.basic.admin.monitor;
+
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import com.docmall.basic.common.mybatis.SlowQueryInterceptor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 시스템 모니터링 화면을 처리하는 컨트롤러 클래스입니다.
+ *
+ * - @RequestMapping("/admin/monitor/*"): "/admin/monitor"로 시작하는 요청 처리
+ * - 매퍼 문장별 실행 통계와 느린 쿼리 목록(SlowQueryInterceptor)을 출력합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
+@RequiredArgsConstructor // Lombok: final 필드 생성자 자동 생성(의존성 주입)
+@RequestMapping("/admin/monitor/*") // "/admin/monitor"로 시작하는 요청을 이 컨트롤러에서 처리
+@Controller // 스프링 MVC 컨트롤러 등록
+public class AdMonitorController {
+
+    // 문장별 통계/느린 쿼리 수집 플러그인
+    private final SlowQueryInterceptor slowQueryInterceptor;
+
+    /**
+     * 느린 쿼리 / 문장별 통계 페이지 출력
+     *
+     * GET /admin/monitor/slow_query
+     *
+     * @param model 뷰에 데이터 전달
+     * @throws Exception 예외 발생 시
+     */
+    @GetMapping("/slow_query")
+    public void slow_query(Model model) throws Exception {
+        model.addAttribute("threshold_ms", slowQueryInterceptor.getThresholdMs());
+        model.addAttribute("slow_list", slowQueryInterceptor.getSlowQueries());
+        model.addAttribute("stats_list", slowQueryInterceptor.getStatementStats());
+        // 반환 타입이 void이므로, 요청 경로와 동일한 뷰(/templates/admin/monitor/slow_query.html) 렌더링
+    }
+
+    /**
+     * 통계 초기화
+     *
+     * POST /admin/monitor/slow_query_reset
+     *
+     * @return 느린 쿼리 페이지로 리다이렉트
+     * @throws Exception 예외 발생 시
+     */
+    @PostMapping("/slow_query_reset")
+    public String slow_query_reset() throws Exception {
+        slowQueryInterceptor.reset();
+        log.info("느린 쿼리 통계 초기화");
+        return "redirect:/admin/monitor/slow_query";
+    }
+}
@@ -1,5 +1,117 @@
 package com.docmall.basic.admin.order;
 
+import java.util.List;
+
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+import com.docmall.basic.common.utils.PageMaker;
+import com.docmall.basic.common.utils.SearchCriteria;
+import com.docmall.basic.order.OrderVO;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 주문 관리 웹 요청을 처리하는 컨트롤러 클래스입니다.
+ *
+ * - @RequestMapping("/admin/order/*"): "/admin/order"로 시작하는 요청 처리
+ * - 주문 목록(검색/페이징), 주문 상세, 배송 처리, 주문 취소(재고 되돌리기)
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
+@RequiredArgsConstructor // Lombok: final 필드 생성자 자동 생성(의존성 주입)
+@RequestMapping("/admin/order/*") // "/admin/order"로 시작하는 요청을 이 컨트롤러에서 처리
+@Controller // 스프링 MVC 컨트롤러 등록
 public class AdOrderController {
 
+    // 관리자 주문 서비스
+    private final AdOrderService adOrderService;
+
+    /**
+     * 주문 목록 페이지
+     *
+     * GET /admin/order/order_list
+     *
+     * @param cri 검색 및 페이징 조건
+     * @param model 뷰에 데이터 전달
+     * @throws Exception 예외 발생 시
+     */
+    @GetMapping("/order_list")
+    public void order_list(@ModelAttribute("cri") SearchCriteria cri, Model model) throws Exception {
+        List<OrderVO> order_list = adOrderService.order_list(cri);
+
+        PageMaker pageMaker = new PageMaker();
+        pageMaker.setCri(cri);
+        pageMaker.setTotalCount(adOrderService.getTotalCount(cri));
+
+        model.addAttribute("order_list", order_list);
+        model.addAttribute("pageMaker", pageMaker);
+        // 반환 타입이 void이므로, 요청 경로와 동일한 뷰(/templates/admin/order/order_list.html) 렌더링
+    }
+
+    /**
+     * 주문 상세 페이지
+     *
+     * GET /admin/order/order_detail?ord_code=1
+     *
+     * @param ord_code 주문 번호
+     * @param model 뷰에 데이터 전달
+     * @return 주문 상세 뷰, 없는 주문이면 목록으로 리다이렉트
+     * @throws Exception 예외 발생 시
+     */
+    @GetMapping("/order_detail")
+    public String order_detail(Long ord_code, Model model) throws Exception {
+        OrderVO order = adOrderService.order_detail(ord_code);
+        if(order == null) {
+            return "redirect:/admin/order/order_list";
+        }
+        model.addAttribute("order", order);
+        return "admin/order/order_detail";
+    }
+
+    /**
+     * 배송 처리 (주문 접수 → 배송 중 → 배송 완료)
+     *
+     * POST /admin/order/order_ship
+     *
+     * @param ord_code 주문 번호
+     * @param rttr 리다이렉트 시 메시지 전달
+     * @return 주문 상세 페이지로 리다이렉트
+     * @throws Exception 예외 발생 시
+     */
+    @PostMapping("/order_ship")
+    public String order_ship(Long ord_code, RedirectAttributes rttr) throws Exception {
+        boolean changed = adOrderService.order_status(ord_code, AdOrderService.ORDERED, AdOrderService.SHIPPING)
+                || adOrderService.order_status(ord_code, AdOrderService.SHIPPING, AdOrderService.DELIVERED);
+        rttr.addFlashAttribute("msg", changed ? "success" : "fail");
+        return "redirect:/admin/order/order_detail?ord_code=" + ord_code;
+    }
+
+    /**
+     * 주문 취소 (주문 접수 상태만 가능, 재고 되돌리기)
+     *
+     * POST /admin/order/order_cancel
+     *
+     * @param ord_code 주문 번호
+     * @param rttr 리다이렉트 시 메시지 전달
+     * @return 주문 상세 페이지로 리다이렉트
+     * @throws Exception 예외 발생 시
+     */
+    @PostMapping("/order_cancel")
+    public String order_cancel(Long ord_code, RedirectAttributes rttr) throws Exception {
+        boolean canceled = adOrderService.order_cancel(ord_code);
+        if(canceled) {
+            log.info("주문 취소: {}", ord_code);
+        }
+        rttr.addFlashAttribute("msg", canceled ? "success" : "fail");
+        return "redirect:/admin/order/order_detail?ord_code=" + ord_code;
+    }
 }
@@ -0,0 +1,46 @@
+package com.docmall.basic.admin.order;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Param;
+
+import com.docmall.basic.common.utils.SearchCriteria;
+import com.docmall.basic.order.OrderVO;
+
+/**
+ * 관리자 주문 관리 작업을 담당하는 MyBatis 매퍼 인터페이스입니다.
+ *
+ * - 이 인터페이스의 메서드는 resources/mapper/AdOrderMapper.xml의 SQL과 매핑됩니다.
+ * - 주문 저장/주문 상품 조회/재고 차감은 회원 주문과 같은 OrderMapper를 사용합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+public interface AdOrderMapper {
+
+    /**
+     * 주문 목록 조회(검색/페이징, 최근 주문 순)
+     *
+     * @param cri 검색 및 페이징 조건 (searchType: i=회원 아이디, n=받는 사람, s=주문 상태)
+     * @return 주문 목록
+     */
+    List<OrderVO> order_list(SearchCriteria cri);
+
+    /**
+     * 전체 주문 수 조회(검색 포함)
+     *
+     * @param cri 검색 조건
+     * @return 주문 수
+     */
+    int getTotalCount(SearchCriteria cri);
+
+    /**
+     * 주문 상태 변경 (현재 상태가 from일 때만)
+     *
+     * @param ord_code 주문 번호
+     * @param from 현재 상태
+     * @param to 변경할 상태
+     * @return 변경했으면 1, 이미 다른 상태면 0
+     */
+    int order_status(@Param("ord_code") Long ord_code, @Param("from") String from, @Param("to") String to);
+}
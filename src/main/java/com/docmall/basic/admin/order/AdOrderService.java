@@ -0,0 +1,138 @@
+package com.docmall.basic.admin.order;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.docmall.basic.common.utils.SearchCriteria;
+import com.docmall.basic.order.OrderDetailVO;
+import com.docmall.basic.order.OrderCanceledEvent;
+import com.docmall.basic.order.OrderMapper;
+import com.docmall.basic.order.OrderVO;
+import com.docmall.basic.order.StockReserver;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 주문 관리 비즈니스 로직을 처리하는 서비스 클래스입니다.
+ *
+ * - 주문 목록 조회(검색/페이징), 주문 상세 조회, 주문 상태 변경(배송 중/배송 완료/취소)을 처리합니다.
+ * - 주문 취소 시 상태 변경이 커밋된 뒤 주문 상품 수량만큼 재고를 되돌립니다. (상품 번호 순, 주문 저장과 같은 순서)
+ *   StockReserver는 트랜잭션 밖에서 호출해야 하므로, 상품 행 잠금을 취소 트랜잭션 동안 잡고 있지 않습니다.
+ *   커밋된 뒤 주문 취소 이벤트(OrderCanceledEvent)로 매출 통계에서 차감합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
+@RequiredArgsConstructor // Lombok: final 필드에 대한 생성자 자동 생성
+@Service // 해당 클래스가 서비스 계층(비즈니스 로직)임을 명시
+public class AdOrderService {
+
+    public static final String ORDERED = "ORDERED";
+    public static final String SHIPPING = "SHIPPING";
+    public static final String DELIVERED = "DELIVERED";
+    public static final String CANCELED = "CANCELED";
+
+    private final AdOrderMapper adOrderMapper;
+    private final OrderMapper orderMapper;
+    private final StockReserver stockReserver;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 주문 목록 조회(검색/페이징)
+     *
+     * @param cri 검색 및 페이징 조건
+     * @return 주문 목록
+     */
+    public List<OrderVO> order_list(SearchCriteria cri) {
+        return adOrderMapper.order_list(cri);
+    }
+
+    /**
+     * 전체 주문 수 조회(검색 포함)
+     *
+     * @param cri 검색 조건
+     * @return 주문 수
+     */
+    public int getTotalCount(SearchCriteria cri) {
+        return adOrderMapper.getTotalCount(cri);
+    }
+
+    /**
+     * 주문 상세 조회 (주문 정보 + 주문 상품)
+     *
+     * @param ord_code 주문 번호
+     * @return 주문 정보, 없으면 null
+     */
+    public OrderVO order_detail(Long ord_code) {
+        OrderVO vo = orderMapper.order_info(ord_code);
+        if(vo != null) {
+            vo.setDetails(orderMapper.order_detail_list(ord_code));
+        }
+        return vo;
+    }
+
+    /**
+     * 주문 상태 변경 (ORDERED → SHIPPING → DELIVERED)
+     *
+     * @param ord_code 주문 번호
+     * @param from 현재 상태
+     * @param to 변경할 상태
+     * @return 변경했으면 true
+     */
+    public boolean order_status(Long ord_code, String from, String to) {
+        return adOrderMapper.order_status(ord_code, from, to) == 1;
+    }
+
+    /**
+     * 주문 취소 (주문 접수 상태만 가능) - 취소가 커밋되면 주문 상품 수량만큼 재고를 되돌립니다.
+     *
+     * @param ord_code 주문 번호
+     * @return 취소했으면 true, 이미 배송 중/취소된 주문이면 false
+     */
+    public boolean order_cancel(Long ord_code) {
+        OrderVO canceled = transactionTemplate.execute(status -> {
+            if(adOrderMapper.order_status(ord_code, ORDERED, CANCELED) != 1) {
+                return null;
+            }
+            OrderVO order = order_detail(ord_code);
+            // @TransactionalEventListener는 커밋된 뒤에 실행됨 (롤백되면 실행되지 않음)
+            eventPublisher.publishEvent(new OrderCanceledEvent(order));
+            return order;
+        });
+        if(canceled == null) {
+            return false;
+        }
+        release(canceled.getDetails());
+        return true;
+    }
+
+    // 취소한 주문의 재고 되돌리기 (상품 번호 순, 되돌리기 실패는 로그만 남기고 나머지 계속 진행)
+    private void release(List<OrderDetailVO> details) {
+        List<OrderDetailVO> sorted = details.stream()
+                .sorted(Comparator.comparing(OrderDetailVO::getPro_num))
+                .toList();
+        for(OrderDetailVO detail : sorted) {
+            try {
+                stockReserver.release(detail.getPro_num(), detail.getDt_amount());
+            } catch(RuntimeException ex) {
+                log.error("재고 되돌리기 실패: 상품 {} 수량 {}", detail.getPro_num(), detail.getDt_amount(), ex);
+            }
+        }
+    }
+}
@@ -1,23 +1,41 @@
 package com.docmall.basic.admin.product;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import com.docmall.basic.admin.category.AdCategoryService;
+import com.docmall.basic.admin.category.CategoryVO;
 import com.docmall.basic.common.utils.FileUtils;
+import com.docmall.basic.common.utils.PageMaker;
+import com.docmall.basic.common.utils.SearchCriteria;
 
+import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 관리자 상품 등록/관리 컨트롤러
  *
- * - 상품 등록 폼 출력, 상품 등록 처리(파일 업로드 포함) 기능을 담당합니다.
+ * - 상품 등록 폼 출력, 상품 등록 처리(파일 업로드 포함), 상품 목록(검색/페이징) 기능을 담당합니다.
+ * - 공급사 상품 목록 파일(CSV/JSON) 일괄 등록과 진행 상황 조회 기능을 담당합니다.
+ * - 선택 상품 일괄 변경(가격/할인율/재고/판매 여부)과 일괄 삭제 기능을 담당합니다.
+ * - 상품 수정 폼 출력과 수정 처리(바뀐 컬럼만 저장, 다른 관리자의 수정과 충돌 확인)를 담당합니다.
  * - @Controller: 스프링 MVC 컨트롤러로 등록
  * - @RequestMapping("/admin/product/*"): "/admin/product"로 시작하는 요청 처리
  * - @Slf4j: 로그 출력을 위한 Lombok 어노테이션
@@ -35,6 +53,7 @@ public class AdProductController {
     private final AdProductService adProductService; // 상품 서비스
     private final AdCategoryService adCategoryService; // 카테고리 서비스
     private final FileUtils fileUtils; // 파일 업로드/썸네일 유틸리티
+    private final ProductImportService productImportService; // 상품 일괄 등록 서비스
 
     // application.properties에 정의된 파일 업로드 경로 주입
     @Value("${com.docmall.upload.path}")
@@ -93,4 +112,265 @@ public class AdProductController {
         // 등록 후 상품 목록 페이지로 이동
         return "redirect:/admin/product/pro_list";
     }
+
+    /**
+     * 상품 수정 폼 페이지 출력
+     *
+     * GET /admin/product/pro_edit_form?pro_num=1
+     * - 상품 정보와 1차/2차 카테고리 목록을 모델에 담아 폼에서 사용
+     * - 지금 상품 값을 세션에 스냅샷(ProductEditSnapshot)으로 저장 (수정 저장 시 비교 기준)
+     *   폼에는 스냅샷 토큰(snapshot_token)을 hidden 값으로 넣어, 저장할 때 이 폼의 스냅샷을 찾음
+     * - 없는 상품이면 상품 목록으로 리다이렉트
+     *
+     * @param pro_num 상품 번호
+     * @param cri 목록으로 돌아갈 때 유지할 검색/페이징 조건
+     * @param session 스냅샷을 저장할 세션
+     * @param model 뷰에 데이터 전달
+     * @return 수정 폼 뷰
+     * @throws Exception 예외 발생 시
+     */
+    @GetMapping("/pro_edit_form")
+    public String pro_edit_form(Integer pro_num, @ModelAttribute("cri") SearchCriteria cri,
+            HttpSession session, Model model) throws Exception {
+        ProductVO vo = pro_num == null ? null : adProductService.pro_edit_form(pro_num);
+        if(vo == null) {
+            return "redirect:/admin/product/pro_list";
+        }
+        ProductEditSnapshot snapshot = ProductEditSnapshot.of(vo);
+        ProductEditSnapshot.save(session, snapshot);
+
+        CategoryVO parent = adCategoryService.getParentCategory(vo.getCate_code());
+        model.addAttribute("productVO", vo);
+        model.addAttribute("snapshot_token", snapshot.token());
+        model.addAttribute("cate_list", adCategoryService.getFirstCategoryList());
+        model.addAttribute("cate_prtcode", parent == null ? null : parent.getCate_code());
+        model.addAttribute("sub_cate_list",
+                adCategoryService.getSecondCategoryList(parent == null ? null : parent.getCate_code()));
+        model.addAttribute("listQuery", listQuery(cri));
+        return "admin/product/pro_edit_form";
+    }
+
+    /**
+     * 상품 수정 처리(POST)
+     *
+     * POST /admin/product/pro_edit_ok
+     * - 수정 폼을 열 때의 스냅샷(snapshot_token으로 찾음)과 비교하여 바뀐 컬럼만 저장
+     * - 새 이미지를 올리지 않으면 이미지는 스냅샷 값 그대로 유지
+     * - 다른 관리자가 먼저 수정했거나 스냅샷이 없으면(세션 만료 등) 저장하지 않고
+     *   수정 폼을 다시 열어 최신 값을 보여줌 (msg=conflict / expired)
+     *
+     * @param vo 수정할 상품 정보(ProductVO)
+     * @param snapshot_token 수정 폼의 스냅샷 토큰
+     * @param pro_img_upload 새 이미지 파일(선택)
+     * @param cri 목록으로 돌아갈 때 유지할 검색/페이징 조건
+     * @param session 스냅샷이 저장된 세션
+     * @param rttr 리다이렉트 시 1회성 메시지 전달
+     * @return 상품 목록 또는 수정 폼으로 리다이렉트
+     * @throws Exception 예외 발생 시
+     */
+    @PostMapping("/pro_edit_ok")
+    public String pro_edit_ok(ProductVO vo, @RequestParam(required = false) String snapshot_token,
+            MultipartFile pro_img_upload, SearchCriteria cri, HttpSession session, RedirectAttributes rttr) throws Exception {
+        ProductEditSnapshot snapshot = ProductEditSnapshot.get(session, snapshot_token, vo.getPro_num());
+        if(snapshot == null) {
+            rttr.addFlashAttribute("msg", "expired");
+            return "redirect:/admin/product/pro_edit_form" + listQuery(cri) + "&pro_num=" + vo.getPro_num();
+        }
+
+        if(pro_img_upload != null && !pro_img_upload.isEmpty()) {
+            String dateFolder = fileUtils.getDateFolder();
+            vo.setPro_up_folder(dateFolder);
+            vo.setPro_img(fileUtils.uploadFile(uploadPath, dateFolder, pro_img_upload));
+        } else {
+            vo.setPro_up_folder(snapshot.pro_up_folder());
+            vo.setPro_img(snapshot.pro_img());
+        }
+
+        AdProductService.EditResult result = adProductService.pro_edit_ok(vo, snapshot);
+        ProductEditSnapshot.remove(session, snapshot_token);
+        if(result == AdProductService.EditResult.CONFLICT) {
+            // 다시 열린 폼에서 최신 값으로 새 스냅샷을 만듦
+            rttr.addFlashAttribute("msg", "conflict");
+            return "redirect:/admin/product/pro_edit_form" + listQuery(cri) + "&pro_num=" + vo.getPro_num();
+        }
+
+        rttr.addFlashAttribute("msg", result == AdProductService.EditResult.UPDATED ? "modify" : "unchanged");
+        return "redirect:/admin/product/pro_list" + listQuery(cri);
+    }
+
+    /**
+     * 상품 이미지 출력
+     *
+     * GET /admin/product/image_display?dateFolderName=2025/05/01&fileName=s_xxx.jpg
+     * GET /admin/product/image_display?dateFolderName=2025/05/01&fileName=xxx.jpg&w=300
+     * - 썸네일이 아직 생성 중이면 대체 이미지를 출력
+     * - w(화면에 필요한 가로 크기)를 넘기면 그에 맞는 크기별 변형 이미지를 출력
+     * - 스트리밍 전송, Range(206)/조건부 요청(304) 지원
+     *
+     * @param dateFolderName 날짜 폴더명
+     * @param fileName 파일명
+     * @param w 화면에 필요한 가로 크기(px, 선택)
+     * @param accept 브라우저 Accept 헤더 (WebP 지원 여부 판단)
+     * @return 이미지 데이터
+     * @throws Exception 예외 발생 시
+     */
+    @GetMapping("/image_display")
+    public ResponseEntity<Resource> image_display(String dateFolderName, String fileName,
+            @RequestParam(required = false) Integer w,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) throws Exception {
+        if(w == null || fileName.startsWith("s_")) {
+            return fileUtils.getImage(uploadPath, dateFolderName, fileName);
+        }
+        boolean acceptWebp = accept != null && accept.contains("image/webp");
+        return fileUtils.getImage(uploadPath, dateFolderName, fileName, w, acceptWebp);
+    }
+
+    /**
+     * 상품 목록 페이지 출력(검색/페이징)
+     *
+     * GET /admin/product/pro_list
+     * - offset 모드(기본): page 파라미터로 페이지 번호 이동, 전체 개수(캐시)로 페이지 블럭 계산
+     * - has-more 모드(mode=more): 페이지 번호 이동은 같지만 count(*) 없이 다음 페이지만 판단
+     * - 커서 모드(mode=cursor 또는 cursor 파라미터 존재): 마지막으로 본 행 다음부터 조회,
+     *   깊은 페이지도 첫 페이지와 같은 비용으로 조회되며 이전/다음 링크만 출력
+     *
+     * @param cri 검색/페이징 조건(SearchCriteria)
+     * @param model 뷰에 데이터 전달
+     * @throws Exception 예외 발생 시
+     */
+    @GetMapping("/pro_list")
+    public void pro_list(@ModelAttribute("cri") SearchCriteria cri, Model model) throws Exception {
+
+        PageMaker pageMaker = new PageMaker();
+        pageMaker.setCri(cri);
+
+        List<ProductVO> pro_list;
+        if(cri.isCursorMode()) {
+            // 커서 페이징: PageMaker에 이전/다음 커서가 설정됨
+            pro_list = adProductService.pro_list_cursor(cri, pageMaker);
+        } else if(cri.isMoreMode()) {
+            // has-more 페이징: 전체 개수 없이 다음 페이지 존재 여부만 확인
+            pro_list = adProductService.pro_list_more(cri, pageMaker);
+        } else {
+            // offset 페이징: 전체 개수로 페이지 블럭 계산
+            pro_list = adProductService.pro_list(cri);
+            pageMaker.setTotalCount(adProductService.getTotalCount(cri));
+        }
+
+        model.addAttribute("pro_list", pro_list);
+        model.addAttribute("pageMaker", pageMaker);
+        // 반환 타입이 void이므로, 요청 경로와 동일한 뷰(/templates/admin/product/pro_list.html) 렌더링
+    }
+
+    /**
+     * 상품 일괄 등록 페이지 출력
+     *
+     * GET /admin/product/pro_import
+     * - 최근 일괄 등록 작업 목록을 모델에 담아 출력
+     * - jobId가 있으면 해당 작업의 진행 상황을 화면에서 주기적으로 조회
+     *
+     * @param jobId 진행 상황을 볼 작업 번호(선택)
+     * @param model 뷰에 데이터 전달
+     * @throws Exception 예외 발생 시
+     */
+    @GetMapping("/pro_import")
+    public void pro_import(String jobId, Model model) throws Exception {
+        model.addAttribute("jobId", jobId);
+        model.addAttribute("job_list", productImportService.getJobs());
+        // 반환 타입이 void이므로, 요청 경로와 동일한 뷰(/templates/admin/product/pro_import.html) 렌더링
+    }
+
+    /**
+     * 상품 일괄 등록 처리(POST)
+     *
+     * POST /admin/product/pro_import
+     * - 업로드된 CSV/JSON 파일을 백그라운드 작업으로 등록하고, 진행 상황 화면으로 이동
+     *
+     * @param import_file 업로드된 상품 목록 파일
+     * @param rttr 리다이렉트 시 1회성 메시지 전달용
+     * @return 일괄 등록 페이지로 리다이렉트
+     * @throws Exception 예외 발생 시
+     */
+    @PostMapping("/pro_import")
+    public String pro_import(MultipartFile import_file, RedirectAttributes rttr) throws Exception {
+        if(import_file == null || import_file.isEmpty()) {
+            rttr.addFlashAttribute("msg", "파일을 선택하세요.");
+            return "redirect:/admin/product/pro_import";
+        }
+
+        try {
+            ProductImportJob job = productImportService.start(import_file);
+            rttr.addAttribute("jobId", job.getJobId());
+        } catch(RejectedExecutionException ex) {
+            rttr.addFlashAttribute("msg", "진행 중인 일괄 등록 작업이 많습니다. 잠시 후 다시 시도하세요.");
+        } catch(IOException ex) {
+            rttr.addFlashAttribute("msg", ex.getMessage());
+        }
+        return "redirect:/admin/product/pro_import";
+    }
+
+    /**
+     * 상품 일괄 등록 진행 상황 조회(JSON)
+     *
+     * GET /admin/product/pro_import_status?jobId=xxx
+     * - 읽은 행/등록 행/거부 행 수, 상태, 거부 사유 목록 반환
+     *
+     * @param jobId 작업 번호
+     * @return 작업 상태 (없으면 404)
+     * @throws Exception 예외 발생 시
+     */
+    @GetMapping("/pro_import_status")
+    public ResponseEntity<ProductImportJob> pro_import_status(String jobId) throws Exception {
+        ProductImportJob job = productImportService.getJob(jobId);
+        if(job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(job);
+    }
+
+    /**
+     * 선택 상품 일괄 변경(JSON)
+     *
+     * POST /admin/product/pro_bulk_update
+     * - 폼 파라미터: pro_num_arr(상품 번호 여러 개), pro_price, pro_discount, pro_amount, pro_buy
+     * - 값을 보낸 항목만 변경하며, 선택한 상품 전체를 한 트랜잭션으로 처리
+     *
+     * @param pro_num_arr 변경할 상품 번호 배열
+     * @param dto 변경 값
+     * @return 변경된 상품 수 (변경 값이 잘못되었으면 400과 사유)
+     * @throws Exception 예외 발생 시
+     */
+    @PostMapping("/pro_bulk_update")
+    public ResponseEntity<String> pro_bulk_update(@RequestParam(required = false) int[] pro_num_arr, ProductBulkDTO dto) throws Exception {
+        try {
+            return ResponseEntity.ok(String.valueOf(adProductService.pro_bulk_update(pro_num_arr, dto)));
+        } catch(IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(ex.getMessage());
+        }
+    }
+
+    /**
+     * 선택 상품 일괄 삭제(JSON)
+     *
+     * POST /admin/product/pro_bulk_delete
+     * - 선택한 상품 전체를 한 트랜잭션으로 삭제하고, 이미지 파일은 백그라운드에서 삭제
+     *
+     * @param pro_num_arr 삭제할 상품 번호 배열
+     * @return 삭제된 상품 수
+     * @throws Exception 예외 발생 시
+     */
+    @PostMapping("/pro_bulk_delete")
+    public ResponseEntity<String> pro_bulk_delete(@RequestParam(required = false) int[] pro_num_arr) throws Exception {
+        return ResponseEntity.ok(String.valueOf(adProductService.pro_sel_delete_2(pro_num_arr)));
+    }
+
+    // 돌아갈 상품 목록의 검색/페이징 조건 (?page=...&searchType=... 또는 커서 조건)
+    private static String listQuery(SearchCriteria cri) {
+        PageMaker pageMaker = new PageMaker();
+        pageMaker.setCri(cri);
+        if(cri.isCursorMode()) {
+            return pageMaker.makeCursor(cri.getCursor(), cri.getDirection());
+        }
+        return pageMaker.makeSearch(cri.getPage());
+    }
 }
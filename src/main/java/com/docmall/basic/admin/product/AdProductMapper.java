@@ -1,7 +1,12 @@
 package com.docmall.basic.admin.product;
 
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
+
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 import com.docmall.basic.common.utils.SearchCriteria;
 
@@ -24,6 +29,14 @@ public interface AdProductMapper {
      */
     void pro_insert(ProductVO vo);
 
+    /**
+     * 상품 일괄 등록(multi-row INSERT)
+     * - insert ... values (...), (...), ... 한 문장으로 여러 행을 저장합니다.
+     *
+     * @param list 등록할 상품 목록
+     */
+    void pro_insert_batch(@Param("list") List<ProductVO> list);
+
     /**
      * 상품 목록 조회(검색/페이징)
      *
@@ -32,6 +45,14 @@ public interface AdProductMapper {
      */
     List<ProductVO> pro_list(SearchCriteria cri);
 
+    /**
+     * 상품 목록 조회(검색/커서 페이징)
+     *
+     * @param cri 검색 조건 및 커서(SearchCriteria)
+     * @return 상품 목록(List<ProductVO>), 최대 perPageNum + 1건
+     */
+    List<ProductVO> pro_list_cursor(SearchCriteria cri);
+
     /**
      * 전체 상품 개수 조회(검색 포함)
      *
@@ -40,19 +61,49 @@ public interface AdProductMapper {
      */
     int getTotalCount(SearchCriteria cri);
 
+    /**
+     * 검색 색인 생성용 전체 상품 조회 (번호, 상품명, 제조사, 상세설명)
+     * - 결과를 List로 모으지 않고 ResultHandler로 한 건씩 전달합니다.
+     *
+     * @param handler 조회된 상품을 한 건씩 처리할 핸들러
+     */
+    void pro_search_source(ResultHandler<ProductVO> handler);
+
     /**
      * 선택 상품 일괄 삭제(상품 번호 배열)
+     * - in (...) 목록 크기를 제한하기 위해 서비스에서 청크(com.docmall.product.bulk.chunk-size) 단위로 나누어 호출합니다.
      *
-     * @param pro_num_arr 삭제할 상품 번호 배열
+     * @param pro_num_arr 삭제할 상품 번호 배열 (청크)
+     * @return 삭제된 행 수
      */
-    void pro_sel_delete_2(int[] pro_num_arr);
+    int pro_sel_delete_2(int[] pro_num_arr);
 
     /**
      * 선택 상품 일괄 삭제(이름 + 번호 배열)
      *
-     * @param map pro_name(상품명), pro_num_arr(상품 번호 배열) 포함
+     * @param map pro_name(상품명), pro_num_arr(상품 번호 배열, 청크) 포함
+     * @return 삭제된 행 수
+     */
+    int pro_sel_delete_3(HashMap<String, Object> map);
+
+    /**
+     * 삭제할 상품의 이미지 파일 정보 조회 (번호, 날짜 폴더, 이미지 파일명)
+     * - 삭제와 같은 트랜잭션에서 행을 잠그고 조회하여, 실제로 삭제되는 상품의 파일만 정리합니다.
+     *
+     * @param pro_num_arr 상품 번호 배열 (청크)
+     * @param pro_name 상품명 (null이면 조건 없음)
+     * @return 상품 목록 (pro_num, pro_up_folder, pro_img)
+     */
+    List<ProductVO> pro_files(@Param("pro_num_arr") int[] pro_num_arr, @Param("pro_name") String pro_name);
+
+    /**
+     * 선택 상품 일괄 변경 (값이 있는 항목만 변경)
+     *
+     * @param dto 변경 값 (가격, 할인율, 재고, 판매 여부)
+     * @param pro_num_arr 상품 번호 배열 (청크)
+     * @return 변경된 행 수
      */
-    void pro_sel_delete_3(HashMap<String, Object> map);
+    int pro_bulk_update(@Param("dto") ProductBulkDTO dto, @Param("pro_num_arr") int[] pro_num_arr);
 
     /**
      * 상품 상세 조회(수정 폼용)
@@ -63,11 +114,17 @@ public interface AdProductMapper {
     ProductVO pro_edit_form(Integer pro_num);
 
     /**
-     * 상품 정보 수정(UPDATE)
+     * 상품 정보 수정(UPDATE, 바뀐 컬럼만)
+     * - pro_updatedate가 old_updatedate와 같을 때만 수정합니다. (낙관적 잠금)
      *
      * @param vo 수정할 상품 정보(ProductVO)
+     * @param dirty 바뀐 컬럼 이름
+     * @param old_updatedate 수정 폼을 열 때의 수정일
+     * @param old_amount 수정 폼을 열 때의 재고 (재고를 바꿀 때만 비교)
+     * @return 수정된 행 수 (0이면 다른 관리자가 먼저 수정했거나 삭제된 상품)
      */
-    void pro_edit_ok(ProductVO vo);
+    int pro_edit_ok(@Param("vo") ProductVO vo, @Param("dirty") Set<String> dirty,
+            @Param("old_updatedate") Date old_updatedate, @Param("old_amount") int old_amount);
 
     /**
      * 상품 단건 삭제(번호로)
@@ -1,13 +1,23 @@
 package com.docmall.basic.admin.product;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.docmall.basic.common.utils.PageMaker;
 import com.docmall.basic.common.utils.SearchCriteria;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * 상품 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
@@ -16,10 +26,18 @@ import lombok.RequiredArgsConstructor;
  * - 상품 등록, 목록 조회(검색/페이징), 수정, 삭제 등 핵심 로직을 구현합니다.
  * - @Service 어노테이션을 통해 스프링 빈으로 등록됩니다.
  * - @RequiredArgsConstructor는 final 필드에 대한 생성자를 자동으로 생성합니다.
+ * - 선택 상품 일괄 변경/삭제는 상품 번호를 청크(com.docmall.product.bulk.chunk-size)로 나누어
+ *   크기가 제한된 in (...) 문장으로 실행하며, 요청 1번을 한 트랜잭션으로 처리하고 변경된 행 수를 반환합니다.
+ *   삭제된 상품의 이미지 파일은 커밋 후 ProductFileCleaner가 백그라운드에서 지웁니다.
+ * - 검색 색인을 사용하는 목록 조회는 후보 번호 전체가 아니라 현재 페이지 구간만 in (...)으로 조회하고,
+ *   전체 개수는 후보 수로 계산합니다.
+ * - 상품 수정은 수정 폼을 열 때의 스냅샷(ProductEditSnapshot)과 비교하여 바뀐 컬럼만 UPDATE 하고,
+ *   pro_updatedate로 다른 관리자의 수정과 충돌하는지 확인합니다. (낙관적 잠금)
  *
  * @author main
  * @since 2025.05.01
  */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
 @RequiredArgsConstructor // Lombok: final 필드에 대한 생성자 자동 생성
 @Service // 해당 클래스가 서비스 계층(비즈니스 로직)임을 명시
 public class AdProductService {
@@ -27,6 +45,32 @@ public class AdProductService {
     // 상품 관련 DB 작업을 담당하는 MyBatis 매퍼
     private final AdProductMapper adProductMapper;
 
+    // 검색 조건별 전체 상품 개수 캐시
+    private final ProductCountCache productCountCache;
+
+    // 상품명/제조사/상세설명 검색 색인
+    private final ProductSearchService productSearchService;
+
+    // 삭제된 상품 이미지 파일 정리(백그라운드)
+    private final ProductFileCleaner productFileCleaner;
+
+    private final PlatformTransactionManager transactionManager;
+
+    // 일괄 변경/삭제 시 in (...) 목록 1개에 넣는 최대 상품 수
+    @Value("${com.docmall.product.bulk.chunk-size:1000}")
+    private int bulkChunkSize;
+
+    // 등록일 정렬 검색에서 in (...)으로 넘길 최대 검색 색인 후보 수 (넘으면 LIKE 검색)
+    @Value("${com.docmall.product.search.max-candidates:1000}")
+    private int maxSearchCandidates;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
     /**
      * 상품 등록(INSERT)
      *
@@ -34,6 +78,8 @@ public class AdProductService {
      */
     public void pro_insert(ProductVO vo) {
         adProductMapper.pro_insert(vo);
+        productCountCache.invalidate();
+        productSearchService.index(vo);
     }
 
     /**
@@ -43,9 +89,80 @@ public class AdProductService {
      * @return 상품 목록(List<ProductVO>)
      */
     public List<ProductVO> pro_list(SearchCriteria cri) {
+        if(applySearchIndex(cri)) {
+            applyOffsetPage(cri);
+        }
         return adProductMapper.pro_list(cri);
     }
 
+    /**
+     * 상품 목록 조회(검색/has-more 페이징)
+     *
+     * - perPageNum + 1건을 조회하여 다음 페이지 존재 여부를 판단하므로 count(*)가 필요 없습니다.
+     *
+     * @param cri 검색 및 페이징 조건(SearchCriteria, mode=more)
+     * @param pageMaker 페이지 블럭을 설정할 PageMaker
+     * @return 상품 목록(List<ProductVO>), 최대 perPageNum건
+     */
+    public List<ProductVO> pro_list_more(SearchCriteria cri, PageMaker pageMaker) {
+        if(applySearchIndex(cri)) {
+            applyOffsetPage(cri);
+        }
+        List<ProductVO> list = new ArrayList<>(adProductMapper.pro_list(cri));
+
+        boolean hasMore = list.size() > cri.getPerPageNum();
+        if(hasMore) {
+            list.remove(list.size() - 1);
+        }
+
+        pageMaker.setCri(cri);
+        pageMaker.setHasMore(hasMore);
+
+        return list;
+    }
+
+    /**
+     * 상품 목록 조회(검색/커서 페이징)
+     *
+     * - perPageNum + 1건을 조회하여 반대편 페이지 존재 여부를 count(*) 없이 판단합니다.
+     * - prev 방향은 오름차순으로 조회되므로 화면 순서(역순)로 뒤집어서 반환합니다.
+     * - 조회 결과의 첫/마지막 행으로 이전/다음 커서를 계산하여 PageMaker에 설정합니다.
+     *
+     * @param cri 검색 조건 및 커서(SearchCriteria)
+     * @param pageMaker 이전/다음 커서를 설정할 PageMaker
+     * @return 상품 목록(List<ProductVO>), 최대 perPageNum건
+     */
+    public List<ProductVO> pro_list_cursor(SearchCriteria cri, PageMaker pageMaker) {
+        if(applySearchIndex(cri)) {
+            applyCursorPage(cri);
+        }
+        List<ProductVO> list = new ArrayList<>(adProductMapper.pro_list_cursor(cri));
+
+        // 1건 더 조회되었다면 진행 방향으로 페이지가 더 있음
+        boolean hasMore = list.size() > cri.getPerPageNum();
+        if(hasMore) {
+            list.remove(list.size() - 1);
+        }
+
+        if(cri.isPrevDirection()) {
+            Collections.reverse(list);
+        }
+
+        String firstCursor = null;
+        String lastCursor = null;
+        if(!list.isEmpty()) {
+            ProductVO first = list.get(0);
+            ProductVO last = list.get(list.size() - 1);
+            firstCursor = cri.toCursor(first.getPro_num(), first.getPro_date());
+            lastCursor = cri.toCursor(last.getPro_num(), last.getPro_date());
+        }
+
+        pageMaker.setCri(cri);
+        pageMaker.setCursorPage(firstCursor, lastCursor, hasMore);
+
+        return list;
+    }
+
     /**
      * 전체 상품 개수 조회(검색 포함)
      *
@@ -53,16 +170,22 @@ public class AdProductService {
      * @return 전체 상품 개수
      */
     public int getTotalCount(SearchCriteria cri) {
-        return adProductMapper.getTotalCount(cri);
+        // 검색 색인을 사용하면 후보 개수가 곧 전체 개수
+        if(applySearchIndex(cri)) {
+            return cri.getCandidateNums().length;
+        }
+        // 검색 조건별로 캐시된 개수 사용 (TTL 만료 또는 상품 변경 시에만 count(*) 실행)
+        return productCountCache.get(cri, adProductMapper::getTotalCount);
     }
 
     /**
      * 선택 상품 일괄 삭제(상품 번호 배열)
      *
      * @param pro_num_arr 삭제할 상품 번호 배열
+     * @return 삭제된 상품 수
      */
-    public void pro_sel_delete_2(int[] pro_num_arr) {
-        adProductMapper.pro_sel_delete_2(pro_num_arr);
+    public int pro_sel_delete_2(int[] pro_num_arr) {
+        return pro_bulk_delete(pro_num_arr, null);
     }
 
     /**
@@ -70,14 +193,78 @@ public class AdProductService {
      *
      * @param check 삭제할 상품 번호 배열
      * @param pro_name 상품명
+     * @return 삭제된 상품 수
+     */
+    public int pro_sel_delete_3(int[] check, String pro_name) {
+        return pro_bulk_delete(check, pro_name);
+    }
+
+    /**
+     * 선택 상품 일괄 변경 (가격, 할인율, 재고, 판매 여부 중 값이 있는 항목만)
+     *
+     * @param pro_num_arr 변경할 상품 번호 배열
+     * @param dto 변경 값
+     * @return 변경된 상품 수
+     * @throws IllegalArgumentException 변경 값이 없거나 범위를 벗어났을 때
      */
-    public void pro_sel_delete_3(int[] check, String pro_name) {
-        // 두 파라미터를 Map으로 묶어서 매퍼에 전달
-        HashMap<String, Object> map = new HashMap<>();
-        map.put("pro_num_arr", check);
-        map.put("pro_name", pro_name);
+    public int pro_bulk_update(int[] pro_num_arr, ProductBulkDTO dto) {
+        validate(dto);
+        int[] nums = normalize(pro_num_arr);
+        if(nums.length == 0) {
+            return 0;
+        }
 
-        adProductMapper.pro_sel_delete_3(map);
+        Integer updated = transactionTemplate.execute(status -> {
+            int count = 0;
+            for(int from = 0; from < nums.length; from += bulkChunkSize) {
+                count += adProductMapper.pro_bulk_update(dto, Arrays.copyOfRange(nums, from, Math.min(from + bulkChunkSize, nums.length)));
+            }
+            return count;
+        });
+        log.info("상품 일괄 변경: {}개 요청, {}개 변경 {}", nums.length, updated, dto);
+        return updated;
+    }
+
+    /**
+     * 선택 상품 일괄 삭제
+     *
+     * - 청크마다 이미지 파일 정보를 조회(행 잠금)한 뒤 삭제하며, 전체를 한 트랜잭션으로 처리합니다.
+     * - 커밋된 뒤 개수 캐시/검색 색인을 갱신하고, 이미지 파일 삭제를 ProductFileCleaner에 넘깁니다.
+     *
+     * @param pro_num_arr 삭제할 상품 번호 배열
+     * @param pro_name 상품명 (null이 아니면 이름도 일치하는 상품만 삭제)
+     * @return 삭제된 상품 수
+     */
+    public int pro_bulk_delete(int[] pro_num_arr, String pro_name) {
+        int[] nums = normalize(pro_num_arr);
+        if(nums.length == 0) {
+            return 0;
+        }
+
+        List<ProductVO> deleted = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            for(int from = 0; from < nums.length; from += bulkChunkSize) {
+                int[] chunk = Arrays.copyOfRange(nums, from, Math.min(from + bulkChunkSize, nums.length));
+                deleted.addAll(adProductMapper.pro_files(chunk, pro_name));
+                if(pro_name == null) {
+                    adProductMapper.pro_sel_delete_2(chunk);
+                } else {
+                    // 두 파라미터를 Map으로 묶어서 매퍼에 전달
+                    HashMap<String, Object> map = new HashMap<>();
+                    map.put("pro_num_arr", chunk);
+                    map.put("pro_name", pro_name);
+                    adProductMapper.pro_sel_delete_3(map);
+                }
+            }
+        });
+
+        if(!deleted.isEmpty()) {
+            productCountCache.invalidate();
+            productSearchService.remove(deleted.stream().mapToInt(ProductVO::getPro_num).toArray());
+            productFileCleaner.delete(deleted);
+        }
+        log.info("상품 일괄 삭제: {}개 요청, {}개 삭제", nums.length, deleted.size());
+        return deleted.size();
     }
 
     /**
@@ -90,13 +277,58 @@ public class AdProductService {
         return adProductMapper.pro_edit_form(pro_num);
     }
 
+    /** 상품 수정 결과 */
+    public enum EditResult {
+        /** 바뀐 컬럼을 저장함 */
+        UPDATED,
+        /** 바뀐 값이 없어 저장하지 않음 */
+        UNCHANGED,
+        /** 수정 폼을 연 뒤 다른 관리자가 먼저 수정했거나(또는 주문으로 재고가 바뀜) 삭제된 상품 */
+        CONFLICT
+    }
+
     /**
-     * 상품 정보 수정(UPDATE)
+     * 상품 정보 수정(UPDATE, 바뀐 컬럼만)
+     *
+     * - 수정 폼을 열 때의 스냅샷과 비교하여 바뀐 컬럼만 저장합니다.
+     * - 스냅샷의 pro_updatedate가 현재 값과 다르면 저장하지 않고 CONFLICT를 반환합니다. (낙관적 잠금)
+     * - 새 pro_updatedate는 일괄 변경과 같은 SQL(next_updatedate)로 이전 값보다 최소 1초 뒤로 정합니다.
+     *   (DB datetime은 초 단위이므로 같은 초에 두 번 바뀌어도 충돌로 감지되도록)
+     * - 이미지가 바뀌었으면 저장 후 이전 이미지 파일을, 저장하지 못했으면 새로 올린 이미지 파일을 지웁니다.
+     * - 검색 색인은 상품명/제조사/상세설명이 바뀐 경우에만 다시 만듭니다.
      *
      * @param vo 수정할 상품 정보(ProductVO)
+     * @param snapshot 수정 폼을 열 때의 상품 값
+     * @return 수정 결과
      */
-    public void pro_edit_ok(ProductVO vo) {
-        adProductMapper.pro_edit_ok(vo);
+    public EditResult pro_edit_ok(ProductVO vo, ProductEditSnapshot snapshot) {
+        Set<String> dirty = snapshot.dirtyFields(vo);
+        if(dirty.isEmpty()) {
+            return EditResult.UNCHANGED;
+        }
+
+        int updated = adProductMapper.pro_edit_ok(vo, dirty, snapshot.pro_updatedate(), snapshot.pro_amount());
+        boolean imageChanged = dirty.contains("pro_img");
+        if(updated == 0) {
+            if(imageChanged) {
+                productFileCleaner.delete(List.of(vo));
+            }
+            log.info("상품 수정 충돌: {} {}", vo.getPro_num(), dirty);
+            return EditResult.CONFLICT;
+        }
+
+        productCountCache.invalidate();
+        if(dirty.contains("pro_name") || dirty.contains("pro_publisher") || dirty.contains("pro_content")) {
+            productSearchService.index(vo);
+        }
+        if(imageChanged) {
+            ProductVO old = new ProductVO();
+            old.setPro_up_folder(snapshot.pro_up_folder());
+            old.setPro_img(snapshot.pro_img());
+            productFileCleaner.delete(List.of(old));
+        }
+        log.info("상품 수정: {} {}", vo.getPro_num(), dirty);
+        return EditResult.UPDATED;
     }
 
     /**
@@ -106,6 +338,106 @@ public class AdProductService {
      */
     public void pro_delete(Integer pro_num) {
         adProductMapper.pro_delete(pro_num);
+        productCountCache.invalidate();
+        productSearchService.remove(pro_num);
+    }
+
+    /**
+     * 상품명/제조사 검색이면 검색 색인으로 pro_num 후보를 구해 검색 조건에 적용합니다.
+     * - 이미 적용된 경우(목록 조회 후 개수 조회 등) 다시 계산하지 않습니다.
+     *
+     * @param cri 검색 조건
+     * @return 검색 색인을 사용했으면 true
+     */
+    private boolean applySearchIndex(SearchCriteria cri) {
+        if(cri.getCandidateNums() != null) {
+            return true;
+        }
+        if(!productSearchService.supports(cri)) {
+            return false;
+        }
+        cri.applyCandidateNums(productSearchService.search(cri.getSearchType(), cri.getKeyword()));
+        return true;
+    }
+
+    /**
+     * offset 페이징: 검색 색인 후보(상품 번호 역순) 중 현재 페이지 구간만 SQL에 넘깁니다.
+     * - 번호 정렬은 후보 순서가 곧 화면 순서이므로 [pageStart, pageStart + limitSize) 구간만 잘라 offset 없이 조회합니다.
+     * - 등록일 정렬은 후보만으로 순서를 알 수 없으므로 후보가 max-candidates개 이하일 때만 in (...)으로,
+     *   그보다 많으면 LIKE 검색으로 조회합니다.
+     */
+    private void applyOffsetPage(SearchCriteria cri) {
+        int[] nums = cri.getCandidateNums();
+        if(SearchCriteria.SORT_DATE.equals(cri.getSortType())) {
+            applyDateSortCandidates(cri);
+            return;
+        }
+        int from = Math.min(cri.getPageStart(), nums.length);
+        int to = Math.min(from + cri.getLimitSize(), nums.length);
+        cri.applyCandidatePage(Arrays.copyOfRange(nums, from, to), true);
+    }
+
+    /**
+     * 커서 페이징: 검색 색인 후보(상품 번호 역순) 중 커서 다음 fetchSize개만 SQL에 넘깁니다.
+     * - next: 커서보다 작은 번호 중 앞에서부터, prev: 커서보다 큰 번호 중 커서에 가까운 것부터
+     * - 등록일 정렬은 applyOffsetPage와 같이 처리합니다.
+     */
+    private void applyCursorPage(SearchCriteria cri) {
+        int[] nums = cri.getCandidateNums();
+        if(SearchCriteria.SORT_DATE.equals(cri.getSortType())) {
+            applyDateSortCandidates(cri);
+            return;
+        }
+        Integer cursorNum = cri.getCursorNum();
+        int fetchSize = cri.getFetchSize();
+        if(cursorNum == null) {
+            cri.applyCandidatePage(Arrays.copyOf(nums, Math.min(fetchSize, nums.length)), false);
+            return;
+        }
+        // 내림차순 배열에서 커서 이하인 첫 위치
+        int split = 0;
+        while(split < nums.length && nums[split] > cursorNum) {
+            split++;
+        }
+        if(cri.isPrevDirection()) {
+            cri.applyCandidatePage(Arrays.copyOfRange(nums, Math.max(0, split - fetchSize), split), false);
+        } else {
+            int from = split < nums.length && nums[split] == cursorNum ? split + 1 : split;
+            cri.applyCandidatePage(Arrays.copyOfRange(nums, from, Math.min(from + fetchSize, nums.length)), false);
+        }
+    }
+
+    // 등록일 정렬: 후보가 적으면 전체를 in (...)으로, 많으면 LIKE 검색 (in 목록 크기 제한)
+    private void applyDateSortCandidates(SearchCriteria cri) {
+        int[] nums = cri.getCandidateNums();
+        cri.applyCandidatePage(nums.length <= maxSearchCandidates ? nums : null, false);
+    }
+
+    // 중복 제거 + 번호 순 정렬 (동시에 실행되는 일괄 작업끼리 같은 순서로 행을 잠금)
+    private static int[] normalize(int[] pro_num_arr) {
+        if(pro_num_arr == null) {
+            return new int[0];
+        }
+        return Arrays.stream(pro_num_arr).distinct().sorted().toArray();
+    }
+
+    // 일괄 변경 값 확인
+    private static void validate(ProductBulkDTO dto) {
+        if(dto == null || !dto.hasChanges()) {
+            throw new IllegalArgumentException("변경할 항목이 없습니다.");
+        }
+        if(dto.getPro_price() != null && dto.getPro_price() < 0) {
+            throw new IllegalArgumentException("가격은 0 이상이어야 합니다: " + dto.getPro_price());
+        }
+        if(dto.getPro_discount() != null && (dto.getPro_discount() < 0 || dto.getPro_discount() > 100)) {
+            throw new IllegalArgumentException("할인율은 0~100 사이여야 합니다: " + dto.getPro_discount());
+        }
+        if(dto.getPro_amount() != null && dto.getPro_amount() < 0) {
+            throw new IllegalArgumentException("재고는 0 이상이어야 합니다: " + dto.getPro_amount());
+        }
+        if(dto.getPro_buy() != null && !dto.getPro_buy().equals("Y") && !dto.getPro_buy().equals("N")) {
+            throw new IllegalArgumentException("판매 여부는 Y 또는 N이어야 합니다: " + dto.getPro_buy());
+        }
     }
 
     // TODO: 필요에 따라 추가적인 상품 관련 비즈니스 로직을 구현하세요.
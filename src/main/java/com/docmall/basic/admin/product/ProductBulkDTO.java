@@ -0,0 +1,37 @@
+package com.docmall.basic.admin.product;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 선택 상품 일괄 변경 값을 담는 DTO 클래스입니다.
+ *
+ * - 값이 있는(null이 아닌) 항목만 변경합니다. (가격, 할인율, 재고, 판매 여부)
+ * - 모든 항목이 비어 있으면 변경하지 않습니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Getter // Lombok: 모든 필드의 getter 메서드 자동 생성
+@Setter // Lombok: 모든 필드의 setter 메서드 자동 생성
+@ToString // Lombok: toString() 메서드 자동 생성
+public class ProductBulkDTO {
+
+    /** 변경할 가격 (0 이상) */
+    private Integer pro_price;
+
+    /** 변경할 할인율 (0~100) */
+    private Integer pro_discount;
+
+    /** 변경할 재고 (0 이상) */
+    private Integer pro_amount;
+
+    /** 변경할 판매 여부 ('Y', 'N') */
+    private String pro_buy;
+
+    /** 변경할 항목이 하나라도 있는지 여부 */
+    public boolean hasChanges() {
+        return pro_price != null || pro_discount != null || pro_amount != null || pro_buy != null;
+    }
+}
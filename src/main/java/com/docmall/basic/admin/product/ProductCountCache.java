@@ -0,0 +1,109 @@
+package com.docmall.basic.admin.product;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.docmall.basic.common.utils.SearchCriteria;
+
+/**
+ * 상품 목록의 전체 개수(count(*))를 검색 조건별로 캐시하는 클래스입니다.
+ *
+ * - 키: 정규화된 검색 조건(searchType + keyword). 페이지 번호와는 무관합니다.
+ * - TTL이 지나면 다시 조회하며, 상품 등록/수정/삭제 시 전체 무효화됩니다.
+ * - 무효화 세대(generation)를 두어, 무효화 직전에 시작된 조회 결과가
+ *   무효화 이후에 캐시에 다시 들어가지 않도록 합니다.
+ *   (저장한 뒤 세대를 다시 확인하고, 바뀌었으면 넣은 항목을 제거)
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Component
+public class ProductCountCache {
+
+    // 캐시 항목: 개수 + 만료 시각(nanoTime 기준)
+    private record Entry(int count, long expireAt) {
+    }
+
+    private final ConcurrentHashMap<String, Entry> cache = new ConcurrentHashMap<>();
+
+    // 무효화될 때마다 증가
+    private final AtomicLong generation = new AtomicLong();
+
+    // 캐시 유지 시간(초)
+    @Value("${com.docmall.product.count-cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    // 최대 캐시 항목 수 (초과 시 만료 항목 정리 후, 그래도 넘치면 전체 비움)
+    @Value("${com.docmall.product.count-cache.max-size:1000}")
+    private int maxSize;
+
+    /**
+     * 캐시된 개수를 반환하고, 없거나 만료되었으면 loader로 조회 후 저장합니다.
+     *
+     * @param cri 검색 조건
+     * @param loader 실제 count(*) 조회 함수
+     * @return 전체 개수
+     */
+    public int get(SearchCriteria cri, ToIntFunction<SearchCriteria> loader) {
+        String key = key(cri);
+        long now = System.nanoTime();
+
+        Entry entry = cache.get(key);
+        if(entry != null && entry.expireAt() - now > 0) {
+            return entry.count();
+        }
+
+        long gen = generation.get();
+        int count = loader.applyAsInt(cri);
+
+        // 조회 도중 무효화되었다면 결과를 캐시에 넣지 않음
+        if(gen != generation.get()) {
+            return count;
+        }
+        if(cache.size() >= maxSize) {
+            evict(now);
+        }
+        Entry loaded = new Entry(count, now + ttlSeconds * 1_000_000_000L);
+        cache.put(key, loaded);
+        // 확인과 저장 사이에 무효화되었으면 넣은 항목을 다시 뺌 (무효화가 비운 뒤에 넣었을 수 있음)
+        if(gen != generation.get()) {
+            cache.remove(key, loaded);
+        }
+        return count;
+    }
+
+    /**
+     * 상품 데이터 변경 시 전체 캐시를 무효화합니다.
+     */
+    public void invalidate() {
+        // 세대 번호를 먼저 올려야, 이미 조회 중이던 get()이 넣은 항목을 스스로 제거함
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    // 만료 항목 정리, 그래도 가득 차 있으면 전체 비움
+    private void evict(long now) {
+        cache.values().removeIf(e -> e.expireAt() - now <= 0);
+        if(cache.size() >= maxSize) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * 검색 조건을 캐시 키로 정규화합니다.
+     * - searchType이 null/빈 문자열이면 검색 조건 없음(매퍼와 같은 의미)
+     * - keyword는 SQL과 같은 의미가 되도록 그대로 사용 (null은 별도 구분)
+     */
+    private String key(SearchCriteria cri) {
+        String searchType = cri.getSearchType() == null ? "" : cri.getSearchType();
+        if(searchType.isEmpty()) {
+            return "";
+        }
+        String keyword = cri.getKeyword() == null ? "\u0000" : cri.getKeyword();
+        return searchType + "\u0001" + keyword;
+    }
+}
@@ -0,0 +1,158 @@
+package com.docmall.basic.admin.product;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * 상품 수정 폼을 열 때의 상품 값을 세션에 보관하는 불변 객체입니다.
+ *
+ * - 수정 저장 시 폼 값과 비교하여 바뀐 컬럼만 UPDATE 하고(dirtyFields),
+ *   pro_updatedate가 폼을 연 뒤 바뀌었으면 다른 관리자가 먼저 수정한 것으로 보고 저장하지 않습니다.
+ * - 스냅샷은 폼마다 만든 토큰(token)으로 보관하고, 폼의 hidden 값(snapshot_token)으로 찾습니다.
+ *   같은 관리자가 같은 상품을 여러 탭에서 열어도 각 폼은 자신이 열릴 때의 값과 비교됩니다.
+ * - 상품 설명(pro_content)은 크기가 크므로 원문 대신 SHA-256 해시만 보관합니다.
+ * - 공유 세션 저장소(shared-session 프로필, DB)에 직렬화되어 저장되므로
+ *   세션당 최근 MAX_SNAPSHOTS개 상품까지만 보관합니다.
+ *   필드를 추가/변경하면 serialVersionUID를 올려 이전 세션이 잘못 읽히지 않도록 합니다.
+ *
+ * @param token 스냅샷 토큰 (수정 폼의 snapshot_token)
+ * @param pro_num 상품 번호
+ * @param cate_code 카테고리 코드
+ * @param pro_name 상품명
+ * @param pro_price 가격
+ * @param pro_discount 할인율
+ * @param pro_publisher 제조사
+ * @param pro_content_hash 상품 설명 해시
+ * @param pro_up_folder 이미지 날짜 폴더
+ * @param pro_img 이미지 파일명
+ * @param pro_amount 재고
+ * @param pro_buy 판매 여부
+ * @param pro_updatedate 수정일 (낙관적 잠금 기준)
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+public record ProductEditSnapshot(String token, Integer pro_num, Integer cate_code, String pro_name, int pro_price, int pro_discount,
+        String pro_publisher, String pro_content_hash, String pro_up_folder, String pro_img, int pro_amount,
+        String pro_buy, Date pro_updatedate) implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2L;
+
+    // 세션 속성 이름 (스냅샷 토큰 → 스냅샷)
+    public static final String SESSION_KEY = "pro_edit_snapshots";
+
+    // 세션당 보관할 최대 스냅샷 수 (오래된 것부터 제거)
+    private static final int MAX_SNAPSHOTS = 20;
+
+    /**
+     * 수정 폼에 출력할 상품 정보로 스냅샷을 만듭니다. (새 토큰 발급)
+     *
+     * @param vo 상품 정보 (pro_edit_form 조회 결과)
+     * @return 스냅샷
+     */
+    public static ProductEditSnapshot of(ProductVO vo) {
+        return new ProductEditSnapshot(UUID.randomUUID().toString(), vo.getPro_num(), vo.getCate_code(), vo.getPro_name(), vo.getPro_price(),
+                vo.getPro_discount(), vo.getPro_publisher(), hash(vo.getPro_content()), vo.getPro_up_folder(),
+                vo.getPro_img(), vo.getPro_amount(), vo.getPro_buy(), vo.getPro_updatedate());
+    }
+
+    /**
+     * 스냅샷과 다른 값을 가진 컬럼 이름 목록
+     *
+     * @param vo 수정 폼에서 받은 상품 정보
+     * @return 바뀐 컬럼 이름 (바뀐 것이 없으면 빈 Set)
+     */
+    public Set<String> dirtyFields(ProductVO vo) {
+        Set<String> dirty = new LinkedHashSet<>();
+        if(!Objects.equals(cate_code, vo.getCate_code())) dirty.add("cate_code");
+        if(!Objects.equals(pro_name, vo.getPro_name())) dirty.add("pro_name");
+        if(pro_price != vo.getPro_price()) dirty.add("pro_price");
+        if(pro_discount != vo.getPro_discount()) dirty.add("pro_discount");
+        if(!Objects.equals(pro_publisher, vo.getPro_publisher())) dirty.add("pro_publisher");
+        if(!Objects.equals(pro_content_hash, hash(vo.getPro_content()))) dirty.add("pro_content");
+        if(!Objects.equals(pro_up_folder, vo.getPro_up_folder())) dirty.add("pro_up_folder");
+        if(!Objects.equals(pro_img, vo.getPro_img())) dirty.add("pro_img");
+        if(pro_amount != vo.getPro_amount()) dirty.add("pro_amount");
+        if(!Objects.equals(pro_buy, vo.getPro_buy())) dirty.add("pro_buy");
+        return dirty;
+    }
+
+    /**
+     * 세션에 스냅샷 저장 (같은 상품의 다른 폼 스냅샷은 그대로 둠)
+     *
+     * @param session HTTP 세션
+     * @param snapshot 스냅샷
+     */
+    public static void save(HttpSession session, ProductEditSnapshot snapshot) {
+        Map<String, ProductEditSnapshot> snapshots = snapshots(session);
+        snapshots.put(snapshot.token(), snapshot);
+        while(snapshots.size() > MAX_SNAPSHOTS) {
+            snapshots.remove(snapshots.keySet().iterator().next());
+        }
+        // 공유 세션(save-mode=on-set-attribute)은 다시 set 해야 저장됨
+        session.setAttribute(SESSION_KEY, snapshots);
+    }
+
+    /**
+     * 세션의 스냅샷 조회
+     *
+     * @param session HTTP 세션
+     * @param token 스냅샷 토큰 (수정 폼의 snapshot_token)
+     * @param pro_num 수정할 상품 번호 (스냅샷의 상품과 다르면 null 반환)
+     * @return 스냅샷, 토큰이 없거나 세션이 만료되었으면 null
+     */
+    public static ProductEditSnapshot get(HttpSession session, String token, Integer pro_num) {
+        if(token == null || pro_num == null) {
+            return null;
+        }
+        ProductEditSnapshot snapshot = snapshots(session).get(token);
+        return snapshot != null && pro_num.equals(snapshot.pro_num()) ? snapshot : null;
+    }
+
+    /**
+     * 세션의 스냅샷 제거 (저장 완료/충돌 후)
+     *
+     * @param session HTTP 세션
+     * @param token 스냅샷 토큰
+     */
+    public static void remove(HttpSession session, String token) {
+        Map<String, ProductEditSnapshot> snapshots = snapshots(session);
+        if(snapshots.remove(token) != null) {
+            session.setAttribute(SESSION_KEY, snapshots);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, ProductEditSnapshot> snapshots(HttpSession session) {
+        Object value = session.getAttribute(SESSION_KEY);
+        return value instanceof LinkedHashMap<?, ?> map
+                ? (Map<String, ProductEditSnapshot>) map
+                : new LinkedHashMap<>();
+    }
+
+    // 상품 설명 해시 (null은 빈 문자열로 취급, 브라우저 textarea가 바꾸는 줄바꿈(\r\n)은 \n으로 맞춤)
+    private static String hash(String content) {
+        String normalized = content == null ? "" : content.replace("\r\n", "\n");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = digest.digest(normalized.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(bytes);
+        } catch(NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
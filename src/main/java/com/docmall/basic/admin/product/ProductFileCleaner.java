@@ -0,0 +1,106 @@
+package com.docmall.basic.admin.product;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.docmall.basic.common.utils.FileUtils;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 삭제된 상품의 이미지 파일(원본, 썸네일, 변형 이미지)을 백그라운드에서 지우는 클래스입니다.
+ *
+ * - 상품 일괄 삭제가 커밋된 뒤 파일 목록을 넘겨받아 작업 스레드 1개가 FileUtils.delete()로 지웁니다.
+ *   (수천 개 파일 삭제를 요청 스레드와 DB 트랜잭션 밖에서 처리)
+ * - 대기 큐가 가득 차면 삭제를 건너뛰고 경고 로그만 남깁니다. (남은 파일은 화면에 쓰이지 않으므로 정리만 늦어짐)
+ * - 메트릭: docmall.product.file-cleanup.queue(대기 작업 수)
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
+@RequiredArgsConstructor // Lombok: final 필드 생성자 자동 생성(의존성 주입)
+@Component // 스프링 부트가 시작되면 Bean으로 등록됨
+public class ProductFileCleaner {
+
+    private final FileUtils fileUtils;
+    private final MeterRegistry meterRegistry;
+
+    // 상품 이미지 업로드 경로
+    @Value("${com.docmall.upload.path}")
+    private String uploadPath;
+
+    // 대기 가능한 삭제 작업 수 (삭제 요청 1번 = 작업 1개)
+    @Value("${com.docmall.product.file-cleanup.queue-capacity:100}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "product-file-cleanup");
+                    t.setDaemon(true);
+                    return t;
+                });
+        Gauge.builder("docmall.product.file-cleanup.queue", executor, e -> e.getQueue().size())
+             .description("상품 이미지 파일 삭제 대기 작업 수")
+             .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch(InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 상품 이미지 파일 삭제를 등록합니다. (상품 삭제가 커밋된 뒤 호출)
+     *
+     * @param products 삭제된 상품 목록 (pro_up_folder, pro_img)
+     */
+    public void delete(List<ProductVO> products) {
+        if(products.isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(() -> deleteFiles(products));
+        } catch(RejectedExecutionException ex) {
+            log.warn("상품 이미지 삭제 대기열이 가득 차 {}개 상품의 파일을 지우지 못했습니다.", products.size());
+        }
+    }
+
+    private void deleteFiles(List<ProductVO> products) {
+        int failed = 0;
+        for(ProductVO vo : products) {
+            if(vo.getPro_img() == null || vo.getPro_img().isEmpty()) {
+                continue;
+            }
+            try {
+                // 썸네일('s_' 접두사) 기준으로 원본/변형 이미지까지 삭제
+                fileUtils.delete(uploadPath, vo.getPro_up_folder(), "s_" + vo.getPro_img(), "image");
+            } catch(RuntimeException ex) {
+                failed++;
+                log.warn("상품 이미지 삭제 실패: {}/{} ({})", vo.getPro_up_folder(), vo.getPro_img(), ex.getMessage());
+            }
+        }
+        log.info("상품 이미지 삭제: {}개 상품 (실패 {})", products.size(), failed);
+    }
+}
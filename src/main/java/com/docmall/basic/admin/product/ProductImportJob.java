@@ -0,0 +1,144 @@
+package com.docmall.basic.admin.product;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 일괄 등록(import) 작업 1건의 진행 상태입니다.
+ *
+ * - 작업 스레드가 값을 갱신하고, 관리자 화면은 JSON으로 조회(polling)합니다.
+ * - 거부된 행은 설정한 최대 개수까지만 보관하고, 전체 개수는 rejectedCount로 제공합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+public class ProductImportJob {
+
+    /** 작업 상태 */
+    public enum Status {
+        WAITING,   // 대기 중
+        RUNNING,   // 진행 중
+        COMPLETED, // 완료
+        FAILED     // 파일 오류 등으로 중단
+    }
+
+    /** 거부된 행 (행 번호, 사유) */
+    public record Rejected(long row, String reason) {
+    }
+
+    private final String jobId;
+    private final String fileName;
+    private final Date createdAt = new Date();
+    private final int maxRejects;
+
+    private volatile Status status = Status.WAITING;
+    private volatile String message;
+    private volatile Date finishedAt;
+
+    private final AtomicLong processedCount = new AtomicLong();
+    private final AtomicLong insertedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong chunkCount = new AtomicLong();
+    private final List<Rejected> rejects = new ArrayList<>();
+
+    public ProductImportJob(String jobId, String fileName, int maxRejects) {
+        this.jobId = jobId;
+        this.fileName = fileName;
+        this.maxRejects = maxRejects;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public Date getFinishedAt() {
+        return finishedAt;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    /** 읽은 행 수 */
+    public long getProcessedCount() {
+        return processedCount.get();
+    }
+
+    /** 등록된 행 수 */
+    public long getInsertedCount() {
+        return insertedCount.get();
+    }
+
+    /** 거부된 행 수 */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /** 커밋된 청크 수 */
+    public long getChunkCount() {
+        return chunkCount.get();
+    }
+
+    /** 거부된 행 목록 (최대 maxRejects개) */
+    public List<Rejected> getRejects() {
+        synchronized(rejects) {
+            return Collections.unmodifiableList(new ArrayList<>(rejects));
+        }
+    }
+
+    /** 종료 여부 */
+    public boolean isDone() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    void start() {
+        status = Status.RUNNING;
+    }
+
+    void processed() {
+        processedCount.incrementAndGet();
+    }
+
+    void inserted(int count) {
+        insertedCount.addAndGet(count);
+        chunkCount.incrementAndGet();
+    }
+
+    void reject(long row, String reason) {
+        rejectedCount.incrementAndGet();
+        synchronized(rejects) {
+            if(rejects.size() < maxRejects) {
+                rejects.add(new Rejected(row, reason));
+            }
+        }
+    }
+
+    void complete() {
+        finish(Status.COMPLETED, null);
+    }
+
+    void fail(String message) {
+        finish(Status.FAILED, message);
+    }
+
+    private void finish(Status status, String message) {
+        this.message = message;
+        this.finishedAt = new Date();
+        this.status = status;
+    }
+}
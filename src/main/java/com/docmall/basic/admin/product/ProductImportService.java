@@ -0,0 +1,387 @@
+package com.docmall.basic.admin.product;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.docmall.basic.admin.category.AdCategoryService;
+import com.docmall.basic.common.utils.CsvReader;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 일괄 등록(import) 서비스입니다.
+ *
+ * - 공급사 상품 목록(CSV 또는 JSON 배열) 파일을 받아 백그라운드에서 등록합니다.
+ * - 파일은 한 행(객체)씩 읽으므로 크기와 관계없이 메모리에 전부 올리지 않습니다.
+ * - 설정한 개수(chunk-size)만큼 모아 multi-row insert 1번으로 저장하며, 청크마다 트랜잭션을 나눕니다.
+ *   (청크가 실패하면 해당 청크만 한 행씩 다시 저장하여 실패한 행만 거부)
+ * - 검증에 실패하거나 저장에 실패한 행은 행 번호와 사유를 기록합니다.
+ * - 진행 상황은 작업 번호(jobId)로 조회할 수 있습니다. (관리자 화면 polling)
+ *
+ * 파일 형식 (컬럼명 = ProductVO 필드명)
+ * - CSV: 첫 행은 헤더, 예) cate_code,pro_name,pro_price,pro_discount,pro_publisher,pro_content,pro_amount,pro_buy
+ * - JSON: [{"cate_code":2,"pro_name":"...","pro_price":10000, ...}, ...]
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
+@RequiredArgsConstructor // Lombok: final 필드에 대한 생성자 자동 생성
+@Service // 해당 클래스가 서비스 계층(비즈니스 로직)임을 명시
+public class ProductImportService {
+
+    private static final TypeReference<LinkedHashMap<String, Object>> ROW_TYPE = new TypeReference<>() {
+    };
+
+    // 보관할 작업 수 (초과 시 끝난 작업부터 제거)
+    private static final int MAX_JOBS = 50;
+
+    private final AdProductMapper adProductMapper;
+    private final AdCategoryService adCategoryService;
+    private final ProductCountCache productCountCache;
+    private final ProductSearchService productSearchService;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    // 작업 번호 → 작업 상태
+    private final Map<String, ProductImportJob> jobs = new ConcurrentHashMap<>();
+
+    // 청크당 행 수 (multi-row insert 1번에 들어가는 행 수)
+    @Value("${com.docmall.product.import.chunk-size:500}")
+    private int chunkSize;
+
+    // 동시에 실행할 작업 수
+    @Value("${com.docmall.product.import.threads:1}")
+    private int threads;
+
+    // 대기 가능한 작업 수 (가득 차면 등록 요청 거부)
+    @Value("${com.docmall.product.import.queue-capacity:5}")
+    private int queueCapacity;
+
+    // 작업마다 보관할 거부 행 최대 개수
+    @Value("${com.docmall.product.import.max-rejects:1000}")
+    private int maxRejects;
+
+    // CSV 파일 문자셋
+    @Value("${com.docmall.product.import.csv-charset:UTF-8}")
+    private String csvCharset;
+
+    private ThreadPoolExecutor executor;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger seq = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "product-import-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 업로드된 파일을 임시 파일로 저장하고 등록 작업을 시작합니다.
+     *
+     * @param file 업로드된 CSV/JSON 파일
+     * @return 작업 상태 (jobId로 진행 상황 조회)
+     * @throws IOException 임시 파일 저장 실패 또는 지원하지 않는 형식
+     * @throws RejectedExecutionException 대기 중인 작업이 너무 많을 때
+     */
+    public ProductImportJob start(MultipartFile file) throws IOException {
+        String fileName = file.getOriginalFilename() == null ? "" : file.getOriginalFilename();
+        boolean json = fileName.toLowerCase().endsWith(".json");
+        if(!json && !fileName.toLowerCase().endsWith(".csv")) {
+            throw new IOException("CSV 또는 JSON 파일만 등록할 수 있습니다.");
+        }
+
+        // 요청이 끝나면 멀티파트 임시 파일이 삭제되므로 별도 임시 파일로 옮김
+        Path tmp = Files.createTempFile("product-import-", json ? ".json" : ".csv");
+        file.transferTo(tmp);
+
+        ProductImportJob job = new ProductImportJob(UUID.randomUUID().toString(), fileName, maxRejects);
+        cleanupJobs();
+        jobs.put(job.getJobId(), job);
+        try {
+            executor.execute(() -> run(job, tmp, json));
+        } catch(RejectedExecutionException ex) {
+            jobs.remove(job.getJobId());
+            Files.deleteIfExists(tmp);
+            throw ex;
+        }
+        return job;
+    }
+
+    /**
+     * 작업 상태 조회
+     *
+     * @param jobId 작업 번호
+     * @return 작업 상태, 없으면 null
+     */
+    public ProductImportJob getJob(String jobId) {
+        return jobId == null ? null : jobs.get(jobId);
+    }
+
+    /** 최근 작업 목록 */
+    public List<ProductImportJob> getJobs() {
+        List<ProductImportJob> list = new ArrayList<>(jobs.values());
+        list.sort((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()));
+        return list;
+    }
+
+    private void run(ProductImportJob job, Path file, boolean json) {
+        job.start();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        try(InputStream in = Files.newInputStream(file)) {
+            if(json) {
+                readJson(in, job, chunk);
+            } else {
+                readCsv(in, job, chunk);
+            }
+            flush(job, chunk);
+            job.complete();
+        } catch(Exception ex) {
+            log.error("상품 일괄 등록 실패: {}", job.getFileName(), ex);
+            job.fail(ex.getMessage());
+        } finally {
+            if(job.getInsertedCount() > 0) {
+                productSearchService.invalidate();
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch(IOException ex) {
+                log.warn("임시 파일 삭제 실패: {}", file, ex);
+            }
+        }
+        log.info("상품 일괄 등록 종료: {} (읽음 {}, 등록 {}, 거부 {})", job.getFileName(),
+                job.getProcessedCount(), job.getInsertedCount(), job.getRejectedCount());
+    }
+
+    // CSV: 첫 행은 헤더(컬럼명)
+    private void readCsv(InputStream in, ProductImportJob job, List<Row> chunk) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, Charset.forName(csvCharset)));
+        try(CsvReader csv = new CsvReader(reader)) {
+            List<String> header = csv.readRow();
+            if(header == null) {
+                return;
+            }
+            List<String> columns = new ArrayList<>();
+            for(String name : header) {
+                columns.add(name.trim());
+            }
+
+            List<String> values;
+            while((values = csv.readRow()) != null) {
+                if(values.size() == 1 && values.get(0).isBlank()) {
+                    continue; // 빈 줄
+                }
+                Map<String, String> map = new HashMap<>();
+                for(int i = 0; i < columns.size() && i < values.size(); i++) {
+                    map.put(columns.get(i), values.get(i));
+                }
+                add(job, csv.getLineNumber(), map, chunk);
+            }
+        }
+    }
+
+    // JSON: 객체 배열, 객체를 하나씩 읽음
+    private void readJson(InputStream in, ProductImportJob job, List<Row> chunk) throws IOException {
+        try(JsonParser parser = objectMapper.createParser(in)) {
+            if(parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("JSON 파일은 상품 객체의 배열이어야 합니다.");
+            }
+            long index = 0;
+            JsonToken token;
+            while((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                index++;
+                if(token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    job.processed();
+                    job.reject(index, "객체 형식이 아닙니다.");
+                    continue;
+                }
+                Map<String, Object> object = parser.readValueAs(ROW_TYPE);
+                Map<String, String> map = new HashMap<>();
+                object.forEach((key, value) -> map.put(key, value == null ? null : String.valueOf(value)));
+                add(job, index, map, chunk);
+            }
+        }
+    }
+
+    // 검증 후 청크에 추가, 청크가 차면 저장
+    private void add(ProductImportJob job, long number, Map<String, String> map, List<Row> chunk) {
+        job.processed();
+        try {
+            chunk.add(new Row(number, toProduct(map)));
+        } catch(IllegalArgumentException ex) {
+            job.reject(number, ex.getMessage());
+            return;
+        }
+        if(chunk.size() >= chunkSize) {
+            flush(job, chunk);
+        }
+    }
+
+    // 청크 저장 (청크 단위 트랜잭션, 실패 시 한 행씩 다시 저장)
+    private void flush(ProductImportJob job, List<Row> chunk) {
+        if(chunk.isEmpty()) {
+            return;
+        }
+        List<ProductVO> list = new ArrayList<>(chunk.size());
+        for(Row row : chunk) {
+            list.add(row.vo());
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> adProductMapper.pro_insert_batch(list));
+            job.inserted(list.size());
+        } catch(RuntimeException ex) {
+            log.warn("청크 저장 실패, 한 행씩 다시 저장: {}", rootMessage(ex));
+            int inserted = 0;
+            for(Row row : chunk) {
+                try {
+                    adProductMapper.pro_insert(row.vo());
+                    inserted++;
+                } catch(RuntimeException rowEx) {
+                    job.reject(row.number(), "저장 실패: " + rootMessage(rowEx));
+                }
+            }
+            job.inserted(inserted);
+        }
+        chunk.clear();
+
+        // 목록 개수는 청크마다 갱신 (검색 색인은 작업이 끝날 때 한 번만 무효화)
+        productCountCache.invalidate();
+    }
+
+    // 행 → 상품 정보 (검증 실패 시 IllegalArgumentException)
+    private ProductVO toProduct(Map<String, String> map) {
+        ProductVO vo = new ProductVO();
+
+        int cate_code = parseInt(map, "cate_code", true, 0);
+        if(adCategoryService.getFirstCategoryBySecondCategory(cate_code) == null) {
+            throw new IllegalArgumentException("존재하지 않는 카테고리입니다: " + cate_code);
+        }
+        vo.setCate_code(cate_code);
+
+        String pro_name = trim(map.get("pro_name"));
+        if(pro_name == null) {
+            throw new IllegalArgumentException("상품명(pro_name)이 없습니다.");
+        }
+        vo.setPro_name(pro_name);
+
+        vo.setPro_price(parseInt(map, "pro_price", true, 0));
+        int pro_discount = parseInt(map, "pro_discount", false, 0);
+        if(pro_discount > 100) {
+            throw new IllegalArgumentException("할인율(pro_discount)은 0~100 사이여야 합니다.");
+        }
+        vo.setPro_discount(pro_discount);
+        vo.setPro_amount(parseInt(map, "pro_amount", false, 0));
+
+        String pro_buy = trim(map.get("pro_buy"));
+        if(pro_buy == null) {
+            pro_buy = "N";
+        } else if(!pro_buy.equals("Y") && !pro_buy.equals("N")) {
+            throw new IllegalArgumentException("판매여부(pro_buy)는 Y 또는 N이어야 합니다.");
+        }
+        vo.setPro_buy(pro_buy);
+
+        vo.setPro_publisher(nullToEmpty(trim(map.get("pro_publisher"))));
+        vo.setPro_content(nullToEmpty(map.get("pro_content")));
+        vo.setPro_up_folder(nullToEmpty(trim(map.get("pro_up_folder"))));
+        vo.setPro_img(nullToEmpty(trim(map.get("pro_img"))));
+        return vo;
+    }
+
+    private static int parseInt(Map<String, String> map, String name, boolean required, int defaultValue) {
+        String value = trim(map.get(name));
+        if(value == null) {
+            if(required) {
+                throw new IllegalArgumentException(name + " 값이 없습니다.");
+            }
+            return defaultValue;
+        }
+        try {
+            int number = Integer.parseInt(value.replace(",", ""));
+            if(number < 0) {
+                throw new IllegalArgumentException(name + " 값은 0 이상이어야 합니다: " + value);
+            }
+            return number;
+        } catch(NumberFormatException ex) {
+            throw new IllegalArgumentException(name + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    private static String trim(String value) {
+        if(value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String rootMessage(Throwable ex) {
+        Throwable root = ex;
+        while(root.getCause() != null) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    // 끝난 작업 정리 (오래된 것부터)
+    private void cleanupJobs() {
+        if(jobs.size() < MAX_JOBS) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(ProductImportJob::isDone)
+                .sorted((a, b) -> a.getCreatedAt().compareTo(b.getCreatedAt()))
+                .limit(jobs.size() - MAX_JOBS + 1)
+                .forEach(job -> jobs.remove(job.getJobId()));
+    }
+
+    // 행 번호 + 상품 정보
+    private record Row(long number, ProductVO vo) {
+    }
+}
@@ -0,0 +1,411 @@
+package com.docmall.basic.admin.product;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Service;
+
+import com.docmall.basic.common.utils.SearchCriteria;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 검색용 메모리 역색인(inverted index) 서비스입니다.
+ *
+ * - like concat('%', 검색어, '%')는 인덱스를 사용할 수 없어 상품이 늘어날수록 전체 스캔이 됩니다.
+ * - 상품명/제조사/상세설명을 n-gram(1글자 + 2글자)으로 잘라 색인하므로,
+ *   띄어쓰기 없는 한글 상품명도 부분 일치 검색이 가능합니다.
+ * - 검색 결과는 pro_num 후보 목록이며, 매퍼는 이 후보로만 행을 조회합니다.
+ * - n-gram 교집합 후 원문 포함 여부를 다시 확인하므로 결과는 기존 LIKE 검색과 같습니다.
+ *   (대소문자 구분 없음, 검색어의 공백 포함)
+ * - 처음 검색할 때 DB에서 전체 상품을 읽어 색인을 만들고,
+ *   이후에는 상품 등록/수정/삭제 시 해당 상품만 갱신합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
+@RequiredArgsConstructor // Lombok: final 필드에 대한 생성자 자동 생성
+@Service // 해당 클래스가 서비스 계층(비즈니스 로직)임을 명시
+public class ProductSearchService {
+
+    // 색인 필드 구분 (n-gram 키 앞에 붙임)
+    private static final char FIELD_NAME = 'n';
+    private static final char FIELD_PUBLISHER = 'p';
+    private static final char FIELD_CONTENT = 'a';
+
+    // 상품 관련 DB 작업을 담당하는 MyBatis 매퍼 (색인 초기 생성용)
+    private final AdProductMapper adProductMapper;
+
+    // 읽기(검색)는 동시에, 쓰기(색인 갱신)는 단독으로
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // "필드구분자 + n-gram" → 해당 n-gram을 포함하는 pro_num 목록(오름차순)
+    private final Map<String, IntList> postings = new HashMap<>();
+
+    // pro_num → 정규화된 원문 (검증 및 삭제 시 사용)
+    private final Map<Integer, Doc> docs = new HashMap<>();
+
+    // 색인 생성 완료 여부 (false이면 다음 검색 시 전체 재색인)
+    private volatile boolean ready;
+
+    // 색인된 상품의 정규화된 필드 값
+    private record Doc(String name, String publisher, String content) {
+    }
+
+    /**
+     * 검색 조건이 색인으로 처리 가능한지 여부
+     * - n(상품명), p(제조사), np(상품명 or 제조사), a(상품명 or 제조사 or 상세설명)
+     * - c(상품코드)는 기존 SQL 조건 사용
+     *
+     * @param cri 검색 조건
+     * @return 색인 사용 가능하면 true
+     */
+    public boolean supports(SearchCriteria cri) {
+        String searchType = cri.getSearchType();
+        String keyword = cri.getKeyword();
+        if(searchType == null || keyword == null || normalize(keyword).isBlank()) {
+            return false;
+        }
+        return searchType.equals("n") || searchType.equals("p")
+                || searchType.equals("np") || searchType.equals("a");
+    }
+
+    /**
+     * 검색어와 일치하는 상품 번호 후보를 반환합니다.
+     *
+     * @param searchType 검색 종류(n, p, np, a)
+     * @param keyword 검색어
+     * @return 일치하는 pro_num 배열 (내림차순)
+     */
+    public int[] search(String searchType, String keyword) {
+        ensureReady();
+
+        String query = normalize(keyword);
+        char[] fields = switch(searchType) {
+            case "n" -> new char[] { FIELD_NAME };
+            case "p" -> new char[] { FIELD_PUBLISHER };
+            case "np" -> new char[] { FIELD_NAME, FIELD_PUBLISHER };
+            default -> new char[] { FIELD_NAME, FIELD_PUBLISHER, FIELD_CONTENT };
+        };
+
+        lock.readLock().lock();
+        try {
+            IntList result = new IntList();
+            for(char field : fields) {
+                int[] candidates = candidates(field, query);
+                for(int pro_num : candidates) {
+                    Doc doc = docs.get(pro_num);
+                    if(doc != null && text(doc, field).contains(query)) {
+                        result.add(pro_num);
+                    }
+                }
+            }
+            int[] nums = result.toSortedDistinctArray();
+            // 목록 기본 정렬(상품 번호 역순)에 맞춰 내림차순으로 반환
+            for(int i = 0, j = nums.length - 1; i < j; i++, j--) {
+                int tmp = nums[i];
+                nums[i] = nums[j];
+                nums[j] = tmp;
+            }
+            return nums;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 1건을 색인에 추가하거나 갱신합니다. (등록/수정 시)
+     *
+     * @param vo 상품 정보 (pro_num 필수)
+     */
+    public void index(ProductVO vo) {
+        if(vo.getPro_num() == null) {
+            return;
+        }
+        Doc doc = new Doc(normalize(vo.getPro_name()),
+                normalize(vo.getPro_publisher()),
+                normalize(stripTags(vo.getPro_content())));
+
+        // 색인 생성 중이면 끝날 때까지 기다렸다가 반영 (생성 중 변경분 누락 방지)
+        lock.writeLock().lock();
+        try {
+            if(!ready) {
+                return;
+            }
+            removeInternal(vo.getPro_num());
+            addInternal(vo.getPro_num(), doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품을 색인에서 제거합니다. (삭제 시)
+     *
+     * @param pro_nums 삭제된 상품 번호들
+     */
+    public void remove(int... pro_nums) {
+        lock.writeLock().lock();
+        try {
+            if(!ready) {
+                return;
+            }
+            for(int pro_num : pro_nums) {
+                removeInternal(pro_num);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품명이 일치하는 상품만 색인에서 제거합니다. (이름 + 번호 조건 삭제 시)
+     *
+     * @param pro_nums 삭제 대상 상품 번호들
+     * @param pro_name 상품명
+     */
+    public void removeByName(int[] pro_nums, String pro_name) {
+        String name = normalize(pro_name);
+        lock.writeLock().lock();
+        try {
+            if(!ready) {
+                return;
+            }
+            for(int pro_num : pro_nums) {
+                Doc doc = docs.get(pro_num);
+                if(doc != null && doc.name().equals(name)) {
+                    removeInternal(pro_num);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인을 무효화합니다. 다음 검색 시 DB에서 전체를 다시 읽어 색인합니다.
+     * (대량 등록 등 개별 갱신이 어려운 경우 사용)
+     */
+    public void invalidate() {
+        ready = false;
+    }
+
+    // 색인이 없으면 DB에서 전체 상품을 읽어 생성
+    private void ensureReady() {
+        if(ready) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if(ready) {
+                return;
+            }
+            postings.clear();
+            docs.clear();
+            adProductMapper.pro_search_source(context -> {
+                ProductVO vo = context.getResultObject();
+                addInternal(vo.getPro_num(), new Doc(normalize(vo.getPro_name()),
+                        normalize(vo.getPro_publisher()),
+                        normalize(stripTags(vo.getPro_content()))));
+            });
+            ready = true;
+            log.info("상품 검색 색인 생성: 상품 {}건, n-gram {}개", docs.size(), postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 검색어의 n-gram을 모두 포함하는 후보 (가장 짧은 목록부터 교집합)
+    private int[] candidates(char field, String query) {
+        Set<String> grams = grams(field, query, false);
+        if(grams.isEmpty()) {
+            return new int[0];
+        }
+
+        IntList[] lists = new IntList[grams.size()];
+        int i = 0;
+        for(String gram : grams) {
+            IntList list = postings.get(gram);
+            if(list == null) {
+                return new int[0];
+            }
+            lists[i++] = list;
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size(), b.size()));
+
+        IntList result = new IntList();
+        IntList smallest = lists[0];
+        outer:
+        for(int k = 0; k < smallest.size(); k++) {
+            int pro_num = smallest.get(k);
+            for(int l = 1; l < lists.length; l++) {
+                if(!lists[l].contains(pro_num)) {
+                    continue outer;
+                }
+            }
+            result.add(pro_num);
+        }
+        return result.toSortedDistinctArray();
+    }
+
+    private void addInternal(int pro_num, Doc doc) {
+        docs.put(pro_num, doc);
+        for(String gram : grams(doc)) {
+            postings.computeIfAbsent(gram, key -> new IntList()).insertSorted(pro_num);
+        }
+    }
+
+    private void removeInternal(int pro_num) {
+        Doc doc = docs.remove(pro_num);
+        if(doc == null) {
+            return;
+        }
+        for(String gram : grams(doc)) {
+            IntList list = postings.get(gram);
+            if(list != null) {
+                list.removeSorted(pro_num);
+                if(list.size() == 0) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private Set<String> grams(Doc doc) {
+        Set<String> grams = grams(FIELD_NAME, doc.name(), true);
+        grams.addAll(grams(FIELD_PUBLISHER, doc.publisher(), true));
+        // a(전체) 검색용: 상품명 + 제조사 + 상세설명을 한 필드로 색인
+        grams.addAll(grams(FIELD_CONTENT, doc.name(), true));
+        grams.addAll(grams(FIELD_CONTENT, doc.publisher(), true));
+        grams.addAll(grams(FIELD_CONTENT, doc.content(), true));
+        return grams;
+    }
+
+    /**
+     * 공백으로 나눈 단어마다 1글자(unigram)와 2글자(bigram)를 생성합니다.
+     * - 색인: 1글자 + 2글자 모두
+     * - 검색: 1글자 단어는 unigram, 2글자 이상 단어는 bigram으로 조회
+     */
+    private Set<String> grams(char field, String text, boolean withUnigrams) {
+        Set<String> grams = new HashSet<>();
+        if(text == null || text.isEmpty()) {
+            return grams;
+        }
+        for(String word : text.split("\\s+")) {
+            int len = word.length();
+            if(len == 0) {
+                continue;
+            }
+            if(len == 1) {
+                grams.add(field + word);
+                continue;
+            }
+            for(int i = 0; i < len - 1; i++) {
+                grams.add(field + word.substring(i, i + 2));
+            }
+            // 1글자 검색어를 위해 unigram도 색인
+            if(withUnigrams) {
+                for(int i = 0; i < len; i++) {
+                    grams.add(field + word.substring(i, i + 1));
+                }
+            }
+        }
+        return grams;
+    }
+
+    private String text(Doc doc, char field) {
+        return switch(field) {
+            case FIELD_NAME -> doc.name();
+            case FIELD_PUBLISHER -> doc.publisher();
+            default -> doc.name() + "\n" + doc.publisher() + "\n" + doc.content();
+        };
+    }
+
+    // 유니코드 정규화(NFKC) + 소문자 변환 (MySQL 기본 collation처럼 대소문자 무시)
+    private static String normalize(String text) {
+        if(text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+    }
+
+    // 상세설명(CKEditor HTML)의 태그 제거
+    private static String stripTags(String html) {
+        if(html == null) {
+            return "";
+        }
+        return html.replaceAll("<[^>]*>", " ").replace("&nbsp;", " ");
+    }
+
+    /**
+     * 박싱 없이 int를 보관하는 가변 배열 (posting list용)
+     */
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        void add(int value) {
+            if(size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        // 오름차순을 유지하며 추가 (중복 무시)
+        void insertSorted(int value) {
+            int idx = Arrays.binarySearch(values, 0, size, value);
+            if(idx >= 0) {
+                return;
+            }
+            int pos = -idx - 1;
+            if(size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            System.arraycopy(values, pos, values, pos + 1, size - pos);
+            values[pos] = value;
+            size++;
+        }
+
+        void removeSorted(int value) {
+            int idx = Arrays.binarySearch(values, 0, size, value);
+            if(idx < 0) {
+                return;
+            }
+            System.arraycopy(values, idx + 1, values, idx, size - idx - 1);
+            size--;
+        }
+
+        boolean contains(int value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        // 정렬 + 중복 제거한 배열
+        int[] toSortedDistinctArray() {
+            int[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            int n = 0;
+            for(int i = 0; i < copy.length; i++) {
+                if(i == 0 || copy[i] != copy[i - 1]) {
+                    copy[n++] = copy[i];
+                }
+            }
+            return Arrays.copyOf(copy, n);
+        }
+    }
+}
@@ -57,12 +57,28 @@ public class ProductVO {
     /** 구매 가능 여부 (예: 'Y', 'N') */
     private String pro_buy;
 
-    /** 상품 리뷰 수 */
+    /** 상품 리뷰 수 (노출 중인 리뷰, ReviewCounterBuffer가 모아서 갱신) */
     private int pro_review;
 
+    /** 상품 리뷰 평점 합계 (평균 = pro_rating_sum / pro_review) */
+    private int pro_rating_sum;
+
     /** 상품 등록일 */
     private Date pro_date;
 
     /** 상품 정보 수정일 */
     private Date pro_updatedate;
+
+    /**
+     * 리뷰 평균 평점 (리뷰가 없으면 0)
+     * - count(*)/avg() 없이 상품 행의 집계 값으로 계산합니다.
+     *
+     * @return 평균 평점 (소수점 첫째 자리 반올림)
+     */
+    public double getPro_rating() {
+        if(pro_review <= 0) {
+            return 0;
+        }
+        return Math.round(pro_rating_sum * 10.0 / pro_review) / 10.0;
+    }
 }
@@ -1,5 +1,126 @@
 package com.docmall.basic.admin.review;
 
+import java.util.List;
+
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+import com.docmall.basic.common.utils.PageMaker;
+import com.docmall.basic.common.utils.SearchCriteria;
+import com.docmall.basic.review.ReviewVO;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 상품 리뷰 관리 웹 요청을 처리하는 컨트롤러 클래스입니다.
+ *
+ * - @RequestMapping("/admin/review/*"): "/admin/review"로 시작하는 요청 처리
+ * - 리뷰 목록(검색/커서 페이징), 숨김/노출, 삭제, 상품 리뷰 집계 보정
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
+@RequiredArgsConstructor // Lombok: final 필드 생성자 자동 생성(의존성 주입)
+@RequestMapping("/admin/review/*") // "/admin/review"로 시작하는 요청을 이 컨트롤러에서 처리
+@Controller // 스프링 MVC 컨트롤러 등록
 public class AdReviewController {
 
+    // 관리자 리뷰 서비스
+    private final AdReviewService adReviewService;
+
+    /**
+     * 리뷰 목록 페이지
+     *
+     * GET /admin/review/review_list?searchType=p&keyword=1&cursor=123&direction=next
+     *
+     * @param cri 검색 조건 및 커서
+     * @param model 뷰에 데이터 전달
+     * @throws Exception 예외 발생 시
+     */
+    @GetMapping("/review_list")
+    public void review_list(@ModelAttribute("cri") SearchCriteria cri, Model model) throws Exception {
+        PageMaker pageMaker = new PageMaker();
+        List<ReviewVO> review_list = adReviewService.review_list(cri, pageMaker);
+
+        model.addAttribute("review_list", review_list);
+        model.addAttribute("pageMaker", pageMaker);
+        // 반환 타입이 void이므로, 요청 경로와 동일한 뷰(/templates/admin/review/review_list.html) 렌더링
+    }
+
+    /**
+     * 리뷰 숨김/노출
+     *
+     * POST /admin/review/review_status
+     *
+     * @param rev_code 리뷰 번호
+     * @param visible true면 노출, false면 숨김
+     * @param cri 돌아갈 목록의 검색 조건 및 커서
+     * @param rttr 리다이렉트 시 메시지 전달
+     * @return 리뷰 목록으로 리다이렉트
+     * @throws Exception 예외 발생 시
+     */
+    @PostMapping("/review_status")
+    public String review_status(Integer rev_code, boolean visible, SearchCriteria cri, RedirectAttributes rttr) throws Exception {
+        boolean changed = adReviewService.review_status(rev_code, visible);
+        if(changed) {
+            log.info("리뷰 {}: {}", visible ? "노출" : "숨김", rev_code);
+        }
+        rttr.addFlashAttribute("msg", changed ? "success" : "fail");
+        return "redirect:/admin/review/review_list" + listQuery(cri);
+    }
+
+    /**
+     * 리뷰 삭제
+     *
+     * POST /admin/review/review_delete
+     *
+     * @param rev_code 리뷰 번호
+     * @param cri 돌아갈 목록의 검색 조건 및 커서
+     * @param rttr 리다이렉트 시 메시지 전달
+     * @return 리뷰 목록으로 리다이렉트
+     * @throws Exception 예외 발생 시
+     */
+    @PostMapping("/review_delete")
+    public String review_delete(Integer rev_code, SearchCriteria cri, RedirectAttributes rttr) throws Exception {
+        boolean deleted = adReviewService.review_delete(rev_code);
+        if(deleted) {
+            log.info("리뷰 삭제: {}", rev_code);
+        }
+        rttr.addFlashAttribute("msg", deleted ? "success" : "fail");
+        return "redirect:/admin/review/review_list" + listQuery(cri);
+    }
+
+    /**
+     * 상품 리뷰 수/평점 합계 보정
+     *
+     * POST /admin/review/review_recount
+     *
+     * @param pro_num 상품 번호
+     * @param rttr 리다이렉트 시 메시지 전달
+     * @return 상품 번호로 검색한 리뷰 목록으로 리다이렉트
+     * @throws Exception 예외 발생 시
+     */
+    @PostMapping("/review_recount")
+    public String review_recount(Integer pro_num, RedirectAttributes rttr) throws Exception {
+        adReviewService.review_recount(pro_num);
+        log.info("상품 리뷰 집계 보정: {}", pro_num);
+        rttr.addFlashAttribute("msg", "recount");
+        rttr.addAttribute("searchType", "p");
+        rttr.addAttribute("keyword", pro_num);
+        return "redirect:/admin/review/review_list";
+    }
+
+    // 처리 후 보고 있던 목록 페이지로 돌아가기 위한 파라미터
+    private static String listQuery(SearchCriteria cri) {
+        PageMaker pageMaker = new PageMaker();
+        pageMaker.setCri(cri);
+        return pageMaker.makeCursor(cri.getCursor(), cri.getDirection());
+    }
 }
@@ -0,0 +1,26 @@
+package com.docmall.basic.admin.review;
+
+import java.util.List;
+
+import com.docmall.basic.common.utils.SearchCriteria;
+import com.docmall.basic.review.ReviewVO;
+
+/**
+ * 관리자 상품 리뷰 관리 작업을 담당하는 MyBatis 매퍼 인터페이스입니다.
+ *
+ * - 이 인터페이스의 메서드는 resources/mapper/AdReviewMapper.xml의 SQL과 매핑됩니다.
+ * - 리뷰 수정/삭제/숨김과 상품 리뷰 집계는 ReviewMapper를 함께 사용합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+public interface AdReviewMapper {
+
+    /**
+     * 리뷰 목록 (검색/커서 페이징, 최근 순)
+     *
+     * @param cri 검색 조건(p: 상품 번호, i: 회원 아이디, s: 노출 여부) 및 커서
+     * @return 리뷰 목록 (perPageNum + 1건까지, prev 방향은 오름차순)
+     */
+    List<ReviewVO> review_list(SearchCriteria cri);
+}
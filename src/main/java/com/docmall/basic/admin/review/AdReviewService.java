@@ -0,0 +1,79 @@
+package com.docmall.basic.admin.review;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.docmall.basic.common.utils.PageMaker;
+import com.docmall.basic.common.utils.SearchCriteria;
+import com.docmall.basic.review.ReviewCounterBuffer;
+import com.docmall.basic.review.ReviewService;
+import com.docmall.basic.review.ReviewVO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 상품 리뷰 관리 비즈니스 로직을 처리하는 서비스 클래스입니다.
+ *
+ * - 리뷰 목록 조회(검색/커서 페이징), 숨김/노출, 삭제를 처리합니다.
+ * - 숨김/노출/삭제에 따른 상품 리뷰 수/평점 합계 변경은 ReviewService를 통해 ReviewCounterBuffer에 모읍니다.
+ * - 상품 리뷰 집계 보정(recount): 상품 1개의 리뷰로 다시 계산합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@RequiredArgsConstructor // Lombok: final 필드에 대한 생성자 자동 생성
+@Service // 해당 클래스가 서비스 계층(비즈니스 로직)임을 명시
+public class AdReviewService {
+
+    private final AdReviewMapper adReviewMapper;
+    private final ReviewService reviewService;
+    private final ReviewCounterBuffer reviewCounterBuffer;
+
+    /**
+     * 리뷰 목록 조회 (검색/커서 페이징)
+     *
+     * @param cri 검색 조건 및 커서
+     * @param pageMaker 이전/다음 커서를 설정할 PageMaker
+     * @return 리뷰 목록, 최대 perPageNum건
+     */
+    public List<ReviewVO> review_list(SearchCriteria cri, PageMaker pageMaker) {
+        // 상품 번호 검색은 숫자만 허용
+        if("p".equals(cri.getSearchType()) && cri.getKeyword() != null && !cri.getKeyword().isBlank()
+                && !cri.getKeyword().trim().chars().allMatch(Character::isDigit)) {
+            return ReviewService.toCursorPage(new ArrayList<>(), cri, pageMaker);
+        }
+        return ReviewService.toCursorPage(new ArrayList<>(adReviewMapper.review_list(cri)), cri, pageMaker);
+    }
+
+    /**
+     * 리뷰 숨김/노출
+     *
+     * @param rev_code 리뷰 번호
+     * @param visible true면 노출, false면 숨김
+     * @return 변경했으면 true
+     */
+    public boolean review_status(Integer rev_code, boolean visible) {
+        return reviewService.review_status(rev_code, visible);
+    }
+
+    /**
+     * 리뷰 삭제
+     *
+     * @param rev_code 리뷰 번호
+     * @return 삭제했으면 true
+     */
+    public boolean review_delete(Integer rev_code) {
+        return reviewService.review_delete(rev_code, null);
+    }
+
+    /**
+     * 상품 리뷰 수/평점 합계 보정 (review_tbl 기준으로 다시 계산)
+     *
+     * @param pro_num 상품 번호
+     */
+    public void review_recount(Integer pro_num) {
+        reviewCounterBuffer.recount(pro_num);
+    }
+}
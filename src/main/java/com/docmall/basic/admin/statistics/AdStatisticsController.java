@@ -1,5 +1,167 @@
 package com.docmall.basic.admin.statistics;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 통계 화면을 처리하는 컨트롤러 클래스입니다.
+ *
+ * - @RequestMapping("/admin/statist/*"): "/admin/statist"로 시작하는 요청 처리
+ * - 일별 주문/매출/가입 통계, 기간별 카테고리/상품 매출을 출력합니다.
+ * - 조회 기간을 지정하지 않으면 최근 30일, 최대 AdStatisticsService.MAX_DAYS일까지 조회합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
+@RequiredArgsConstructor // Lombok: final 필드 생성자 자동 생성(의존성 주입)
+@RequestMapping("/admin/statist/*") // "/admin/statist"로 시작하는 요청을 이 컨트롤러에서 처리
+@Controller // 스프링 MVC 컨트롤러 등록
 public class AdStatisticsController {
 
+    // 기본 조회 기간(일)
+    private static final int DEFAULT_DAYS = 30;
+
+    // 상품 매출 순위 최대 개수
+    private static final int TOP_PRODUCTS = 20;
+
+    // 관리자 통계 서비스
+    private final AdStatisticsService adStatisticsService;
+
+    /**
+     * 일별 통계 페이지
+     *
+     * GET /admin/statist/order_statist?from=2025-05-01&to=2025-05-31
+     *
+     * @param from 시작일 (없으면 종료일 30일 전)
+     * @param to 종료일 (없으면 오늘)
+     * @param model 뷰에 데이터 전달
+     * @throws Exception 예외 발생 시
+     */
+    @GetMapping("/order_statist")
+    public void order_statist(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                              Model model) throws Exception {
+        LocalDate[] period = period(from, to);
+        List<DailyStatVO> daily_list = adStatisticsService.getDaily(period[0], period[1]);
+
+        // 기간 합계
+        DailyStatVO total = new DailyStatVO();
+        for(DailyStatVO vo : daily_list) {
+            total.setOrder_count(total.getOrder_count() + vo.getOrder_count());
+            total.setItem_count(total.getItem_count() + vo.getItem_count());
+            total.setSales_price(total.getSales_price() + vo.getSales_price());
+            total.setCancel_count(total.getCancel_count() + vo.getCancel_count());
+            total.setSignup_count(total.getSignup_count() + vo.getSignup_count());
+        }
+
+        model.addAttribute("from", period[0]);
+        model.addAttribute("to", period[1]);
+        model.addAttribute("daily_list", daily_list);
+        model.addAttribute("total", total);
+        // 반환 타입이 void이므로, 요청 경로와 동일한 뷰(/templates/admin/statist/order_statist.html) 렌더링
+    }
+
+    /**
+     * 기간별 카테고리/상품 매출 페이지
+     *
+     * GET /admin/statist/static_sale_all?from=2025-05-01&to=2025-05-31
+     *
+     * @param from 시작일 (없으면 종료일 30일 전)
+     * @param to 종료일 (없으면 오늘)
+     * @param model 뷰에 데이터 전달
+     * @throws Exception 예외 발생 시
+     */
+    @GetMapping("/static_sale_all")
+    public void static_sale_all(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                Model model) throws Exception {
+        LocalDate[] period = period(from, to);
+
+        model.addAttribute("from", period[0]);
+        model.addAttribute("to", period[1]);
+        model.addAttribute("category_list", adStatisticsService.getCategorySales(period[0], period[1]));
+        model.addAttribute("product_list", adStatisticsService.getProductSales(period[0], period[1], TOP_PRODUCTS));
+        // 반환 타입이 void이므로, 요청 경로와 동일한 뷰(/templates/admin/statist/static_sale_all.html) 렌더링
+    }
+
+    /**
+     * 메모리에 모인 증가분을 바로 저장 (새로 고침)
+     *
+     * POST /admin/statist/flush
+     *
+     * @param redirect 돌아갈 통계 페이지 (order_statist, static_sale_all)
+     * @return 통계 페이지로 리다이렉트
+     * @throws Exception 예외 발생 시
+     */
+    @PostMapping("/flush")
+    public String flush(@RequestParam(defaultValue = "order_statist") String redirect) throws Exception {
+        adStatisticsService.flush();
+        return "redirect:/admin/statist/" + page(redirect);
+    }
+
+    /**
+     * 기간 재집계 (원본 주문/회원 테이블 기준)
+     *
+     * POST /admin/statist/rebuild
+     * - 통계 도입 전 데이터 반영, 비정상 종료로 유실된 증가분 복구에 사용
+     *
+     * @param from 시작일
+     * @param to 종료일
+     * @param redirect 돌아갈 통계 페이지 (order_statist, static_sale_all)
+     * @param rttr 리다이렉트 시 1회성 메시지 전달
+     * @return 통계 페이지로 리다이렉트
+     * @throws Exception 예외 발생 시
+     */
+    @PostMapping("/rebuild")
+    public String rebuild(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                          @RequestParam(defaultValue = "order_statist") String redirect,
+                          RedirectAttributes rttr) throws Exception {
+        LocalDate[] period = period(from, to);
+        adStatisticsService.rebuild(period[0], period[1]);
+        log.info("통계 재집계: {} ~ {}", period[0], period[1]);
+
+        rttr.addFlashAttribute("msg", "rebuild");
+        rttr.addAttribute("from", period[0]);
+        rttr.addAttribute("to", period[1]);
+        return "redirect:/admin/statist/" + page(redirect);
+    }
+
+    // 조회 기간 보정 (기본값, 순서, 최대 일 수)
+    private static LocalDate[] period(LocalDate from, LocalDate to) {
+        if(to == null) {
+            to = LocalDate.now();
+        }
+        if(from == null) {
+            from = to.minusDays(DEFAULT_DAYS - 1);
+        }
+        if(from.isAfter(to)) {
+            LocalDate tmp = from;
+            from = to;
+            to = tmp;
+        }
+        if(ChronoUnit.DAYS.between(from, to) >= AdStatisticsService.MAX_DAYS) {
+            from = to.minusDays(AdStatisticsService.MAX_DAYS - 1);
+        }
+        return new LocalDate[] {from, to};
+    }
+
+    // 리다이렉트 대상은 통계 페이지로만 제한
+    private static String page(String redirect) {
+        return "static_sale_all".equals(redirect) ? "static_sale_all" : "order_statist";
+    }
 }
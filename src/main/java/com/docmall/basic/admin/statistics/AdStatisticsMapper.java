@@ -0,0 +1,108 @@
+package com.docmall.basic.admin.statistics;
+
+import java.util.Date;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 통계 집계 테이블(stat_*_tbl) 작업을 담당하는 MyBatis 매퍼 인터페이스입니다.
+ *
+ * - 이 인터페이스의 메서드는 resources/mapper/AdStatisticsMapper.xml의 SQL과 매핑됩니다.
+ * - 집계 값 저장은 "있으면 더하기" upsert(insert ... on duplicate key update)로 처리합니다.
+ * - 화면 조회는 집계 테이블만 읽으므로 주문 수와 관계없이 조회 기간(일 수)만큼만 읽습니다.
+ * - rebuild_* 조회만 원본 테이블(order_tbl, mbsp_tbl)을 group by 하며, 관리자가 재집계할 때만 사용합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+public interface AdStatisticsMapper {
+
+    /**
+     * 일별 통계 더하기 (없으면 추가)
+     *
+     * @param vo 더할 값
+     */
+    void upsertDaily(DailyStatVO vo);
+
+    /**
+     * 일별 카테고리 매출 더하기 (없으면 추가)
+     *
+     * @param vo 더할 값
+     */
+    void upsertCategory(SalesStatVO vo);
+
+    /**
+     * 일별 상품 매출 더하기 (없으면 추가)
+     *
+     * @param vo 더할 값
+     */
+    void upsertProduct(SalesStatVO vo);
+
+    /**
+     * 기간의 일별 통계 조회 (날짜 순)
+     *
+     * @param from 시작일(포함)
+     * @param to 종료일(포함)
+     * @return 일별 통계 (집계 값이 없는 날은 제외)
+     */
+    List<DailyStatVO> getDaily(@Param("from") Date from, @Param("to") Date to);
+
+    /**
+     * 기간의 카테고리별 매출 합계 (매출 순)
+     *
+     * @param from 시작일(포함)
+     * @param to 종료일(포함)
+     * @return 카테고리별 매출
+     */
+    List<SalesStatVO> getCategorySales(@Param("from") Date from, @Param("to") Date to);
+
+    /**
+     * 기간의 상품별 매출 합계 상위 목록 (매출 순)
+     *
+     * @param from 시작일(포함)
+     * @param to 종료일(포함)
+     * @param limit 최대 상품 수
+     * @return 상품별 매출
+     */
+    List<SalesStatVO> getProductSales(@Param("from") Date from, @Param("to") Date to, @Param("limit") int limit);
+
+    /**
+     * 기간의 집계 값 삭제 (재집계 전)
+     *
+     * @param from 시작일(포함)
+     * @param to 종료일(포함)
+     */
+    void deleteDaily(@Param("from") Date from, @Param("to") Date to);
+
+    void deleteCategory(@Param("from") Date from, @Param("to") Date to);
+
+    void deleteProduct(@Param("from") Date from, @Param("to") Date to);
+
+    /**
+     * 재집계: 원본 주문에서 일별 주문 수/취소 수 계산
+     *
+     * @param from 시작 시각(포함, 시작일 0시)
+     * @param until 종료 시각(제외, 종료일 다음 날 0시)
+     * @return 일별 주문 수, 취소 수
+     */
+    List<DailyStatVO> rebuild_orders(@Param("from") Date from, @Param("until") Date until);
+
+    /**
+     * 재집계: 원본 주문 상품에서 일별 상품 매출 계산 (취소 주문 제외)
+     *
+     * @param from 시작 시각(포함, 시작일 0시)
+     * @param until 종료 시각(제외, 종료일 다음 날 0시)
+     * @return 일별 상품 매출
+     */
+    List<SalesStatVO> rebuild_products(@Param("from") Date from, @Param("until") Date until);
+
+    /**
+     * 재집계: 회원 테이블에서 일별 가입자 수 계산
+     *
+     * @param from 시작 시각(포함, 시작일 0시)
+     * @param until 종료 시각(제외, 종료일 다음 날 0시)
+     * @return 일별 가입자 수
+     */
+    List<DailyStatVO> rebuild_signups(@Param("from") Date from, @Param("until") Date until);
+}
@@ -0,0 +1,80 @@
+package com.docmall.basic.admin.statistics;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 통계 화면 비즈니스 로직을 처리하는 서비스 클래스입니다.
+ *
+ * - 조회는 집계 테이블(stat_*_tbl)만 읽습니다. (원본 주문 테이블 group by 없음)
+ * - 집계 테이블 갱신은 SalesRollup이 주문/회원 이벤트로 처리합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@RequiredArgsConstructor // Lombok: final 필드에 대한 생성자 자동 생성
+@Service // 해당 클래스가 서비스 계층(비즈니스 로직)임을 명시
+public class AdStatisticsService {
+
+    // 조회 기간의 최대 일 수 (너무 긴 기간은 잘라냄)
+    public static final int MAX_DAYS = 366;
+
+    private final AdStatisticsMapper adStatisticsMapper;
+    private final SalesRollup salesRollup;
+
+    /**
+     * 일별 통계 조회
+     *
+     * @param from 시작일(포함)
+     * @param to 종료일(포함)
+     * @return 일별 통계 (날짜 순)
+     */
+    public List<DailyStatVO> getDaily(LocalDate from, LocalDate to) {
+        return adStatisticsMapper.getDaily(Date.valueOf(from), Date.valueOf(to));
+    }
+
+    /**
+     * 카테고리별 매출 조회
+     *
+     * @param from 시작일(포함)
+     * @param to 종료일(포함)
+     * @return 카테고리별 매출 (매출 순)
+     */
+    public List<SalesStatVO> getCategorySales(LocalDate from, LocalDate to) {
+        return adStatisticsMapper.getCategorySales(Date.valueOf(from), Date.valueOf(to));
+    }
+
+    /**
+     * 상품별 매출 상위 목록 조회
+     *
+     * @param from 시작일(포함)
+     * @param to 종료일(포함)
+     * @param limit 최대 상품 수
+     * @return 상품별 매출 (매출 순)
+     */
+    public List<SalesStatVO> getProductSales(LocalDate from, LocalDate to, int limit) {
+        return adStatisticsMapper.getProductSales(Date.valueOf(from), Date.valueOf(to), limit);
+    }
+
+    /**
+     * 메모리에 모인 증가분을 바로 저장 (통계 화면 "새로 고침")
+     */
+    public void flush() {
+        salesRollup.flush();
+    }
+
+    /**
+     * 기간 재집계 (원본 테이블 기준)
+     *
+     * @param from 시작일(포함)
+     * @param to 종료일(포함)
+     */
+    public void rebuild(LocalDate from, LocalDate to) {
+        salesRollup.rebuild(from, to);
+    }
+}
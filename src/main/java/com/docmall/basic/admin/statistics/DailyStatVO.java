@@ -0,0 +1,40 @@
+package com.docmall.basic.admin.statistics;
+
+import java.util.Date;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 일별 통계(stat_daily_tbl) 1행을 담는 VO 클래스입니다.
+ *
+ * - 주문 수/판매 수량/매출은 취소된 주문을 뺀 값이며, 취소된 주문 수는 cancel_count에 따로 집계합니다.
+ * - 가입자 수는 회원 가입일(mbsp_datesub) 기준입니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Getter // Lombok: 모든 필드의 getter 메서드 자동 생성
+@Setter // Lombok: 모든 필드의 setter 메서드 자동 생성
+@ToString // Lombok: toString() 메서드 자동 생성
+public class DailyStatVO {
+
+    /** 집계 날짜 */
+    private Date stat_date;
+
+    /** 주문 수 */
+    private int order_count;
+
+    /** 판매 수량 */
+    private int item_count;
+
+    /** 매출 (할인 적용 단가 × 수량의 합) */
+    private long sales_price;
+
+    /** 취소된 주문 수 */
+    private int cancel_count;
+
+    /** 가입자 수 */
+    private int signup_count;
+}
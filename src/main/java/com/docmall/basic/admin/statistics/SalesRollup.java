@@ -0,0 +1,358 @@
+package com.docmall.basic.admin.statistics;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.docmall.basic.member.MemberJoinedEvent;
+import com.docmall.basic.order.OrderCanceledEvent;
+import com.docmall.basic.order.OrderDetailVO;
+import com.docmall.basic.order.OrderPlacedEvent;
+import com.docmall.basic.order.OrderVO;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문/회원 이벤트로 통계 집계 테이블을 갱신하는 클래스입니다.
+ *
+ * - 주문 저장(OrderPlacedEvent), 주문 취소(OrderCanceledEvent), 회원 가입(MemberJoinedEvent)이 커밋되면
+ *   날짜별/카테고리별/상품별 증가분을 메모리 카운터(LongAdder)에 더하기만 합니다. (요청 처리 시간에 DB 작업 없음)
+ * - 작업 스레드가 주기적으로(com.docmall.statistics.flush-seconds) 모인 증가분을 집계 테이블에 upsert 합니다.
+ *   주문마다 같은 날짜 행을 update 하지 않으므로, 주문이 몰려도 집계 행 잠금 경합이 생기지 않습니다.
+ * - 저장에 실패하면 증가분을 다시 메모리에 합쳐 다음 주기에 재시도합니다.
+ *   애플리케이션 종료 시 남은 증가분을 저장합니다. (비정상 종료 시 유실분은 재집계로 복구)
+ * - 주문 취소는 주문일의 주문 수/판매 수량/매출에서 빼고, 취소 수에 더합니다.
+ * - 재집계(rebuild): 기간의 집계 값을 원본 테이블에서 다시 계산합니다. (도입 전 데이터, 유실 복구용)
+ * - 메트릭: docmall.statistics.pending(저장 대기 행 수), docmall.statistics.flush(저장 시간)
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
+@RequiredArgsConstructor // Lombok: final 필드 생성자 자동 생성(의존성 주입)
+@Component // 스프링 부트가 시작되면 Bean으로 등록됨
+public class SalesRollup {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final AdStatisticsMapper adStatisticsMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    // 메모리 증가분을 집계 테이블에 저장하는 주기(초)
+    @Value("${com.docmall.statistics.flush-seconds:5}")
+    private long flushSeconds;
+
+    // 지표별 증가분
+    private static final class Counters {
+        final LongAdder orders = new LongAdder();
+        final LongAdder items = new LongAdder();
+        final LongAdder sales = new LongAdder();
+        final LongAdder cancels = new LongAdder();
+        final LongAdder signups = new LongAdder();
+
+        void addAll(Counters other) {
+            orders.add(other.orders.sum());
+            items.add(other.items.sum());
+            sales.add(other.sales.sum());
+            cancels.add(other.cancels.sum());
+            signups.add(other.signups.sum());
+        }
+    }
+
+    private record CategoryKey(LocalDate date, Integer cate_code) {
+    }
+
+    private record ProductKey(LocalDate date, Integer pro_num, Integer cate_code) {
+    }
+
+    // 다음 저장 때까지 모이는 증가분 (저장할 때 새 Buckets로 교체)
+    private static final class Buckets {
+        final Map<LocalDate, Counters> daily = new ConcurrentHashMap<>();
+        final Map<CategoryKey, Counters> category = new ConcurrentHashMap<>();
+        final Map<ProductKey, Counters> product = new ConcurrentHashMap<>();
+
+        int size() {
+            return daily.size() + category.size() + product.size();
+        }
+    }
+
+    // 증가분 기록(읽기 잠금, 동시 실행)과 Buckets 교체(쓰기 잠금)를 구분
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    // 저장/재집계는 한 번에 하나만
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private volatile Buckets current = new Buckets();
+
+    private TransactionTemplate transactionTemplate;
+    private ScheduledExecutorService scheduler;
+    private Timer flushTimer;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        flushTimer = Timer.builder("docmall.statistics.flush")
+                          .description("통계 증가분 저장 시간")
+                          .register(meterRegistry);
+        Gauge.builder("docmall.statistics.pending", this, r -> r.current.size())
+             .description("저장 대기 중인 통계 행 수")
+             .register(meterRegistry);
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "statistics-flush");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushSeconds, flushSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        flushQuietly();
+    }
+
+    /** 주문 저장 → 주문일 집계에 더하기 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        addOrder(event.order(), 1);
+    }
+
+    /** 주문 취소 → 주문일 집계에서 빼고 취소 수 더하기 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCanceled(OrderCanceledEvent event) {
+        addOrder(event.order(), -1);
+    }
+
+    /** 회원 가입 → 가입일 가입자 수 더하기 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberJoined(MemberJoinedEvent event) {
+        LocalDate date = toLocalDate(event.joinDate());
+        swapLock.readLock().lock();
+        try {
+            current.daily.computeIfAbsent(date, k -> new Counters()).signups.increment();
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private void addOrder(OrderVO order, int sign) {
+        LocalDate date = toLocalDate(order.getOrd_regdate());
+        swapLock.readLock().lock();
+        try {
+            Buckets buckets = current;
+            Counters daily = buckets.daily.computeIfAbsent(date, k -> new Counters());
+            long items = 0;
+            for(OrderDetailVO detail : order.getDetails()) {
+                long price = (long) detail.getDt_price() * detail.getDt_amount();
+                Integer cate_code = detail.getCate_code() != null ? detail.getCate_code() : 0;
+
+                Counters category = buckets.category.computeIfAbsent(new CategoryKey(date, cate_code), k -> new Counters());
+                category.items.add(sign * detail.getDt_amount());
+                category.sales.add(sign * price);
+
+                Counters product = buckets.product.computeIfAbsent(
+                        new ProductKey(date, detail.getPro_num(), cate_code), k -> new Counters());
+                product.items.add(sign * detail.getDt_amount());
+                product.sales.add(sign * price);
+
+                items += detail.getDt_amount();
+            }
+            daily.orders.add(sign);
+            daily.items.add(sign * items);
+            daily.sales.add((long) sign * order.getOrd_price());
+            if(sign < 0) {
+                daily.cancels.increment();
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모인 증가분을 집계 테이블에 저장합니다. (주기 실행, 통계 화면에서 즉시 반영할 때)
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            Buckets pending = swap();
+            if(pending.size() == 0) {
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(pending));
+            } catch(RuntimeException ex) {
+                // 다음 주기에 다시 저장
+                merge(pending);
+                throw ex;
+            } finally {
+                flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch(RuntimeException ex) {
+            log.warn("통계 저장 실패 (다음 주기에 재시도): {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * 기간의 집계 값을 원본 테이블(order_tbl, order_detail_tbl, mbsp_tbl)에서 다시 계산합니다.
+     *
+     * - 메모리에 있던 기간 내 증가분은 원본에 이미 반영되어 있으므로 버립니다.
+     * - 원본 테이블을 group by 하므로 주문이 적은 시간에 실행합니다.
+     *
+     * @param from 시작일(포함)
+     * @param to 종료일(포함)
+     */
+    public void rebuild(LocalDate from, LocalDate to) {
+        flushLock.lock();
+        try {
+            // 기간 밖 증가분은 먼저 저장, 기간 안 증가분은 버림
+            Buckets pending = swap();
+            pending.daily.keySet().removeIf(date -> inRange(date, from, to));
+            pending.category.keySet().removeIf(key -> inRange(key.date(), from, to));
+            pending.product.keySet().removeIf(key -> inRange(key.date(), from, to));
+
+            Date fromDate = Date.valueOf(from);
+            Date toDate = Date.valueOf(to);
+            Date until = Date.valueOf(to.plusDays(1));
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    write(pending);
+
+                    adStatisticsMapper.deleteDaily(fromDate, toDate);
+                    adStatisticsMapper.deleteCategory(fromDate, toDate);
+                    adStatisticsMapper.deleteProduct(fromDate, toDate);
+
+                    Buckets rebuilt = new Buckets();
+                    for(DailyStatVO vo : adStatisticsMapper.rebuild_orders(fromDate, until)) {
+                        Counters daily = rebuilt.daily.computeIfAbsent(toLocalDate(vo.getStat_date()), k -> new Counters());
+                        daily.orders.add(vo.getOrder_count());
+                        daily.cancels.add(vo.getCancel_count());
+                    }
+                    for(SalesStatVO vo : adStatisticsMapper.rebuild_products(fromDate, until)) {
+                        LocalDate date = toLocalDate(vo.getStat_date());
+                        rebuilt.product.computeIfAbsent(new ProductKey(date, vo.getPro_num(), vo.getCate_code()), k -> new Counters())
+                                       .addAll(counters(vo));
+                        rebuilt.category.computeIfAbsent(new CategoryKey(date, vo.getCate_code()), k -> new Counters())
+                                        .addAll(counters(vo));
+                        rebuilt.daily.computeIfAbsent(date, k -> new Counters()).addAll(counters(vo));
+                    }
+                    for(DailyStatVO vo : adStatisticsMapper.rebuild_signups(fromDate, until)) {
+                        rebuilt.daily.computeIfAbsent(toLocalDate(vo.getStat_date()), k -> new Counters())
+                                     .signups.add(vo.getSignup_count());
+                    }
+                    write(rebuilt);
+                });
+            } catch(RuntimeException ex) {
+                merge(pending);
+                throw ex;
+            }
+            log.info("통계 재집계 완료: {} ~ {}", from, to);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 현재 증가분을 꺼내고 새 Buckets로 교체 (기록 중인 스레드가 끝날 때까지 대기)
+    private Buckets swap() {
+        swapLock.writeLock().lock();
+        try {
+            Buckets pending = current;
+            current = new Buckets();
+            return pending;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    // 저장에 실패한 증가분을 현재 Buckets에 다시 합침
+    private void merge(Buckets pending) {
+        swapLock.readLock().lock();
+        try {
+            Buckets buckets = current;
+            pending.daily.forEach((k, v) -> buckets.daily.computeIfAbsent(k, x -> new Counters()).addAll(v));
+            pending.category.forEach((k, v) -> buckets.category.computeIfAbsent(k, x -> new Counters()).addAll(v));
+            pending.product.forEach((k, v) -> buckets.product.computeIfAbsent(k, x -> new Counters()).addAll(v));
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private void write(Buckets buckets) {
+        buckets.daily.forEach((date, c) -> {
+            DailyStatVO vo = new DailyStatVO();
+            vo.setStat_date(Date.valueOf(date));
+            vo.setOrder_count(c.orders.intValue());
+            vo.setItem_count(c.items.intValue());
+            vo.setSales_price(c.sales.sum());
+            vo.setCancel_count(c.cancels.intValue());
+            vo.setSignup_count(c.signups.intValue());
+            adStatisticsMapper.upsertDaily(vo);
+        });
+        buckets.category.forEach((key, c) -> adStatisticsMapper.upsertCategory(
+                salesStat(key.date(), key.cate_code(), null, c)));
+        buckets.product.forEach((key, c) -> adStatisticsMapper.upsertProduct(
+                salesStat(key.date(), key.cate_code(), key.pro_num(), c)));
+    }
+
+    private static SalesStatVO salesStat(LocalDate date, Integer cate_code, Integer pro_num, Counters c) {
+        SalesStatVO vo = new SalesStatVO();
+        vo.setStat_date(Date.valueOf(date));
+        vo.setCate_code(cate_code);
+        vo.setPro_num(pro_num);
+        vo.setItem_count(c.items.intValue());
+        vo.setSales_price(c.sales.sum());
+        return vo;
+    }
+
+    private static Counters counters(SalesStatVO vo) {
+        Counters c = new Counters();
+        c.items.add(vo.getItem_count());
+        c.sales.add(vo.getSales_price());
+        return c;
+    }
+
+    private static boolean inRange(LocalDate date, LocalDate from, LocalDate to) {
+        return !date.isBefore(from) && !date.isAfter(to);
+    }
+
+    private static LocalDate toLocalDate(java.util.Date date) {
+        if(date == null) {
+            return LocalDate.now(ZONE);
+        }
+        if(date instanceof Date sqlDate) {
+            return sqlDate.toLocalDate();
+        }
+        return date.toInstant().atZone(ZONE).toLocalDate();
+    }
+}
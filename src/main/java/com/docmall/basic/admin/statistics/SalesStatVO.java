@@ -0,0 +1,43 @@
+package com.docmall.basic.admin.statistics;
+
+import java.util.Date;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 카테고리별/상품별 매출 통계 1행을 담는 VO 클래스입니다.
+ *
+ * - stat_category_daily_tbl, stat_product_daily_tbl 저장과 기간별 합계 조회에 함께 사용합니다.
+ *   (카테고리별 집계에서는 pro_num, pro_name이 비어 있음)
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Getter // Lombok: 모든 필드의 getter 메서드 자동 생성
+@Setter // Lombok: 모든 필드의 setter 메서드 자동 생성
+@ToString // Lombok: toString() 메서드 자동 생성
+public class SalesStatVO {
+
+    /** 집계 날짜 (기간별 합계 조회에서는 비어 있음) */
+    private Date stat_date;
+
+    /** 카테고리 코드 */
+    private Integer cate_code;
+
+    /** 카테고리명 (조회용) */
+    private String cate_name;
+
+    /** 상품 번호 */
+    private Integer pro_num;
+
+    /** 상품명 (조회용) */
+    private String pro_name;
+
+    /** 판매 수량 */
+    private int item_count;
+
+    /** 매출 */
+    private long sales_price;
+}
@@ -0,0 +1,61 @@
+package com.docmall.basic.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.docmall.basic.common.utils.ImageCache;
+import com.docmall.basic.member.MemberCache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 애플리케이션 메트릭(Micrometer) 등록 설정 클래스입니다.
+ *
+ * - 스프링 부트 Actuator가 자동으로 등록하는 메트릭
+ *   · http.server.requests: 컨트롤러 요청별 처리 시간 (uri, method, status 태그)
+ *   · hikaricp.connections.*: 커넥션 풀 사용/대기/획득 시간
+ *   · jvm.*, process.*, tomcat.*: JVM, 프로세스, 톰캣 스레드
+ * - 이 클래스에서 등록하는 메트릭
+ *   · cache.*: 이미지 캐시(cache=image), 회원 캐시(cache=member)의 적중/부재/제거 수
+ *   · docmall.image.cache.bytes: 이미지 캐시가 사용 중인 메모리(byte)
+ * - 매퍼 문장별 메트릭은 MybatisConfig, 썸네일/파일 전송 메트릭은 ThumbnailGenerator/FileUtils에서 등록합니다.
+ * - 출력: GET /actuator/prometheus (Prometheus 형식)
+ *
+ * 공식 문서: https://docs.spring.io/spring-boot/reference/actuator/metrics.html
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Configuration // 스프링 설정 클래스임을 명시
+public class MetricsConfig {
+
+    /**
+     * 이미지 캐시 메트릭 등록
+     *
+     * @param imageCache 이미지 메모리 캐시
+     * @return MeterBinder
+     */
+    @Bean
+    MeterBinder imageCacheMetrics(ImageCache imageCache) {
+        return registry -> {
+            CaffeineCacheMetrics.monitor(registry, imageCache.getCache(), "image");
+            Gauge.builder("docmall.image.cache.bytes", imageCache, ImageCache::getWeightedSize)
+                 .description("이미지 캐시가 사용 중인 메모리")
+                 .baseUnit("bytes")
+                 .register(registry);
+        };
+    }
+
+    /**
+     * 회원 캐시 메트릭 등록
+     *
+     * @param memberCache 회원 정보 캐시
+     * @return MeterBinder
+     */
+    @Bean
+    MeterBinder memberCacheMetrics(MemberCache memberCache) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, memberCache.getCache(), "member");
+    }
+}
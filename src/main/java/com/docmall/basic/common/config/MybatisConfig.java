@@ -0,0 +1,68 @@
+package com.docmall.basic.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.docmall.basic.common.mybatis.MapperMetricsInterceptor;
+import com.docmall.basic.common.mybatis.SlowQueryInterceptor;
+import com.docmall.basic.common.mybatis.SqlTraceInterceptor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * MyBatis 플러그인(Interceptor) 빈(Bean) 등록 설정 클래스입니다.
+ *
+ * - mybatis-spring-boot-starter는 Interceptor 타입의 빈을 찾아 SqlSessionFactory에 자동으로 등록합니다.
+ * - 매퍼 문장별 실행 시간 메트릭(MapperMetricsInterceptor)은 항상 등록됩니다.
+ * - 문장별 통계/느린 쿼리 수집(SlowQueryInterceptor)은 항상 등록됩니다. (관리자 화면에서 조회)
+ * - SQL 추적(SqlTraceInterceptor)은 com.docmall.sql-trace.enabled=true일 때만 등록됩니다.
+ *
+ * 공식 문서: https://mybatis.org/mybatis-3/configuration.html#plugins
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Configuration // 스프링 설정 클래스임을 명시
+public class MybatisConfig {
+
+    /**
+     * 매퍼 문장별 실행 시간 메트릭 플러그인 등록
+     *
+     * @param registry Micrometer 메트릭 레지스트리
+     * @return MapperMetricsInterceptor
+     */
+    @Bean
+    MapperMetricsInterceptor mapperMetricsInterceptor(MeterRegistry registry) {
+        return new MapperMetricsInterceptor(registry);
+    }
+
+    /**
+     * 문장별 통계/느린 쿼리 수집 플러그인 등록
+     *
+     * @param thresholdMs 느린 쿼리 기준 시간(ms, com.docmall.slow-query.threshold-ms)
+     * @param topN 보관할 느린 실행 수(com.docmall.slow-query.top-n)
+     * @param windowMinutes 느린 실행 보관 기간(분, com.docmall.slow-query.window-minutes)
+     * @return SlowQueryInterceptor
+     */
+    @Bean
+    SlowQueryInterceptor slowQueryInterceptor(
+            @Value("${com.docmall.slow-query.threshold-ms:200}") long thresholdMs,
+            @Value("${com.docmall.slow-query.top-n:50}") int topN,
+            @Value("${com.docmall.slow-query.window-minutes:60}") long windowMinutes) {
+        return new SlowQueryInterceptor(thresholdMs, topN, windowMinutes);
+    }
+
+    /**
+     * 샘플링 SQL 추적 플러그인 등록
+     *
+     * @param sampleRate 추적할 비율(0~1, com.docmall.sql-trace.sample-rate)
+     * @return SqlTraceInterceptor
+     */
+    @Bean
+    @ConditionalOnProperty(name = "com.docmall.sql-trace.enabled", havingValue = "true")
+    SqlTraceInterceptor sqlTraceInterceptor(@Value("${com.docmall.sql-trace.sample-rate:0.01}") double sampleRate) {
+        return new SqlTraceInterceptor(sampleRate);
+    }
+}
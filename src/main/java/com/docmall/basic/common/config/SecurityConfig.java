@@ -1,5 +1,6 @@
 package com.docmall.basic.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -12,6 +13,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
  * - BCryptPasswordEncoder는 BCrypt 해시 알고리즘을 사용해 강력한 암호화를 제공합니다.
  * - @Bean으로 등록하면, 프로젝트 전체에서 의존성 주입(@Autowired, @RequiredArgsConstructor 등)으로 사용할 수 있습니다.
  * - 별도의 Spring Security 전체 설정 없이, 비밀번호 암호화 기능만 사용할 때도 이 방식이 표준입니다.
+ * - 해시 비용(strength)은 com.docmall.security.bcrypt-strength로 설정합니다.
+ *   값을 올리면 이전 비용으로 저장된 비밀번호는 다음 로그인 때 새 비용으로 다시 저장됩니다. (PasswordVerifier)
  *
  * 공식 문서: https://docs.spring.io/spring-security/reference/features/authentication/password-storage.html
  *
@@ -27,11 +30,13 @@ public class SecurityConfig {
      * - BCryptPasswordEncoder는 비밀번호를 해시(암호화)하고, 
      *   matches() 메서드로 평문과 해시값을 비교할 수 있습니다.
      * - 회원가입, 로그인 등에서 안전하게 비밀번호를 처리할 때 사용합니다.
+     * - strength가 1 오를 때마다 해시 1회 시간이 2배가 됩니다. (기본 10)
      *
+     * @param strength BCrypt 비용(4~31, com.docmall.security.bcrypt-strength)
      * @return PasswordEncoder 구현체(BCrypt)
      */
 	@Bean
-	PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	PasswordEncoder passwordEncoder(@Value("${com.docmall.security.bcrypt-strength:10}") int strength) {
+		return new BCryptPasswordEncoder(strength);
 	}
 }
@@ -0,0 +1,102 @@
+package com.docmall.basic.common.mybatis;
+
+import java.time.temporal.Temporal;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+
+/**
+ * 로그/모니터링 화면에 남길 SQL 바인딩 파라미터 문자열을 만드는 클래스입니다. (느린 쿼리, SQL 추적에서 사용)
+ *
+ * - BoundSql의 ? 순서대로 "이름=값" 목록을 만듭니다. (DefaultParameterHandler와 같은 방식으로 값 조회)
+ * - 값은 기본적으로 가립니다(****). 아래 경우만 그대로 남깁니다.
+ *   · 숫자/날짜/참·거짓/enum 값 (번호, 수량, 가격, 페이징, 기간 조건)
+ *   · 문자열은 STRING_ALLOWLIST에 있는 파라미터만 (아이디, 상태값, 검색어 등 개인정보/비밀값이 아닌 것)
+ * - 비밀번호(password, passwd), 메일 템플릿 값(mq_param: 임시 비밀번호 포함)은 값의 형식과 관계없이 가립니다.
+ * - 새 매퍼 파라미터는 따로 등록하지 않으면 가려지므로, 평문 개인정보가 로그에 새어 나가지 않습니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+final class BoundParameters {
+
+    private static final String MASK = "****";
+
+    // 그대로 남겨도 되는 문자열 파라미터 (이름의 마지막 부분 기준, 예: vo.mbsp_id → mbsp_id)
+    private static final Set<String> STRING_ALLOWLIST = Set.of(
+            "mbsp_id", "ad_userid", "keyword", "cursor", "status", "owner",
+            "mq_template", "mq_status", "pro_buy", "pro_up_folder", "pro_img", "mbsp_receive");
+
+    // 형식과 관계없이 항상 가리는 파라미터
+    private static final Set<String> ALWAYS_MASKED = Set.of("mq_param");
+
+    private BoundParameters() {
+    }
+
+    /**
+     * 바인딩 파라미터를 "이름=값, ..." 형식으로 만듭니다. (허용되지 않은 값은 ****)
+     *
+     * @param configuration MyBatis 설정
+     * @param boundSql 실행된 SQL
+     * @param parameter 매퍼에 전달된 파라미터
+     * @return 파라미터 문자열 (파라미터가 없으면 빈 문자열)
+     */
+    static String describe(Configuration configuration, BoundSql boundSql, Object parameter) {
+        List<ParameterMapping> mappings = boundSql.getParameterMappings();
+        if(mappings == null || mappings.isEmpty()) {
+            return "";
+        }
+        MetaObject metaObject = null;
+        StringBuilder sb = new StringBuilder();
+        for(ParameterMapping mapping : mappings) {
+            if(mapping.getMode() == ParameterMode.OUT) {
+                continue;
+            }
+            String name = mapping.getProperty();
+            Object value;
+            if(boundSql.hasAdditionalParameter(name)) {
+                value = boundSql.getAdditionalParameter(name);
+            } else if(parameter == null) {
+                value = null;
+            } else if(configuration.getTypeHandlerRegistry().hasTypeHandler(parameter.getClass())) {
+                value = parameter;
+            } else {
+                if(metaObject == null) {
+                    metaObject = configuration.newMetaObject(parameter);
+                }
+                value = metaObject.getValue(name);
+            }
+
+            if(sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(name).append('=').append(isVisible(name, value) ? value : MASK);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 값을 그대로 남겨도 되는 파라미터인지 여부
+     *
+     * @param name 파라미터 이름 (vo.mbsp_id, __frch_item_0 등)
+     * @param value 바인딩 값
+     * @return 그대로 남겨도 되면 true
+     */
+    static boolean isVisible(String name, Object value) {
+        String key = name.substring(name.lastIndexOf('.') + 1).toLowerCase();
+        if(key.contains("password") || key.contains("passwd") || ALWAYS_MASKED.contains(key)) {
+            return false;
+        }
+        if(value == null || value instanceof Number || value instanceof Boolean
+                || value instanceof Date || value instanceof Temporal || value instanceof Enum<?>) {
+            return true;
+        }
+        return STRING_ALLOWLIST.contains(key);
+    }
+}
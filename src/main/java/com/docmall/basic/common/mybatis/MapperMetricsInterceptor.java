@@ -0,0 +1,76 @@
+package com.docmall.basic.common.mybatis;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 매퍼 문장(statement)별 실행 시간을 Micrometer 타이머로 기록하는 MyBatis 플러그인입니다.
+ *
+ * - 메트릭 이름: mybatis.statement
+ * - 태그: statement(매퍼 id, 예: com.docmall.basic.admin.product.AdProductMapper.pro_list),
+ *         command(SELECT/INSERT/UPDATE/DELETE), outcome(success/error)
+ * - 히스토그램 여부는 management.metrics.distribution.percentiles-histogram.mybatis.statement로 설정합니다.
+ * - 실행 시간에는 SQL 실행과 결과 매핑이 포함됩니다. (커넥션 획득은 hikaricp.connections.acquire 참고)
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+    @Signature(type = Executor.class, method = "query",
+               args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+               args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+})
+public class MapperMetricsInterceptor implements Interceptor {
+
+    public static final String METRIC_NAME = "mybatis.statement";
+
+    private final MeterRegistry registry;
+
+    // 매퍼 id + 결과 → 타이머 (호출마다 레지스트리 조회를 하지 않도록 보관)
+    private final ConcurrentHashMap<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public MapperMetricsInterceptor(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            Object result = invocation.proceed();
+            outcome = "success";
+            return result;
+        } finally {
+            timer(ms, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(MappedStatement ms, String outcome) {
+        return timers.computeIfAbsent(ms.getId() + "|" + outcome, key ->
+                Timer.builder(METRIC_NAME)
+                     .description("MyBatis 매퍼 문장 실행 시간")
+                     .tag("statement", ms.getId())
+                     .tag("command", ms.getSqlCommandType().name())
+                     .tag("outcome", outcome)
+                     .register(registry));
+    }
+}
@@ -0,0 +1,238 @@
+package com.docmall.basic.common.mybatis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 매퍼 문장(statement)별 실행 통계와 느린 쿼리(slow query)를 수집하는 MyBatis 플러그인입니다.
+ *
+ * - 문장별: 실행 횟수, 전체/최대 실행 시간, 처리 행 수(조회 결과 건수, 수정된 행 수)
+ * - 기준 시간(thresholdMs) 이상 걸린 실행은 경고 로그를 남기고, 최근 windowMinutes 동안
+ *   가장 느린 topN건을 SQL, 바인딩 파라미터와 함께 보관합니다.
+ * - 느리지 않은 실행은 카운터 갱신만 하므로 부담이 거의 없습니다.
+ *   (SQL 정리, 파라미터 문자열 변환은 느린 실행에서만 수행)
+ * - 파라미터 값은 BoundParameters의 허용 목록(숫자/날짜, 허용된 문자열)만 보관하고 나머지는 가립니다.
+ *   (비밀번호, 메일 템플릿 값(mq_param: 임시 비밀번호) 등은 로그와 관리자 화면에 남지 않음)
+ * - 느린 실행 기록에 실패해도 로그만 남기고, 쿼리 결과나 쿼리가 던진 예외는 그대로 전달합니다.
+ * - 관리자 화면: GET /admin/monitor/slow_query
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
+@Intercepts({
+    @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+    @Signature(type = Executor.class, method = "query",
+               args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+               args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+})
+public class SlowQueryInterceptor implements Interceptor {
+
+    /**
+     * 문장별 실행 통계 (화면 출력용 스냅샷)
+     *
+     * @param statement 매퍼 id
+     * @param count 실행 횟수
+     * @param errors 실패 횟수
+     * @param totalMillis 전체 실행 시간(ms)
+     * @param maxMillis 최대 실행 시간(ms)
+     * @param rows 처리 행 수 합계 (ResultHandler로 받는 조회는 제외)
+     * @param slowCount 기준 시간 이상 걸린 횟수
+     */
+    public record StatementStats(String statement, long count, long errors, double totalMillis,
+                                 double maxMillis, long rows, long slowCount) {
+
+        /** 평균 실행 시간(ms) */
+        public double avgMillis() {
+            return count == 0 ? 0 : totalMillis / count;
+        }
+
+        /** 1회 평균 처리 행 수 */
+        public double avgRows() {
+            return count == 0 ? 0 : (double) rows / count;
+        }
+    }
+
+    /**
+     * 느린 실행 1건
+     *
+     * @param statement 매퍼 id
+     * @param millis 실행 시간(ms)
+     * @param rows 처리 행 수 (알 수 없으면 -1)
+     * @param sql 실행된 SQL (한 줄로 정리)
+     * @param parameters 바인딩 파라미터 (이름=값)
+     * @param executedAt 실행 시각
+     */
+    public record SlowQuery(String statement, double millis, long rows, String sql,
+                            String parameters, Date executedAt) {
+    }
+
+    // 문장별 누적 카운터
+    private static class Counter {
+        final LongAdder count = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+        final LongAdder rows = new LongAdder();
+        final LongAdder slowCount = new LongAdder();
+    }
+
+    // 보관 중인 느린 실행 (nanoTime 기준 기록 시각 포함)
+    private record Slow(SlowQuery query, long nanos, long recordedAt) {
+    }
+
+    private final long thresholdNanos;
+    private final int topN;
+    private final long windowNanos;
+
+    private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    // 가장 빠른 항목이 맨 앞 (topN을 넘으면 맨 앞을 제거)
+    private final PriorityQueue<Slow> slowest = new PriorityQueue<>(Comparator.comparingLong(Slow::nanos));
+
+    /**
+     * @param thresholdMs 느린 쿼리 기준 시간(ms)
+     * @param topN 보관할 느린 실행 수
+     * @param windowMinutes 느린 실행 보관 기간(분)
+     */
+    public SlowQueryInterceptor(long thresholdMs, int topN, long windowMinutes) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        this.topN = Math.max(topN, 1);
+        this.windowNanos = TimeUnit.MINUTES.toNanos(windowMinutes);
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+        Counter counter = counters.computeIfAbsent(ms.getId(), id -> new Counter());
+
+        long start = System.nanoTime();
+        Object result = null;
+        boolean success = false;
+        try {
+            result = invocation.proceed();
+            success = true;
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            long rows = rowCount(result);
+
+            counter.count.increment();
+            counter.totalNanos.add(elapsed);
+            counter.maxNanos.accumulateAndGet(elapsed, Math::max);
+            if(rows > 0) {
+                counter.rows.add(rows);
+            }
+            if(!success) {
+                counter.errors.increment();
+            }
+            if(elapsed >= thresholdNanos) {
+                counter.slowCount.increment();
+                // 기록 실패(SQL/파라미터 변환 오류)가 쿼리 결과나 원래 예외를 가리지 않도록 로그만 남김
+                try {
+                    recordSlow(invocation, ms, elapsed, rows);
+                } catch(RuntimeException ex) {
+                    log.warn("느린 쿼리 기록 실패 [{}]: {}", ms.getId(), ex.toString());
+                }
+            }
+        }
+    }
+
+    /** 문장별 통계 (전체 실행 시간이 긴 순) */
+    public List<StatementStats> getStatementStats() {
+        List<StatementStats> list = new ArrayList<>();
+        counters.forEach((id, c) -> list.add(new StatementStats(id, c.count.sum(), c.errors.sum(),
+                c.totalNanos.sum() / 1_000_000.0, c.maxNanos.get() / 1_000_000.0,
+                c.rows.sum(), c.slowCount.sum())));
+        list.sort(Comparator.comparingDouble(StatementStats::totalMillis).reversed());
+        return list;
+    }
+
+    /** 보관 기간 내 느린 실행 (느린 순) */
+    public List<SlowQuery> getSlowQueries() {
+        List<Slow> list;
+        synchronized(slowest) {
+            purgeExpired(System.nanoTime());
+            list = new ArrayList<>(slowest);
+        }
+        list.sort(Comparator.comparingLong(Slow::nanos).reversed());
+        return list.stream().map(Slow::query).toList();
+    }
+
+    /** 느린 쿼리 기준 시간(ms) */
+    public long getThresholdMs() {
+        return TimeUnit.NANOSECONDS.toMillis(thresholdNanos);
+    }
+
+    /** 통계와 느린 실행 기록 초기화 */
+    public void reset() {
+        counters.clear();
+        synchronized(slowest) {
+            slowest.clear();
+        }
+    }
+
+    // ===== [ 느린 실행 처리 ] =====
+
+    private void recordSlow(Invocation invocation, MappedStatement ms, long elapsed, long rows) {
+        Object parameter = invocation.getArgs()[1];
+        BoundSql boundSql = invocation.getArgs().length == 6
+                ? (BoundSql) invocation.getArgs()[5]
+                : ms.getBoundSql(parameter);
+
+        String sql = boundSql.getSql().replaceAll("\\s+", " ").trim();
+        String parameters = BoundParameters.describe(ms.getConfiguration(), boundSql, parameter);
+        double millis = elapsed / 1_000_000.0;
+
+        log.warn("느린 쿼리 [{}] {}ms rows={} | {} | {}", ms.getId(), String.format("%.1f", millis), rows, sql, parameters);
+
+        long now = System.nanoTime();
+        Slow slow = new Slow(new SlowQuery(ms.getId(), millis, rows, sql, parameters, new Date()), elapsed, now);
+        synchronized(slowest) {
+            purgeExpired(now);
+            if(slowest.size() < topN) {
+                slowest.add(slow);
+            } else if(slowest.peek().nanos() < elapsed) {
+                slowest.poll();
+                slowest.add(slow);
+            }
+        }
+    }
+
+    private void purgeExpired(long now) {
+        slowest.removeIf(slow -> now - slow.recordedAt() > windowNanos);
+    }
+
+    // 조회: 결과 건수, 수정: 영향받은 행 수, ResultHandler 조회(void): -1
+    private long rowCount(Object result) {
+        if(result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if(result instanceof Integer count) {
+            return count;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,77 @@
+package com.docmall.basic.common.mybatis;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 샘플링 방식의 SQL 추적 MyBatis 플러그인입니다.
+ *
+ * - 매퍼 실행(조회/수정) 중 sampleRate 비율만 골라 매퍼 id, 실행 시간, SQL, 파라미터를 로그로 남깁니다.
+ * - 파라미터는 객체 전체(toString)가 아니라 바인딩 값만 BoundParameters로 남기며,
+ *   허용 목록에 없는 문자열(비밀번호, 주소, 연락처 등)은 가립니다. (운영 프로필에서도 켜져 있음)
+ * - log4jdbc(DriverSpy)처럼 모든 SQL과 결과 테이블을 출력하지 않으므로 운영 중에도 켜둘 수 있습니다.
+ * - 로그는 "sql.trace" 로거(INFO)로 출력됩니다.
+ * - MybatisConfig에서 com.docmall.sql-trace.enabled=true일 때만 등록됩니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+    @Signature(type = Executor.class, method = "query",
+               args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+               args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+})
+public class SqlTraceInterceptor implements Interceptor {
+
+    private static final Logger log = LoggerFactory.getLogger("sql.trace");
+
+    // 추적할 비율 (0~1)
+    private final double sampleRate;
+
+    public SqlTraceInterceptor(double sampleRate) {
+        this.sampleRate = Math.max(0, Math.min(1, sampleRate));
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        if(!log.isInfoEnabled() || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return invocation.proceed();
+        }
+
+        MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+        Object parameter = invocation.getArgs()[1];
+
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            long elapsed = (System.nanoTime() - start) / 1_000_000;
+            // 로그 작성 실패(SQL/파라미터 변환 오류)가 쿼리 결과나 원래 예외를 가리지 않도록 함
+            try {
+                BoundSql boundSql = invocation.getArgs().length == 6
+                        ? (BoundSql) invocation.getArgs()[5]
+                        : ms.getBoundSql(parameter);
+                // 여러 줄로 작성된 매퍼 SQL을 한 줄로 정리
+                String sql = boundSql.getSql().replaceAll("\\s+", " ").trim();
+                String parameters = BoundParameters.describe(ms.getConfiguration(), boundSql, parameter);
+                log.info("[{}] {}ms {} | {}", ms.getId(), elapsed, sql, parameters);
+            } catch(RuntimeException ex) {
+                log.warn("SQL 추적 로그 작성 실패 [{}]: {}", ms.getId(), ex.toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.docmall.basic.common.security;
+
+/**
+ * 로그인 비밀번호 확인 작업이 많아 처리하지 못했을 때 발생하는 예외입니다.
+ *
+ * - 비밀번호 확인 대기열이 가득 찼거나, 제한 시간 안에 확인이 끝나지 않은 경우
+ * - 컨트롤러에서는 "잠시 후 다시 시도" 안내로 처리합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+public class LoginBusyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public LoginBusyException(String message) {
+        super(message);
+    }
+
+    public LoginBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,81 @@
+package com.docmall.basic.common.security;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * 로그인한 회원/관리자를 세션에 저장할 때 사용하는 불변 객체입니다.
+ *
+ * - 세션에는 아이디, 이름, 구분(회원/관리자), 로그인 시각만 저장합니다.
+ *   주소, 전화번호 등 회원 정보(MemberVO)와 비밀번호 해시는 세션에 넣지 않고,
+ *   화면에서 필요할 때 아이디로 회원 캐시(MemberCache)를 거쳐 조회합니다.
+ * - 공유 세션 저장소(shared-session 프로필, DB)에 직렬화되어 저장되므로 필드를 작게 유지합니다.
+ *   필드를 추가/변경하면 serialVersionUID를 올려 이전 세션이 잘못 읽히지 않도록 합니다.
+ *
+ * @param id 회원(관리자) 아이디
+ * @param name 화면 표시용 이름 (관리자는 아이디)
+ * @param role 회원/관리자 구분
+ * @param loginTime 로그인 시각(epoch ms)
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+public record LoginPrincipal(String id, String name, Role role, long loginTime) implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // 회원 로그인 정보 세션 속성 이름 (템플릿에서 ${session.login_auth}로 로그인 여부 확인)
+    public static final String MEMBER_SESSION_KEY = "login_auth";
+
+    // 관리자 로그인 정보 세션 속성 이름
+    public static final String ADMIN_SESSION_KEY = "admin_auth";
+
+    /** 회원/관리자 구분 */
+    public enum Role {
+        MEMBER, ADMIN
+    }
+
+    /**
+     * 회원 로그인 정보를 만듭니다.
+     *
+     * @param id 회원 아이디
+     * @param name 회원 이름
+     * @return 로그인 정보
+     */
+    public static LoginPrincipal member(String id, String name) {
+        return new LoginPrincipal(id, name, Role.MEMBER, System.currentTimeMillis());
+    }
+
+    /**
+     * 관리자 로그인 정보를 만듭니다.
+     *
+     * @param id 관리자 아이디
+     * @return 로그인 정보
+     */
+    public static LoginPrincipal admin(String id) {
+        return new LoginPrincipal(id, id, Role.ADMIN, System.currentTimeMillis());
+    }
+
+    /**
+     * 세션에 저장된 회원 로그인 정보를 반환합니다.
+     *
+     * @param session HTTP 세션
+     * @return 회원 로그인 정보, 로그인하지 않았으면 null
+     */
+    public static LoginPrincipal currentMember(HttpSession session) {
+        return session.getAttribute(MEMBER_SESSION_KEY) instanceof LoginPrincipal principal ? principal : null;
+    }
+
+    /**
+     * 세션에 저장된 관리자 로그인 정보를 반환합니다.
+     *
+     * @param session HTTP 세션
+     * @return 관리자 로그인 정보, 로그인하지 않았으면 null
+     */
+    public static LoginPrincipal currentAdmin(HttpSession session) {
+        return session.getAttribute(ADMIN_SESSION_KEY) instanceof LoginPrincipal principal ? principal : null;
+    }
+}
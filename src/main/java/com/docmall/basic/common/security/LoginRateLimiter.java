@@ -0,0 +1,110 @@
+package com.docmall.basic.common.security;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.docmall.basic.common.utils.TokenBucket;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로그인 시도 횟수를 IP별, 아이디별로 제한하는 클래스입니다.
+ *
+ * - IP/아이디마다 토큰 버킷(TokenBucket)을 두고, 로그인 시도 1번에 토큰 1개를 사용합니다.
+ *   토큰이 없으면 비밀번호 확인(BCrypt) 없이 바로 거부합니다.
+ * - IP 제한: 한 곳에서 여러 아이디로 시도하는 대입 공격(credential stuffing)
+ *   아이디 제한: 여러 곳에서 한 아이디의 비밀번호를 맞추려는 시도
+ * - 없는 아이디도 같이 제한합니다. (없는 아이디로 대량 시도하는 경우)
+ * - 버킷은 마지막 시도 후 10분이 지나면 제거되며, 최대 개수(max-keys)를 넘으면 오래된 것부터 제거됩니다.
+ * - 프록시 뒤에서 실행할 때는 server.forward-headers-strategy=native로 실제 클라이언트 IP를 받도록 설정합니다.
+ * - 메트릭: docmall.login.rejected(reason=rate-limit-ip / rate-limit-id)
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@RequiredArgsConstructor // Lombok: final 필드 생성자 자동 생성(의존성 주입)
+@Component // 스프링 부트가 시작되면 Bean으로 등록됨
+public class LoginRateLimiter {
+
+    // 사용하지 않은 버킷 유지 시간
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    private final MeterRegistry meterRegistry;
+
+    // 시도 횟수 제한 사용 여부
+    @Value("${com.docmall.login.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    // IP별 분당 시도 수 / 연속 시도 허용 수
+    @Value("${com.docmall.login.rate-limit.ip-per-minute:30}")
+    private double ipPerMinute;
+
+    @Value("${com.docmall.login.rate-limit.ip-burst:10}")
+    private int ipBurst;
+
+    // 아이디별 분당 시도 수 / 연속 시도 허용 수
+    @Value("${com.docmall.login.rate-limit.id-per-minute:10}")
+    private double idPerMinute;
+
+    @Value("${com.docmall.login.rate-limit.id-burst:5}")
+    private int idBurst;
+
+    // IP, 아이디 각각 보관할 최대 버킷 수
+    @Value("${com.docmall.login.rate-limit.max-keys:100000}")
+    private long maxKeys;
+
+    private Cache<String, TokenBucket> ipBuckets;
+    private Cache<String, TokenBucket> idBuckets;
+
+    private Counter ipRejected;
+    private Counter idRejected;
+
+    @PostConstruct
+    public void init() {
+        ipBuckets = Caffeine.newBuilder().expireAfterAccess(IDLE_TIMEOUT).maximumSize(maxKeys).build();
+        idBuckets = Caffeine.newBuilder().expireAfterAccess(IDLE_TIMEOUT).maximumSize(maxKeys).build();
+        ipRejected = rejectedCounter("rate-limit-ip");
+        idRejected = rejectedCounter("rate-limit-id");
+    }
+
+    private Counter rejectedCounter(String reason) {
+        return Counter.builder("docmall.login.rejected")
+                      .description("비밀번호 확인 전에 거부된 로그인 시도 수")
+                      .tag("reason", reason)
+                      .register(meterRegistry);
+    }
+
+    /**
+     * 로그인 시도를 허용할지 확인합니다. (허용하면 IP, 아이디의 토큰을 1개씩 사용)
+     *
+     * @param ip 클라이언트 IP
+     * @param id 입력한 아이디
+     * @return 허용하면 true, 시도 횟수를 넘었으면 false
+     */
+    public boolean tryAcquire(String ip, String id) {
+        if(!enabled) {
+            return true;
+        }
+        if(ip != null && !ipBuckets.get(ip, key -> new TokenBucket(ipPerMinute / 60, ipBurst)).tryAcquire(1)) {
+            ipRejected.increment();
+            return false;
+        }
+        if(id != null) {
+            // DB(MySQL) 비교가 대소문자를 구분하지 않으므로 아이디도 소문자로 정규화
+            String key = id.trim().toLowerCase(Locale.ROOT);
+            if(!idBuckets.get(key, k -> new TokenBucket(idPerMinute / 60, idBurst)).tryAcquire(1)) {
+                idRejected.increment();
+                return false;
+            }
+        }
+        return true;
+    }
+}
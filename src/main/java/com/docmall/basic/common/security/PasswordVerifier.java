@@ -0,0 +1,251 @@
+package com.docmall.basic.common.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인/가입 시 비밀번호 해시(BCrypt) 작업을 전용 스레드 풀에서 처리하는 클래스입니다.
+ *
+ * - BCrypt는 의도적으로 CPU를 많이 쓰므로, 로그인이 몰려도 다른 요청이 CPU를 쓸 수 있도록
+ *   고정 크기 스레드 풀(com.docmall.login.threads)과 대기열(queue-capacity)에서만 실행합니다.
+ *   대기열이 가득 차거나 제한 시간(timeout-ms) 안에 끝나지 않으면 LoginBusyException으로 바로 거부합니다.
+ * - 비용 재설정(rehash): 저장된 해시의 비용이 현재 설정(com.docmall.security.bcrypt-strength)보다 낮으면
+ *   로그인 성공 시 새 비용으로 다시 해시하여 Result.rehashed()로 돌려줍니다. (호출한 쪽에서 저장)
+ * - 확인된 비밀번호 빠른 경로(fast path): BCrypt 확인에 성공한 (아이디, 저장된 해시, 비밀번호)의
+ *   HMAC-SHA256 값을 잠시(fast-path.ttl-minutes) 메모리에 보관하고, 같은 값으로 다시 로그인하면 BCrypt를 생략합니다.
+ *   · HMAC 키는 시작할 때마다 새로 만들며 저장하지 않습니다. 비밀번호 원문은 보관하지 않습니다.
+ *   · 저장된 해시가 바뀌면(비밀번호 변경) 값이 달라지므로 이전 비밀번호로는 빠른 경로를 쓸 수 없습니다.
+ *   · 실패한 시도는 보관하지 않으므로 대입 공격은 항상 BCrypt 비용을 치릅니다.
+ * - 메트릭: docmall.login.hash(해시 시간), docmall.login.queue(대기 작업 수),
+ *   docmall.login.fast-path(빠른 경로로 확인한 수), docmall.login.rejected(reason=busy)
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
+@RequiredArgsConstructor // Lombok: final 필드 생성자 자동 생성(의존성 주입)
+@Component // 스프링 부트가 시작되면 Bean으로 등록됨
+public class PasswordVerifier {
+
+    /**
+     * 비밀번호 확인 결과
+     *
+     * @param matched 비밀번호 일치 여부
+     * @param rehashed 현재 비용으로 다시 만든 해시 (다시 만들 필요가 없으면 null)
+     */
+    public record Result(boolean matched, String rehashed) {
+    }
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+
+    // 해시 작업 스레드 수 (0 이하면 CPU 코어 수의 절반)
+    @Value("${com.docmall.login.threads:0}")
+    private int threads;
+
+    // 대기 가능한 해시 작업 수 (가득 차면 바로 거부)
+    @Value("${com.docmall.login.queue-capacity:64}")
+    private int queueCapacity;
+
+    // 대기 시간을 포함한 최대 처리 시간(ms)
+    @Value("${com.docmall.login.timeout-ms:3000}")
+    private long timeoutMs;
+
+    // 확인된 비밀번호 빠른 경로 사용 여부 / 보관 시간(분) / 최대 보관 수
+    @Value("${com.docmall.login.fast-path.enabled:true}")
+    private boolean fastPathEnabled;
+
+    @Value("${com.docmall.login.fast-path.ttl-minutes:10}")
+    private long fastPathTtlMinutes;
+
+    @Value("${com.docmall.login.fast-path.max-size:10000}")
+    private long fastPathMaxSize;
+
+    private ThreadPoolExecutor executor;
+
+    // 아이디(소문자) → HMAC(저장된 해시 + 비밀번호)
+    private Cache<String, byte[]> verified;
+    private SecretKeySpec hmacKey;
+
+    private Timer hashTimer;
+    private Counter fastPathCounter;
+    private Counter busyCounter;
+
+    @PostConstruct
+    public void init() {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger seq = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "login-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+
+        verified = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(fastPathTtlMinutes))
+                .maximumSize(fastPathMaxSize)
+                .build();
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        hmacKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+
+        hashTimer = Timer.builder("docmall.login.hash")
+                         .description("비밀번호 해시(BCrypt) 1회 시간")
+                         .register(meterRegistry);
+        fastPathCounter = Counter.builder("docmall.login.fast-path")
+                                 .description("BCrypt 없이 확인한 로그인 수")
+                                 .register(meterRegistry);
+        busyCounter = Counter.builder("docmall.login.rejected")
+                             .description("비밀번호 확인 전에 거부된 로그인 시도 수")
+                             .tag("reason", "busy")
+                             .register(meterRegistry);
+        Gauge.builder("docmall.login.queue", executor, e -> e.getQueue().size())
+             .description("비밀번호 해시 대기 작업 수")
+             .register(meterRegistry);
+
+        // 현재 비용의 해시 1회 시간 (bcrypt-strength 조정 참고용)
+        long start = System.nanoTime();
+        passwordEncoder.encode("calibration");
+        log.info("비밀번호 해시 스레드 {}개, 대기열 {}, 해시 1회 {}ms", poolSize, queueCapacity,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 입력한 비밀번호가 저장된 해시와 일치하는지 확인합니다.
+     *
+     * @param id 회원(관리자) 아이디 (빠른 경로 보관 키)
+     * @param rawPassword 입력한 비밀번호
+     * @param encodedPassword 저장된 해시
+     * @return 확인 결과 (일치 여부, 다시 만든 해시)
+     * @throws LoginBusyException 해시 작업이 많아 처리하지 못했을 때
+     */
+    public Result verify(String id, String rawPassword, String encodedPassword) {
+        if(rawPassword == null || encodedPassword == null || encodedPassword.isEmpty()) {
+            return new Result(false, null);
+        }
+
+        // 비용을 올려야 하는 해시는 빠른 경로를 쓰지 않음 (로그인 때 다시 해시되도록)
+        boolean fastPath = fastPathEnabled && id != null && !passwordEncoder.upgradeEncoding(encodedPassword);
+        String key = id == null ? null : id.toLowerCase(Locale.ROOT);
+        if(fastPath) {
+            byte[] cached = verified.getIfPresent(key);
+            if(cached != null && MessageDigest.isEqual(cached, digest(encodedPassword, rawPassword))) {
+                fastPathCounter.increment();
+                return new Result(true, null);
+            }
+        }
+
+        Result result = submit(() -> {
+            boolean matched = passwordEncoder.matches(rawPassword, encodedPassword);
+            String rehashed = matched && passwordEncoder.upgradeEncoding(encodedPassword)
+                    ? passwordEncoder.encode(rawPassword) : null;
+            return new Result(matched, rehashed);
+        });
+
+        if(result.matched() && fastPathEnabled && key != null) {
+            String stored = result.rehashed() != null ? result.rehashed() : encodedPassword;
+            verified.put(key, digest(stored, rawPassword));
+        }
+        return result;
+    }
+
+    /**
+     * 비밀번호를 해시합니다. (회원 가입, 임시 비밀번호 발급 등)
+     *
+     * @param rawPassword 비밀번호 원문
+     * @return 해시
+     * @throws LoginBusyException 해시 작업이 많아 처리하지 못했을 때
+     */
+    public String encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    // 전용 스레드 풀에서 실행하고 제한 시간까지 결과를 기다림
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    hashTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch(RejectedExecutionException ex) {
+            busyCounter.increment();
+            throw new LoginBusyException("비밀번호 해시 대기열이 가득 찼습니다.", ex);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch(TimeoutException ex) {
+            future.cancel(true);
+            busyCounter.increment();
+            throw new LoginBusyException("비밀번호 해시가 제한 시간 안에 끝나지 않았습니다.", ex);
+        } catch(InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new LoginBusyException("비밀번호 해시 대기 중 인터럽트", ex);
+        } catch(ExecutionException ex) {
+            if(ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    // HMAC-SHA256(저장된 해시 + 구분자 + 비밀번호)
+    private byte[] digest(String encodedPassword, String rawPassword) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(hmacKey);
+            mac.update(encodedPassword.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(rawPassword.getBytes(StandardCharsets.UTF_8));
+        } catch(GeneralSecurityException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
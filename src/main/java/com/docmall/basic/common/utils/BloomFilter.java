@@ -0,0 +1,109 @@
+package com.docmall.basic.common.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 집합의 포함 여부를 적은 메모리로 판단하는 블룸 필터(Bloom filter)입니다.
+ *
+ * - mightContain()이 false면 "확실히 없음", true면 "있을 수도 있음"(오탐 가능)입니다.
+ * - 예상 개수와 오탐률로 비트 수와 해시 개수를 계산합니다.
+ *   (예: 10만 개, 1% → 약 117KB, 해시 7개)
+ * - 추가(put)는 여러 스레드에서 동시에 호출해도 안전합니다. 삭제는 지원하지 않습니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 원소 개수
+     * @param fpp 허용 오탐률 (예: 0.01 = 1%)
+     */
+    public BloomFilter(long expectedInsertions, double fpp) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        m = Math.max(64, m);
+        int words = (int) Math.min(Integer.MAX_VALUE, (m + 63) / 64);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    }
+
+    /**
+     * 원소를 추가합니다.
+     *
+     * @param value 추가할 문자열
+     */
+    public void put(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for(int i = 1; i <= hashCount; i++) {
+            long index = (h1 + (long) i * h2 & Long.MAX_VALUE) % bitSize;
+            setBit(index);
+        }
+    }
+
+    /**
+     * 원소가 포함되어 있을 수 있는지 확인합니다.
+     *
+     * @param value 확인할 문자열
+     * @return false면 확실히 없음, true면 있을 수도 있음
+     */
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for(int i = 1; i <= hashCount; i++) {
+            long index = (h1 + (long) i * h2 & Long.MAX_VALUE) % bitSize;
+            if((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** 비트 배열 크기(bit) */
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    /** 원소당 해시 개수 */
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long prev;
+        do {
+            prev = bits.get(word);
+            if((prev & mask) != 0) {
+                return;
+            }
+        } while(!bits.compareAndSet(word, prev, prev | mask));
+    }
+
+    // UTF-8 바이트에 대한 64비트 해시 (FNV-1a + 비트 섞기)
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for(byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xFF;
+            h *= 0x100000001b3L;
+        }
+        // fmix64 (MurmurHash3)
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe1a85ec3L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
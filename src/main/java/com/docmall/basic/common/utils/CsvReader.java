@@ -0,0 +1,136 @@
+package com.docmall.basic.common.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 파일을 한 행씩 읽는 간단한 파서입니다. (RFC 4180)
+ *
+ * - 파일 전체를 메모리에 올리지 않고 Reader에서 한 행씩 읽습니다.
+ * - 큰따옴표로 감싼 값, 값 안의 쉼표/줄바꿈, 이스케이프된 큰따옴표("")를 지원합니다.
+ * - 파일 앞의 UTF-8 BOM은 무시합니다. (엑셀에서 저장한 CSV)
+ *
+ * 사용 예시:
+ * <pre>
+ * try(CsvReader csv = new CsvReader(reader)) {
+ *     List&lt;String&gt; row;
+ *     while((row = csv.readRow()) != null) { ... }
+ * }
+ * </pre>
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+public class CsvReader implements Closeable {
+
+    private final Reader reader;
+
+    // 되돌려 놓은 문자 (-1: 없음)
+    private int next = -1;
+
+    // 첫 행 여부 (BOM 확인용)
+    private boolean first = true;
+
+    // 현재 행의 시작 줄 번호 (1부터)
+    private long lineNumber;
+    private long currentLine = 1;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 행을 읽습니다.
+     *
+     * @return 행의 값 목록, 파일 끝이면 null
+     * @throws IOException 읽기 실패 또는 닫히지 않은 큰따옴표
+     */
+    public List<String> readRow() throws IOException {
+        int c = read();
+        if(first) {
+            first = false;
+            if(c == '\uFEFF') {
+                c = read();
+            }
+        }
+        if(c == -1) {
+            return null;
+        }
+
+        lineNumber = currentLine;
+        List<String> row = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while(true) {
+            if(quoted) {
+                if(c == -1) {
+                    throw new IOException("닫히지 않은 큰따옴표 (" + lineNumber + "행)");
+                }
+                if(c == '"') {
+                    int peek = read();
+                    if(peek == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = peek;
+                        continue;
+                    }
+                } else {
+                    if(c == '\n') {
+                        currentLine++;
+                    }
+                    field.append((char) c);
+                }
+            } else {
+                if(c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else if(c == ',') {
+                    row.add(field.toString());
+                    field.setLength(0);
+                } else if(c == '\r' || c == '\n' || c == -1) {
+                    if(c == '\r') {
+                        int peek = read();
+                        if(peek != '\n') {
+                            unread(peek);
+                        }
+                    }
+                    if(c != -1) {
+                        currentLine++;
+                    }
+                    row.add(field.toString());
+                    return row;
+                } else {
+                    field.append((char) c);
+                }
+            }
+            c = read();
+        }
+    }
+
+    /** 마지막으로 읽은 행의 시작 줄 번호 (1부터) */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        if(next >= 0) {
+            int c = next;
+            next = -1;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        next = c;
+    }
+}
@@ -1,37 +1,107 @@
 package com.docmall.basic.common.utils;
 
-import java.awt.image.BufferedImage;
 import java.io.File;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
-import javax.imageio.ImageIO;
-
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.util.FileCopyUtils;
 import org.springframework.web.multipart.MultipartFile;
 
-import net.coobird.thumbnailator.Thumbnails;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 
 /**
  * 파일 업로드, 다운로드, 삭제 등 파일 관련 유틸리티 기능을 제공하는 클래스입니다.
  *
  * - @Component로 빈으로 등록하여 어디서든 주입받아 사용할 수 있습니다.
- * - 이미지 파일 업로드 시 썸네일 자동 생성, 날짜별 폴더 구조 지원
- * - 외부 경로 파일의 안전한 다운로드, 삭제 지원
+ * - 이미지 파일 업로드 시 썸네일 자동 생성(ThumbnailGenerator, 백그라운드), 날짜별 폴더 구조 지원
+ * - 썸네일이 아직 만들어지지 않았으면 대체 이미지(placeholder) 제공
+ * - 화면에 필요한 가로 크기를 넘기면 크기별 변형 이미지(ImageVariantService) 중 알맞은 것을 제공
+ * - 외부 경로 파일의 안전한 다운로드(스트리밍, Range/조건부 요청 지원), 삭제 지원
+ * - 자주 요청되는 작은 파일(썸네일 등)은 ImageCache에서 전송
+ * - 메트릭: docmall.file.serve(파일 조회 시간), docmall.file.serve.bytes(전송 크기), source 태그(cache/disk)
  * - Thumbnailator 라이브러리 사용: https://github.com/coobird/thumbnailator
  *
  * @author main
  * @since 2025.05.01
  */
+@RequiredArgsConstructor // Lombok: final 필드 생성자 자동 생성(의존성 주입)
 @Component // 스프링 부트가 시작되면 Bean으로 등록됨
 public class FileUtils {
 
+    // 썸네일 백그라운드 생성기
+    private final ThumbnailGenerator thumbnailGenerator;
+
+    // 크기별 변형 이미지 관리
+    private final ImageVariantService imageVariantService;
+
+    // 자주 요청되는 이미지 메모리 캐시
+    private final ImageCache imageCache;
+
+    // 메트릭 레지스트리
+    private final MeterRegistry meterRegistry;
+
+    // 썸네일 준비 전 보여줄 대체 이미지(classpath 경로)
+    @Value("${com.docmall.thumbnail.placeholder:static/dist/img/default-150x150.png}")
+    private String placeholderPath;
+
+    // 업로드 파일 브라우저 캐시 기간(일) - 파일명이 UUID로 유일하므로 내용이 바뀌지 않음
+    @Value("${com.docmall.upload.cache-max-age-days:365}")
+    private long cacheMaxAgeDays;
+
+    // 확장자 → MIME 타입
+    private final ConcurrentHashMap<String, MediaType> mediaTypes = new ConcurrentHashMap<>();
+
+    // 파일 조회 시간 / 전송 크기 (캐시, 디스크 구분)
+    private Timer cacheServeTimer;
+    private Timer diskServeTimer;
+    private DistributionSummary cacheServeBytes;
+    private DistributionSummary diskServeBytes;
+
+    @PostConstruct
+    public void init() {
+        cacheServeTimer = serveTimer("cache");
+        diskServeTimer = serveTimer("disk");
+        cacheServeBytes = serveBytes("cache");
+        diskServeBytes = serveBytes("disk");
+    }
+
+    // 응답 본문 전송(스트리밍)은 반환 후 스프링 MVC가 하므로, 전체 시간은 http.server.requests 참고
+    private Timer serveTimer(String source) {
+        return Timer.builder("docmall.file.serve")
+                    .description("업로드 파일 조회 시간(캐시 조회/적재, 파일 정보 확인)")
+                    .tag("source", source)
+                    .register(meterRegistry);
+    }
+
+    private DistributionSummary serveBytes(String source) {
+        return DistributionSummary.builder("docmall.file.serve.bytes")
+                                  .description("업로드 파일 전송 크기")
+                                  .baseUnit("bytes")
+                                  .tag("source", source)
+                                  .register(meterRegistry);
+    }
+
     /**
      * 오늘 날짜로 폴더명을 생성합니다. (예: 2024/11/18)
      *
@@ -64,7 +134,9 @@ public class FileUtils {
     }
 
     /**
-     * 파일 업로드 및 썸네일 이미지 생성
+     * 파일 업로드 및 썸네일 이미지 생성 요청
+     *
+     * - 원본 파일만 요청 스레드에서 저장하고, 썸네일은 ThumbnailGenerator가 백그라운드에서 생성합니다.
      *
      * @param uploadFolder 업로드 루트 경로 (예: C:/Dev/upload/pds)
      * @param dateFolder 날짜 폴더명 (예: 2024/11/18)
@@ -89,18 +161,10 @@ public class FileUtils {
             File saveFile = new File(file, realUploadFileName);
             uploadFile.transferTo(saveFile); // 실제 파일 저장
 
-            // 이미지 파일이면 썸네일 생성
+            // 이미지 파일이면 썸네일 생성 작업 등록(백그라운드)
             if(checkImageType(saveFile)) {
                 File thumbnailFile = new File(file, "s_" + realUploadFileName);
-                BufferedImage bo_img = ImageIO.read(saveFile);
-                double ratio = 3;
-                int width = (int) (bo_img.getWidth() / ratio);
-                int height = (int) (bo_img.getHeight() / ratio);
-
-                // 썸네일 생성(Thumbnailator 라이브러리 사용)
-                Thumbnails.of(saveFile)
-                          .size(width, height)
-                          .toFile(thumbnailFile);
+                thumbnailGenerator.submit(saveFile, thumbnailFile);
             }
         } catch(Exception ex) {
             ex.printStackTrace();
@@ -110,28 +174,198 @@ public class FileUtils {
     }
 
     /**
-     * 외부 폴더에 저장된 파일을 바이트 배열로 읽어서 클라이언트에 전송합니다.
-     * (보안상 직접 접근 대신 ResponseEntity<byte[]>로 파일 제공)
+     * 외부 폴더에 저장된 파일을 스트리밍으로 클라이언트에 전송합니다.
+     * (보안상 직접 접근 대신 ResponseEntity<Resource>로 파일 제공)
+     *
+     * - 파일 전체를 메모리에 올리지 않고 Resource로 전송하므로 파일 크기와 무관하게 힙 사용량이 일정합니다.
+     * - Range 요청이면 스프링 MVC가 요청 범위만 206(Partial Content)으로 전송합니다.
+     * - ETag/Last-Modified 헤더를 설정하므로, 변경되지 않은 파일은 스프링 MVC가 304(Not Modified)로 응답합니다.
+     * - 업로드 파일명은 UUID로 유일하여 내용이 바뀌지 않으므로 오래 캐시하도록 합니다.
+     * - 업로드 루트 밖의 경로(../ 등)는 거부합니다.
+     * - 작은 파일은 ImageCache에 보관하여 반복 요청 시 디스크를 읽지 않습니다.
      *
      * @param uploadPath 업로드 루트 경로
      * @param fileName 파일 경로(날짜폴더/파일명)
-     * @return 파일 데이터와 Content-Type 헤더를 포함한 ResponseEntity
-     * @throws Exception 파일이 없거나 읽기 실패 시
+     * @return 파일 Resource와 헤더를 포함한 ResponseEntity (파일이 없으면 404)
+     * @throws Exception 파일 정보 읽기 실패 시
      */
-    public ResponseEntity<byte[]> getFile(String uploadPath, String fileName) throws Exception {
-        ResponseEntity<byte[]> entity = null;
-        File file = new File(uploadPath, fileName);
+    public ResponseEntity<Resource> getFile(String uploadPath, String fileName) throws Exception {
+        long start = System.nanoTime();
+        File file = resolve(uploadPath, fileName);
+        if(file == null) {
+            return ResponseEntity.notFound().build();
+        }
 
-        if(!file.exists()) {
-            return entity;
+        MediaType mediaType = getMediaType(file.getName());
+        Resource body;
+        long lastModified;
+        long length;
+
+        ImageCache.Entry cached = imageCache.get(file, mediaType);
+        if(cached != null) {
+            body = cached.toResource();
+            lastModified = cached.lastModified();
+            length = cached.length();
+            cacheServeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            cacheServeBytes.record(length);
+        } else {
+            if(!file.isFile()) {
+                return ResponseEntity.notFound().build();
+            }
+            body = new FileSystemResource(file);
+            lastModified = file.lastModified();
+            length = file.length();
+            diskServeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            diskServeBytes.record(length);
         }
 
-        // 파일의 MIME 타입을 헤더에 추가
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .cacheControl(CacheControl.maxAge(cacheMaxAgeDays, TimeUnit.DAYS).cachePublic().immutable())
+                .eTag(Long.toHexString(lastModified) + "-" + Long.toHexString(length))
+                .lastModified(lastModified)
+                .body(body);
+    }
+
+    /**
+     * 썸네일 생성이 끝났는지 확인합니다.
+     * - 썸네일 파일도 진행 중인 작업도 없으면(재시작으로 대기 작업 유실) 원본으로 다시 생성을 등록합니다.
+     * - 업로드 루트 밖의 경로(../ 등)는 준비되지 않은 것으로 보고 생성도 등록하지 않습니다.
+     *
+     * @param uploadPath 업로드 루트 경로
+     * @param dateFolderName 날짜 폴더명
+     * @param fileName 썸네일 파일명 ('s_' 접두사)
+     * @return 썸네일 파일이 준비되었으면 true
+     */
+    public boolean isThumbnailReady(String uploadPath, String dateFolderName, String fileName) {
+        File thumbnail = resolve(uploadPath, dateFolderName, fileName);
+        if(thumbnail == null) {
+            return false;
+        }
+        if(thumbnailGenerator.isReady(thumbnail)) {
+            return true;
+        }
+        String name = thumbnail.getName();
+        if(name.startsWith("s_") && thumbnailGenerator.getState(thumbnail) == null) {
+            submitIfMissing(new File(thumbnail.getParentFile(), name.substring(2)), thumbnail);
+        }
+        return false;
+    }
+
+    /**
+     * 상품 이미지를 클라이언트에 전송합니다.
+     * - 썸네일('s_' 접두사)이 아직 생성 중이거나 실패했으면 대체 이미지를 전송합니다.
+     *   (대체 이미지는 캐시하지 않도록 하여, 생성 후에는 실제 썸네일이 보이도록 함)
+     * - 업로드 루트 밖의 경로(../ 등)는 404로 응답합니다.
+     *
+     * @param uploadPath 업로드 루트 경로
+     * @param dateFolderName 날짜 폴더명
+     * @param fileName 파일명
+     * @return 파일 Resource와 헤더를 포함한 ResponseEntity
+     * @throws Exception 파일 정보 읽기 실패 시
+     */
+    public ResponseEntity<Resource> getImage(String uploadPath, String dateFolderName, String fileName) throws Exception {
+        File file = resolve(uploadPath, dateFolderName, fileName);
+        if(file == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if(file.getName().startsWith("s_") && !isThumbnailReady(uploadPath, dateFolderName, fileName)) {
+            return getPlaceholder();
+        }
+        return getFile(uploadPath, dateFolderName + "/" + fileName);
+    }
+
+    /**
+     * 화면에 필요한 가로 크기에 맞는 상품 이미지를 클라이언트에 전송합니다.
+     * - 변형 이미지 중 요청 크기보다 크거나 같은 가장 작은 이미지를 전송합니다.
+     * - 브라우저가 WebP를 지원하고(Accept 헤더) WebP 변형이 있으면 WebP로 전송합니다.
+     * - 변형 이미지가 아직 생성 중이면 대체 이미지, 변형 기능 이전 이미지는 원본을 전송합니다.
+     * - 업로드 루트 밖의 경로(../ 등)는 썸네일/변형 이미지를 찾거나 만들지 않고 404로 응답합니다.
+     *
+     * @param uploadPath 업로드 루트 경로
+     * @param dateFolderName 날짜 폴더명
+     * @param fileName 원본 파일명
+     * @param width 화면에 필요한 가로 크기(px)
+     * @param acceptWebp 브라우저가 WebP를 지원하면 true
+     * @return 파일 Resource와 헤더를 포함한 ResponseEntity
+     * @throws Exception 파일 정보 읽기 실패 시
+     */
+    public ResponseEntity<Resource> getImage(String uploadPath, String dateFolderName, String fileName,
+            int width, boolean acceptWebp) throws Exception {
+        File original = resolve(uploadPath, dateFolderName, fileName);
+        if(original == null) {
+            return ResponseEntity.notFound().build();
+        }
+        File folder = original.getParentFile();
+        String name = original.getName();
+
+        // 변형 이미지는 썸네일과 함께 생성되므로, 썸네일이 생성 중이면 대체 이미지
+        File thumbnail = new File(folder, "s_" + name);
+        if(thumbnailGenerator.getState(thumbnail) == ThumbnailGenerator.State.PENDING) {
+            return getPlaceholder();
+        }
+        // 썸네일이 없으면(재시작으로 대기 작업 유실) 다시 생성하고, 그동안은 원본/남아 있는 변형 이미지를 전송
+        submitIfMissing(original, thumbnail);
+
+        String variantName = imageVariantService.pick(folder, name, width, acceptWebp);
+        ResponseEntity<Resource> entity = getFile(uploadPath, dateFolderName + "/" + variantName);
+
+        // 같은 URL이라도 Accept 헤더에 따라 응답 형식이 달라짐
         HttpHeaders headers = new HttpHeaders();
-        headers.add("Content-Type", Files.probeContentType(file.toPath()));
+        headers.putAll(entity.getHeaders());
+        headers.setVary(List.of(HttpHeaders.ACCEPT));
+        return new ResponseEntity<>(entity.getBody(), headers, entity.getStatusCode());
+    }
 
-        entity = new ResponseEntity<>(FileCopyUtils.copyToByteArray(file), headers, HttpStatus.OK);
-        return entity;
+    // 이미지 확장자인 원본만 썸네일 다시 생성 등록 (경로는 호출 전에 resolve로 확인)
+    private void submitIfMissing(File source, File thumbnail) {
+        if(getMediaType(source.getName()).getType().equals("image")) {
+            thumbnailGenerator.submitIfMissing(source, thumbnail);
+        }
+    }
+
+    // 대체 이미지 응답 (캐시하지 않음)
+    private ResponseEntity<Resource> getPlaceholder() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .contentType(getMediaType(placeholderPath))
+                .body(new ClassPathResource(placeholderPath));
+    }
+
+    // 확장자로 MIME 타입 결정 (요청마다 파일 내용을 검사하지 않도록 확장자별로 캐시)
+    private MediaType getMediaType(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        String ext = dot < 0 ? "" : fileName.substring(dot + 1).toLowerCase();
+        return mediaTypes.computeIfAbsent(ext, key ->
+                MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM));
+    }
+
+    // 업로드 루트 기준으로 경로를 해석 (루트 밖이면 null)
+    private File resolve(String uploadPath, String fileName) {
+        Path root = Paths.get(uploadPath).toAbsolutePath().normalize();
+        Path target;
+        try {
+            target = root.resolve(fileName).normalize();
+        } catch(InvalidPathException ex) {
+            return null;
+        }
+        if(!target.startsWith(root)) {
+            return null;
+        }
+        return target.toFile();
+    }
+
+    // 날짜 폴더 + 파일명을 업로드 루트 기준으로 해석
+    // (값이 없거나, 루트 자신/루트 밖이면 null: 이 파일의 폴더에 썸네일/변형 이미지를 만들므로 폴더도 루트 안이어야 함)
+    private File resolve(String uploadPath, String dateFolderName, String fileName) {
+        if(dateFolderName == null || fileName == null || fileName.isBlank()) {
+            return null;
+        }
+        File file = resolve(uploadPath, dateFolderName + "/" + fileName);
+        if(file == null || file.toPath().equals(Paths.get(uploadPath).toAbsolutePath().normalize())) {
+            return null;
+        }
+        return file;
     }
 
     /**
@@ -140,17 +374,29 @@ public class FileUtils {
      * @param uploadPath 업로드 루트 경로
      * @param dateFolderName 날짜 폴더명
      * @param fileName 파일명 (썸네일은 's_' 접두사)
-     * @param type 파일 타입 (image면 원본/썸네일 모두 삭제)
+     * @param type 파일 타입 (image면 원본/썸네일/변형 이미지 모두 삭제)
      */
     public void delete(String uploadPath, String dateFolderName, String fileName, String type) {
         // 파일 경로 생성(운영체제별 구분자 처리)
         File file1 = new File((uploadPath + "\\" + dateFolderName + "\\" + fileName).replace('\\', File.separatorChar));
         if(file1.exists()) file1.delete();
+        imageCache.invalidate(file1);
 
         // 이미지 파일이면 원본 이미지도 삭제
         if(type.equals("image")) {
             File file2 = new File((uploadPath + "\\" + dateFolderName + "\\" + fileName.substring(2)).replace('\\', File.separatorChar));
             if(file2.exists()) file2.delete();
+            imageCache.invalidate(file2);
+
+            // 크기별 변형 이미지와 매니페스트 삭제 (캐시 항목도 제거)
+            File folder = file2.getParentFile();
+            for(ImageVariantService.Variant variant : imageVariantService.getVariants(folder, file2.getName())) {
+                imageCache.invalidate(new File(folder, variant.fileName()));
+                if(variant.webpFileName() != null) {
+                    imageCache.invalidate(new File(folder, variant.webpFileName()));
+                }
+            }
+            imageVariantService.deleteVariants(folder, file2.getName());
         }
     }
 }
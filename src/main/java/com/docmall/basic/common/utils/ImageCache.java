@@ -0,0 +1,241 @@
+package com.docmall.basic.common.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 자주 요청되는 이미지(썸네일, 변형 이미지)를 메모리에 보관하는 캐시입니다.
+ *
+ * - Caffeine(W-TinyLFU) 캐시를 사용하여, 한 번 보고 마는 이미지가 자주 보는 이미지를 밀어내지 않습니다.
+ * - 이미지 데이터는 힙 밖(direct ByteBuffer)에 보관하고, 전체 크기(byte)를 설정값 이내로 제한합니다.
+ * - 너무 큰 파일(원본 이미지 등)은 캐시하지 않고 디스크에서 스트리밍합니다.
+ * - 적중/부재/제거 통계를 기록합니다. (getStats)
+ * - 파일이 삭제되면 FileUtils.delete()에서 해당 항목을 무효화합니다.
+ *   무효화마다 세대 번호(generation)를 올리고, 읽기 시작 후 세대가 바뀌었으면 읽은 항목을 캐시에 남기지 않습니다.
+ *   (무효화 직전에 시작된 읽기가 삭제된 파일을 다시 캐시에 넣지 않도록)
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
+@Component // 스프링 부트가 시작되면 Bean으로 등록됨
+public class ImageCache {
+
+    /** 캐시된 이미지 (데이터 + MIME 타입 + 파일 정보) */
+    public record Entry(ByteBuffer data, MediaType mediaType, long lastModified) {
+
+        /** 데이터 크기(byte) */
+        public int length() {
+            return data.capacity();
+        }
+
+        /** 응답 본문으로 사용할 Resource (요청마다 독립된 읽기 위치) */
+        public Resource toResource() {
+            return new BufferResource(data.duplicate(), lastModified);
+        }
+    }
+
+    // 캐시 사용 여부
+    @Value("${com.docmall.image.cache.enabled:true}")
+    private boolean enabled;
+
+    // 캐시 전체 최대 크기(byte)
+    @Value("${com.docmall.image.cache.max-bytes:67108864}")
+    private long maxBytes;
+
+    // 캐시할 파일 1개의 최대 크기(byte) - 이보다 크면 디스크에서 바로 전송
+    @Value("${com.docmall.image.cache.max-entry-bytes:524288}")
+    private long maxEntryBytes;
+
+    // 파일 절대 경로 → 캐시된 이미지
+    private Cache<String, Entry> cache;
+
+    // 무효화 세대 번호 (invalidate 호출마다 증가)
+    private final AtomicLong generation = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, Entry entry) -> entry.length())
+                .recordStats()
+                .build();
+        log.info("이미지 캐시: 사용 {}, 최대 {}byte, 항목 최대 {}byte", enabled, maxBytes, maxEntryBytes);
+    }
+
+    /**
+     * 캐시에서 이미지를 찾고, 없으면 파일을 읽어 캐시에 넣습니다.
+     *
+     * @param file 이미지 파일
+     * @param mediaType 파일의 MIME 타입
+     * @return 캐시된 이미지 (캐시 대상이 아니거나, 파일이 없거나, 읽는 동안 무효화되었으면 null)
+     */
+    public Entry get(File file, MediaType mediaType) {
+        if(!enabled) {
+            return null;
+        }
+        String key = file.getAbsolutePath();
+
+        // 캐시에 있으면 디스크를 확인하지 않음 (적중/부재 통계 기록)
+        Entry entry = cache.getIfPresent(key);
+        if(entry != null) {
+            return entry;
+        }
+        if(file.length() > maxEntryBytes) {
+            return null;
+        }
+
+        // 파일 읽기는 캐시 내부 잠금(compute) 밖에서 수행 (가상 스레드가 I/O 중 캐리어 스레드를 고정하지 않도록)
+        // 동시에 같은 파일을 읽으면 먼저 저장된 항목을 사용
+        long startGeneration = generation.get();
+        entry = load(file, mediaType);
+        if(entry == null) {
+            return null;
+        }
+        Entry prior = cache.asMap().putIfAbsent(key, entry);
+        if(generation.get() != startGeneration) {
+            // 읽는 동안 무효화(파일 삭제)가 있었으면 넣은 항목을 빼고 디스크에서 다시 확인하도록 함
+            cache.asMap().remove(key, entry);
+            return null;
+        }
+        return prior != null ? prior : entry;
+    }
+
+    /**
+     * 파일에 해당하는 캐시 항목을 제거합니다.
+     *
+     * @param file 삭제된 파일
+     */
+    public void invalidate(File file) {
+        // 세대 번호를 먼저 올려야, 이미 읽고 있던 get()이 넣은 항목을 스스로 제거함
+        generation.incrementAndGet();
+        cache.invalidate(file.getAbsolutePath());
+    }
+
+    /** 적중/부재/제거 통계 */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    /** 현재 캐시된 전체 크기(byte) */
+    public long getWeightedSize() {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    /** 현재 캐시된 항목 수 */
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    /** 내부 Caffeine 캐시 (메트릭 등록용) */
+    public Cache<String, Entry> getCache() {
+        return cache;
+    }
+
+    // 파일을 direct ByteBuffer로 읽음 (파일이 없거나 읽기 실패 시 null → 캐시하지 않음)
+    private Entry load(File file, MediaType mediaType) {
+        if(!file.isFile()) {
+            return null;
+        }
+        try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if(size > maxEntryBytes) {
+                return null;
+            }
+            ByteBuffer buffer = ByteBuffer.allocateDirect((int) size);
+            while(buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // 끝까지 읽기
+            }
+            buffer.flip();
+            return new Entry(buffer.asReadOnlyBuffer(), mediaType, file.lastModified());
+        } catch(IOException ex) {
+            log.warn("이미지 캐시 읽기 실패: {}", file, ex);
+            return null;
+        }
+    }
+
+    // ByteBuffer를 응답 본문으로 전송하기 위한 Resource
+    private static class BufferResource extends AbstractResource {
+
+        private final ByteBuffer buffer;
+        private final long lastModified;
+
+        BufferResource(ByteBuffer buffer, long lastModified) {
+            this.buffer = buffer;
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        public String getDescription() {
+            return "cached image [" + buffer.capacity() + " bytes]";
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            ByteBuffer data = buffer.duplicate();
+            return new InputStream() {
+                @Override
+                public int read() {
+                    return data.hasRemaining() ? data.get() & 0xFF : -1;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    if(!data.hasRemaining()) {
+                        return -1;
+                    }
+                    int n = Math.min(len, data.remaining());
+                    data.get(b, off, n);
+                    return n;
+                }
+
+                @Override
+                public long skip(long n) {
+                    int k = (int) Math.max(0, Math.min(n, data.remaining()));
+                    data.position(data.position() + k);
+                    return k;
+                }
+
+                @Override
+                public int available() {
+                    return data.remaining();
+                }
+            };
+        }
+
+        @Override
+        public long contentLength() {
+            return buffer.capacity();
+        }
+
+        @Override
+        public long lastModified() {
+            return lastModified;
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+    }
+}
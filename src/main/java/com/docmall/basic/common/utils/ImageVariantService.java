@@ -0,0 +1,259 @@
+package com.docmall.basic.common.utils;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.imageio.ImageIO;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+
+/**
+ * 상품 이미지의 크기별 변형(variant) 이미지를 만들고 관리하는 클래스입니다.
+ *
+ * - 설정한 프로필(예: icon 80px, card 300px, detail 800px)마다 가로 크기를 맞춘 이미지를 생성합니다.
+ * - WebP 인코더(webp-imageio ImageIO 플러그인)로 WebP 파일도 함께 생성합니다. (인코더를 쓸 수 없으면 JPEG만 생성)
+ * - 생성된 변형 목록은 원본 옆의 매니페스트 파일(m_원본파일명.properties)에 기록되어
+ *   서버를 재시작해도 유지됩니다.
+ * - 화면에서는 필요한 가로 크기를 넘기면, 그보다 크거나 같은 것 중 가장 작은 이미지를 받습니다.
+ *
+ * 파일명 규칙 (원본: uuid_name.jpg)
+ * - 변형 이미지: {프로필}_uuid_name.jpg, {프로필}_uuid_name.webp
+ * - 매니페스트: m_uuid_name.jpg.properties
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
+@Component // 스프링 부트가 시작되면 Bean으로 등록됨
+public class ImageVariantService {
+
+    /** 변형 이미지 프로필 (이름, 최대 가로 크기) */
+    public record Profile(String name, int width) {
+    }
+
+    /** 생성된 변형 이미지 정보 */
+    public record Variant(String profile, int width, String fileName, String webpFileName) {
+    }
+
+    // 매니페스트 캐시 최대 개수 (초과 시 비움)
+    private static final int MANIFEST_CACHE_SIZE = 10_000;
+
+    // 프로필 설정 (이름:가로크기, 쉼표로 구분)
+    @Value("${com.docmall.image.variants:icon:80,card:300,detail:800}")
+    private String variantsConfig;
+
+    // WebP 생성 여부 (인코더가 없으면 설정과 무관하게 생성하지 않음)
+    @Value("${com.docmall.image.webp:true}")
+    private boolean webpEnabled;
+
+    // 가로 크기 오름차순 프로필 목록
+    private List<Profile> profiles;
+
+    // WebP 인코더 사용 가능 여부
+    private boolean webpAvailable;
+
+    // 매니페스트 경로 → 가로 크기 오름차순 변형 목록
+    private final ConcurrentHashMap<String, List<Variant>> manifests = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        List<Profile> list = new ArrayList<>();
+        for(String item : variantsConfig.split(",")) {
+            String[] pair = item.trim().split(":");
+            if(pair.length == 2) {
+                list.add(new Profile(pair[0].trim(), Integer.parseInt(pair[1].trim())));
+            }
+        }
+        list.sort(Comparator.comparingInt(Profile::width));
+        profiles = Collections.unmodifiableList(list);
+
+        webpAvailable = webpEnabled && ImageIO.getImageWritersByFormatName("webp").hasNext();
+        log.info("이미지 변형 프로필: {}, WebP 생성: {}", profiles, webpAvailable);
+    }
+
+    /**
+     * 디코딩된 원본 이미지로 모든 프로필의 변형 이미지를 만들고 매니페스트를 기록합니다.
+     * - 원본보다 큰 프로필은 만들지 않습니다(확대 방지).
+     *
+     * @param image 디코딩된 원본 이미지
+     * @param source 원본 이미지 파일
+     */
+    public void createVariants(BufferedImage image, File source) throws Exception {
+        File folder = source.getParentFile();
+        String fileName = source.getName();
+        String baseName = baseName(fileName);
+
+        List<Variant> variants = new ArrayList<>();
+        for(Profile profile : profiles) {
+            if(profile.width() >= image.getWidth()) {
+                break;
+            }
+            String variantName = profile.name() + "_" + fileName;
+            writeAtomic(image, profile.width(), new File(folder, variantName), null);
+
+            String webpName = null;
+            if(webpAvailable) {
+                webpName = profile.name() + "_" + baseName + ".webp";
+                writeAtomic(image, profile.width(), new File(folder, webpName), "webp");
+            }
+            variants.add(new Variant(profile.name(), profile.width(), variantName, webpName));
+        }
+
+        writeManifest(manifestFile(folder, fileName), variants);
+        manifests.put(manifestFile(folder, fileName).getAbsolutePath(), Collections.unmodifiableList(variants));
+    }
+
+    /**
+     * 요청한 가로 크기에 맞는 가장 작은 이미지 파일명을 반환합니다.
+     *
+     * @param folder 날짜 폴더
+     * @param fileName 원본 파일명
+     * @param width 화면에 필요한 가로 크기(px)
+     * @param acceptWebp 브라우저가 WebP를 지원하면 true
+     * @return 변형 이미지 파일명 (맞는 변형이 없으면 원본 파일명)
+     */
+    public String pick(File folder, String fileName, int width, boolean acceptWebp) {
+        List<Variant> variants = getVariants(folder, fileName);
+        for(Variant variant : variants) {
+            if(variant.width() >= width) {
+                return acceptWebp && variant.webpFileName() != null ? variant.webpFileName() : variant.fileName();
+            }
+        }
+        // 모든 변형보다 크게 요청하면 원본
+        return fileName;
+    }
+
+    /**
+     * 원본 이미지의 변형 목록 (매니페스트 기준)
+     *
+     * @param folder 날짜 폴더
+     * @param fileName 원본 파일명
+     * @return 가로 크기 오름차순 변형 목록 (매니페스트가 없으면 빈 목록)
+     */
+    public List<Variant> getVariants(File folder, String fileName) {
+        File manifest = manifestFile(folder, fileName);
+        String key = manifest.getAbsolutePath();
+
+        List<Variant> variants = manifests.get(key);
+        if(variants != null) {
+            return variants;
+        }
+        if(!manifest.exists()) {
+            // 아직 생성 전이거나 변형 기능 이전 이미지: 캐시하지 않음
+            return Collections.emptyList();
+        }
+
+        variants = readManifest(manifest);
+        if(manifests.size() >= MANIFEST_CACHE_SIZE) {
+            manifests.clear();
+        }
+        manifests.put(key, variants);
+        return variants;
+    }
+
+    /**
+     * 원본 이미지의 변형 이미지와 매니페스트를 모두 삭제합니다.
+     *
+     * @param folder 날짜 폴더
+     * @param fileName 원본 파일명
+     */
+    public void deleteVariants(File folder, String fileName) {
+        File manifest = manifestFile(folder, fileName);
+        for(Variant variant : getVariants(folder, fileName)) {
+            new File(folder, variant.fileName()).delete();
+            if(variant.webpFileName() != null) {
+                new File(folder, variant.webpFileName()).delete();
+            }
+        }
+        manifest.delete();
+        manifests.remove(manifest.getAbsolutePath());
+    }
+
+    /** 설정된 프로필 목록 (가로 크기 오름차순) */
+    public List<Profile> getProfiles() {
+        return profiles;
+    }
+
+    // 가로 크기를 맞춰(비율 유지) 임시 파일에 쓴 뒤 최종 이름으로 이동
+    private void writeAtomic(BufferedImage image, int width, File target, String format) throws Exception {
+        File tmp = new File(target.getParentFile(), ".tmp_" + target.getName());
+        int height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+        try {
+            Thumbnails.Builder<BufferedImage> builder = Thumbnails.of(image).size(width, height);
+            if(format != null) {
+                builder.outputFormat(format);
+            }
+            builder.toFile(tmp);
+            Files.move(tmp.toPath(), target.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp.toPath());
+        }
+    }
+
+    private void writeManifest(File manifest, List<Variant> variants) throws Exception {
+        Properties props = new Properties();
+        for(Variant variant : variants) {
+            props.setProperty(variant.profile() + ".width", String.valueOf(variant.width()));
+            props.setProperty(variant.profile() + ".file", variant.fileName());
+            if(variant.webpFileName() != null) {
+                props.setProperty(variant.profile() + ".webp", variant.webpFileName());
+            }
+        }
+
+        File tmp = new File(manifest.getParentFile(), ".tmp_" + manifest.getName());
+        try(OutputStream out = Files.newOutputStream(tmp.toPath())) {
+            props.store(out, "image variants");
+        }
+        Files.move(tmp.toPath(), manifest.toPath(),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private List<Variant> readManifest(File manifest) {
+        Properties props = new Properties();
+        try(InputStream in = Files.newInputStream(manifest.toPath())) {
+            props.load(in);
+        } catch(Exception ex) {
+            log.warn("이미지 매니페스트 읽기 실패: {}", manifest, ex);
+            return Collections.emptyList();
+        }
+
+        List<Variant> variants = new ArrayList<>();
+        for(String key : props.stringPropertyNames()) {
+            if(!key.endsWith(".width")) {
+                continue;
+            }
+            String profile = key.substring(0, key.length() - ".width".length());
+            variants.add(new Variant(profile,
+                    Integer.parseInt(props.getProperty(key)),
+                    props.getProperty(profile + ".file"),
+                    props.getProperty(profile + ".webp")));
+        }
+        variants.sort(Comparator.comparingInt(Variant::width));
+        return Collections.unmodifiableList(variants);
+    }
+
+    private static File manifestFile(File folder, String fileName) {
+        return new File(folder, "m_" + fileName + ".properties");
+    }
+
+    private static String baseName(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot < 0 ? fileName : fileName.substring(0, dot);
+    }
+}
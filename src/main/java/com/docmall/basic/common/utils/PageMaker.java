@@ -16,6 +16,11 @@ public class PageMaker {
 	
 	private int displayPageNum = 10;  // 블럭에 보여줄 페이지 번호개수 1	2	3	4	5	6	7	8	9	10
 	
+	// 커서(keyset) 페이징 모드에서 사용. 페이지 번호 대신 이전/다음 커서를 출력
+	private boolean cursorMode;  // 커서 페이징 여부
+	private String prevCursor;   // 현재 페이지 첫 행의 커서 (이전 페이지 조회 기준)
+	private String nextCursor;   // 현재 페이지 마지막 행의 커서 (다음 페이지 조회 기준)
+	
 	// private Criteria cri;  // page, perPageNum
 	private SearchCriteria cri; //   page, perPageNum, searchType, keyword
 
@@ -59,6 +64,55 @@ public class PageMaker {
 		next = endPage * cri.getPerPageNum() >= totalCount ? false : true;
 	}
 
+	// has-more 모드 결과 설정 (전체 개수 없이 페이지 블럭 계산)
+	// hasMore : perPageNum + 1건이 조회되어 다음 페이지가 존재하는지 여부
+	// 현재 페이지(다음 페이지가 있으면 +1)까지만 번호를 출력하고, 블럭 끝을 넘어가면 next 표시
+	public void setHasMore(boolean hasMore) {
+		
+		int blockEndPage = (int) (Math.ceil(cri.getPage() / (double)displayPageNum ) * displayPageNum);
+		
+		startPage = (blockEndPage - displayPageNum) + 1;
+		
+		int lastKnownPage = hasMore ? cri.getPage() + 1 : cri.getPage();
+		
+		endPage = Math.min(blockEndPage, lastKnownPage);
+		
+		prev = startPage == 1 ? false : true;
+		
+		next = lastKnownPage > blockEndPage;
+	}
+	
+	// 커서 페이징 결과 설정
+	// firstCursor, lastCursor : 현재 페이지 첫/마지막 행의 커서 (결과가 없으면 null)
+	// hasMore : 진행 방향(next/prev)으로 perPageNum + 1건이 조회되었는지 여부
+	public void setCursorPage(String firstCursor, String lastCursor, boolean hasMore) {
+		this.cursorMode = true;
+		this.prevCursor = firstCursor;
+		this.nextCursor = lastCursor;
+		
+		if(cri.isPrevDirection()) {
+			// 이전 방향으로 왔다면 다음 페이지는 항상 존재
+			prev = hasMore;
+			next = lastCursor != null;
+		} else {
+			// 커서 없이 조회한 경우가 첫 페이지
+			prev = cri.getCursor() != null && firstCursor != null;
+			next = hasMore;
+		}
+	}
+
+	public boolean isCursorMode() {
+		return cursorMode;
+	}
+
+	public String getPrevCursor() {
+		return prevCursor;
+	}
+
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
 	public int getStartPage() {
 		return startPage;
 	}
@@ -123,11 +177,41 @@ public class PageMaker {
 				.queryParam("perPageNum", cri.getPerPageNum())
 				.queryParam("searchType", ((SearchCriteria)cri).getSearchType())
 				.queryParam("keyword", ((SearchCriteria)cri).getKeyword())
+				.queryParam("sortType", cri.getSortType())
+				.queryParam("mode", cri.getMode())
+				.build();
+		
+		return uriComponents.toUriString();
+	}
+	
+	// 커서 페이징, 검색기능 사용시 필요한 파라미터 생성해주는 기능.
+	// ?mode=cursor&perPageNum=10&searchType&keyword&sortType=num&cursor=123&direction=next
+	public String makeCursor(String cursor, String direction) {
+		
+		UriComponents uriComponents = 
+				UriComponentsBuilder.newInstance()
+				.queryParam("mode", SearchCriteria.MODE_CURSOR)
+				.queryParam("perPageNum", cri.getPerPageNum())
+				.queryParam("searchType", cri.getSearchType())
+				.queryParam("keyword", cri.getKeyword())
+				.queryParam("sortType", cri.getSortType())
+				.queryParam("cursor", cursor)
+				.queryParam("direction", direction)
 				.build();
 		
 		return uriComponents.toUriString();
 	}
 	
+	// 이전 페이지 링크 (커서 페이징)
+	public String makePrev() {
+		return makeCursor(prevCursor, SearchCriteria.DIRECTION_PREV);
+	}
+	
+	// 다음 페이지 링크 (커서 페이징)
+	public String makeNext() {
+		return makeCursor(nextCursor, SearchCriteria.DIRECTION_NEXT);
+	}
+	
 	
 	
 	
@@ -135,7 +219,8 @@ public class PageMaker {
 	@Override
 	public String toString() {
 		return "PageMaker [totalCount=" + totalCount + ", startPage=" + startPage + ", endPage=" + endPage + ", prev="
-				+ prev + ", next=" + next + ", displayPageNum=" + displayPageNum + ", cri=" + cri + "]";
+				+ prev + ", next=" + next + ", displayPageNum=" + displayPageNum + ", cursorMode=" + cursorMode
+				+ ", prevCursor=" + prevCursor + ", nextCursor=" + nextCursor + ", cri=" + cri + "]";
 	}
 	
 	
@@ -1,23 +1,76 @@
 package com.docmall.basic.common.utils;
 
+import java.util.Date;
+
 /**
  * 페이징 + 검색 기능을 위한 SearchCriteria 클래스입니다.
  *
  * - Criteria(부모)의 페이징 기능(page, perPageNum)에
  *   검색 조건(검색 종류, 검색어)을 추가로 관리합니다.
  * - 게시판, 상품 목록 등에서 페이징 + 검색 기능이 필요할 때 사용합니다.
+ * - 커서(keyset) 페이징 모드에서는 page 대신 마지막으로 본 행의 키(cursor)를 사용합니다.
+ *   (offset 모드는 페이지 번호로 바로 이동하는 링크용으로 그대로 유지)
  *
  * @author main
  * @since 2025.05.01
  */
 public class SearchCriteria extends Criteria {
 
+    /** 페이징 모드: 커서(keyset) 방식 */
+    public static final String MODE_CURSOR = "cursor";
+
+    /** 페이징 모드: 전체 개수 없이 다음 페이지 존재 여부만 확인(has-more) */
+    public static final String MODE_MORE = "more";
+
+    /** 정렬 기준: 상품 번호 역순(기본값) */
+    public static final String SORT_NUM = "num";
+
+    /** 정렬 기준: 등록일 역순 + 상품 번호 역순 */
+    public static final String SORT_DATE = "date";
+
+    /** 커서 이동 방향: 다음 페이지(기본값) */
+    public static final String DIRECTION_NEXT = "next";
+
+    /** 커서 이동 방향: 이전 페이지 */
+    public static final String DIRECTION_PREV = "prev";
+
     /** 검색 종류(예: 제목, 내용, 작성자 등) */
     private String searchType;
 
     /** 검색어 */
     private String keyword;
 
+    /** 페이징 모드(null: offset, "more": offset + has-more, "cursor": keyset) */
+    private String mode;
+
+    /** 정렬 기준("num" 또는 "date") */
+    private String sortType;
+
+    /**
+     * 마지막으로 본 행의 커서 값
+     * - num 정렬: "pro_num" (예: 123)
+     * - date 정렬: "pro_date(epoch millis)_pro_num" (예: 1714521600000_123)
+     */
+    private String cursor;
+
+    /** 커서 이동 방향("next" 또는 "prev") */
+    private String direction;
+
+    // 커서 문자열을 해석한 값(매퍼에서 #{cursorNum}, #{cursorDate}로 참조)
+    private Integer cursorNum;
+    private Date cursorDate;
+
+    // 검색 색인으로 구한 상품 번호 후보 전체 (전체 개수 계산용)
+    // 요청 파라미터로 바인딩되지 않도록 setter 대신 applyCandidateNums() 사용
+    private int[] candidateNums;
+
+    // SQL in (...)에 넣을 후보 번호 (null이면 SQL LIKE 검색)
+    // 후보 전체가 아니라 현재 페이지에 해당하는 번호만 담아 in 목록 크기를 제한
+    private int[] candidatePage;
+
+    // candidatePage가 offset 페이지 구간으로 잘린 경우 true (SQL에서 offset 없이 조회)
+    private boolean candidatePaged;
+
     // 기본 생성자(필요시 명시적으로 작성 가능)
 
     /** 검색 종류 반환 */
@@ -40,6 +93,157 @@ public class SearchCriteria extends Criteria {
         this.keyword = keyword;
     }
 
+    /** 페이징 모드 반환 */
+    public String getMode() {
+        return mode;
+    }
+
+    /** 페이징 모드 설정 */
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    /** 정렬 기준 반환 (지정하지 않으면 "num") */
+    public String getSortType() {
+        return SORT_DATE.equals(sortType) ? SORT_DATE : SORT_NUM;
+    }
+
+    /** 정렬 기준 설정 */
+    public void setSortType(String sortType) {
+        this.sortType = sortType;
+    }
+
+    /** 커서 문자열 반환 */
+    public String getCursor() {
+        return cursor;
+    }
+
+    /**
+     * 커서 문자열 설정
+     * - 형식이 잘못된 커서는 무시하고 첫 페이지부터 조회합니다.
+     */
+    public void setCursor(String cursor) {
+        this.cursor = null;
+        this.cursorNum = null;
+        this.cursorDate = null;
+
+        if(cursor == null || cursor.isBlank()) {
+            return;
+        }
+
+        try {
+            int idx = cursor.indexOf('_');
+            if(idx < 0) {
+                this.cursorNum = Integer.valueOf(cursor);
+            } else {
+                this.cursorDate = new Date(Long.parseLong(cursor.substring(0, idx)));
+                this.cursorNum = Integer.valueOf(cursor.substring(idx + 1));
+            }
+            this.cursor = cursor;
+        } catch(NumberFormatException ex) {
+            this.cursorNum = null;
+            this.cursorDate = null;
+        }
+    }
+
+    /** 커서 이동 방향 반환 (지정하지 않으면 "next") */
+    public String getDirection() {
+        return DIRECTION_PREV.equals(direction) ? DIRECTION_PREV : DIRECTION_NEXT;
+    }
+
+    /** 커서 이동 방향 설정 */
+    public void setDirection(String direction) {
+        this.direction = direction;
+    }
+
+    /** 커서에 담긴 상품 번호 (MyBatis 매퍼에서 #{cursorNum}로 참조) */
+    public Integer getCursorNum() {
+        return cursorNum;
+    }
+
+    /** 커서에 담긴 등록일 (date 정렬일 때만 값이 있음) */
+    public Date getCursorDate() {
+        return cursorDate;
+    }
+
+    /** 커서(keyset) 모드 여부 */
+    public boolean isCursorMode() {
+        return MODE_CURSOR.equals(mode) || cursor != null;
+    }
+
+    /** has-more 모드 여부 (count(*) 없이 perPageNum + 1건으로 다음 페이지 판단) */
+    public boolean isMoreMode() {
+        return MODE_MORE.equals(mode) && !isCursorMode();
+    }
+
+    /** 이전 페이지 방향으로 이동 중인지 여부 */
+    public boolean isPrevDirection() {
+        return DIRECTION_PREV.equals(getDirection());
+    }
+
+    /** 검색 색인 후보 번호 (MyBatis 매퍼에서 candidateNums로 참조) */
+    public int[] getCandidateNums() {
+        return candidateNums;
+    }
+
+    /** 검색 색인으로 구한 후보 번호 적용 */
+    public void applyCandidateNums(int[] candidateNums) {
+        this.candidateNums = candidateNums;
+    }
+
+    /** SQL에서 사용할 후보 번호 (MyBatis 매퍼에서 candidatePage로 참조, null이면 LIKE 검색) */
+    public int[] getCandidatePage() {
+        return candidatePage;
+    }
+
+    /** offset 페이지 구간으로 잘린 후보 번호인지 여부 (MyBatis 매퍼에서 candidatePaged로 참조) */
+    public boolean isCandidatePaged() {
+        return candidatePaged;
+    }
+
+    /**
+     * SQL에서 사용할 후보 번호 적용
+     *
+     * @param candidatePage in (...)에 넣을 번호 (null이면 LIKE 검색)
+     * @param candidatePaged offset 페이지 구간으로 잘린 번호이면 true
+     */
+    public void applyCandidatePage(int[] candidatePage, boolean candidatePaged) {
+        this.candidatePage = candidatePage;
+        this.candidatePaged = candidatePaged;
+    }
+
+    /**
+     * 한 번에 조회할 행 수 반환
+     * - 다음 페이지 존재 여부를 count(*) 없이 판단하기 위해 1건을 더 조회합니다.
+     * - MyBatis 매퍼에서 #{fetchSize}로 참조
+     */
+    public int getFetchSize() {
+        return getPerPageNum() + 1;
+    }
+
+    /**
+     * offset 방식 조회 시 LIMIT 절의 행 수 반환
+     * - has-more 모드: perPageNum + 1, 그 외: perPageNum
+     * - MyBatis 매퍼에서 #{limitSize}로 참조
+     */
+    public int getLimitSize() {
+        return isMoreMode() ? getFetchSize() : getPerPageNum();
+    }
+
+    /**
+     * 행의 키 값으로 커서 문자열을 생성합니다.
+     *
+     * @param pro_num 상품 번호
+     * @param pro_date 상품 등록일 (num 정렬이면 사용하지 않음)
+     * @return 커서 문자열
+     */
+    public String toCursor(Integer pro_num, Date pro_date) {
+        if(SORT_DATE.equals(getSortType()) && pro_date != null) {
+            return pro_date.getTime() + "_" + pro_num;
+        }
+        return String.valueOf(pro_num);
+    }
+
     /**
      * 객체 상태를 문자열로 반환(디버깅, 로그 등에서 유용)
      */
@@ -47,6 +251,10 @@ public class SearchCriteria extends Criteria {
     public String toString() {
         return "SearchCriteria [searchType=" + searchType
                 + ", keyword=" + keyword
+                + ", mode=" + mode
+                + ", sortType=" + getSortType()
+                + ", cursor=" + cursor
+                + ", direction=" + getDirection()
                 + ", getPage()=" + getPage()
                 + ", getPerPageNum()=" + getPerPageNum() + "]";
     }
@@ -0,0 +1,258 @@
+package com.docmall.basic.common.utils;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+
+/**
+ * 업로드된 이미지의 썸네일을 백그라운드에서 생성하는 클래스입니다.
+ *
+ * - 요청 스레드는 작업을 큐에 넣고 바로 반환하므로, 큰 이미지 업로드도 응답이 지연되지 않습니다.
+ * - 작업 스레드 수와 큐 크기가 제한되어 있으며, 큐가 가득 차면 요청 스레드가 직접 생성합니다.
+ *   (업로드가 몰릴 때 메모리에 대기 작업이 무한히 쌓이지 않도록 하는 backpressure)
+ * - 실패하면 간격을 늘려가며 재시도하고, 최대 횟수를 넘기면 FAILED 상태로 남깁니다.
+ * - 썸네일은 임시 파일에 쓴 뒤 이름을 바꾸므로, 만들어지는 중인 파일이 서비스되지 않습니다.
+ * - 생성 상태는 메모리에만 있으므로, 재시작으로 대기 작업이 사라진 썸네일은 조회할 때(submitIfMissing) 다시 생성합니다.
+ * - 원본은 한 번만 디코딩하여 's_' 썸네일과 크기별 변형 이미지(ImageVariantService)를 함께 만듭니다.
+ * - 메트릭: docmall.thumbnail(생성 시간, outcome 태그), docmall.thumbnail.queue(대기 작업 수),
+ *   docmall.thumbnail.pending(생성 전/실패 상태 썸네일 수)
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
+@RequiredArgsConstructor // Lombok: final 필드 생성자 자동 생성(의존성 주입)
+@Component // 스프링 부트가 시작되면 Bean으로 등록됨
+public class ThumbnailGenerator {
+
+    /** 썸네일 생성 상태 */
+    public enum State {
+        PENDING, // 생성 대기/진행 중
+        FAILED   // 재시도 후에도 실패
+    }
+
+    // 크기별 변형 이미지 생성/관리
+    private final ImageVariantService imageVariantService;
+
+    // 메트릭 레지스트리
+    private final MeterRegistry meterRegistry;
+
+    // 썸네일 파일 경로 → 상태 (생성이 끝나면 항목 제거: 이후에는 파일 존재 여부로 판단)
+    private final ConcurrentHashMap<String, State> states = new ConcurrentHashMap<>();
+
+    // 작업 스레드 수
+    @Value("${com.docmall.thumbnail.threads:2}")
+    private int threads;
+
+    // 대기 큐 크기
+    @Value("${com.docmall.thumbnail.queue-capacity:100}")
+    private int queueCapacity;
+
+    // 최대 재시도 횟수
+    @Value("${com.docmall.thumbnail.max-retries:3}")
+    private int maxRetries;
+
+    // 썸네일 축소 비율 (원본 크기 / ratio)
+    @Value("${com.docmall.thumbnail.ratio:3}")
+    private double ratio;
+
+    // 썸네일 최대 가로 크기(px) - 큰 원본도 이 크기를 넘지 않음
+    @Value("${com.docmall.thumbnail.max-width:300}")
+    private int maxWidth;
+
+    private ThreadPoolExecutor executor;
+    private ScheduledExecutorService retryScheduler;
+
+    // 썸네일 1건 생성 시간 (성공/실패)
+    private Timer successTimer;
+    private Timer failureTimer;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger seq = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "thumbnail-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "thumbnail-retry");
+            t.setDaemon(true);
+            return t;
+        });
+
+        successTimer = thumbnailTimer("success");
+        failureTimer = thumbnailTimer("error");
+        Gauge.builder("docmall.thumbnail.queue", executor, e -> e.getQueue().size())
+             .description("썸네일 생성 대기 작업 수")
+             .register(meterRegistry);
+        Gauge.builder("docmall.thumbnail.pending", states, ConcurrentHashMap::size)
+             .description("생성 전이거나 실패한 썸네일 수")
+             .register(meterRegistry);
+    }
+
+    private Timer thumbnailTimer(String outcome) {
+        return Timer.builder("docmall.thumbnail")
+                    .description("썸네일 + 변형 이미지 생성 시간")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryScheduler.shutdownNow();
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch(InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 썸네일 생성 작업을 등록합니다.
+     *
+     * @param source 원본 이미지 파일
+     * @param thumbnail 생성할 썸네일 파일
+     */
+    public void submit(File source, File thumbnail) {
+        states.put(thumbnail.getAbsolutePath(), State.PENDING);
+        execute(source, thumbnail, 1);
+    }
+
+    /**
+     * 썸네일 파일이 없고 진행 중인 작업도 없으면 다시 생성합니다.
+     * - 재시작 전에 큐에 있던 작업은 사라지므로, 조회 시점에 원본으로 다시 생성합니다.
+     * - 같은 썸네일을 여러 요청이 동시에 조회해도 작업은 한 번만 등록됩니다.
+     * - 최종 실패(FAILED)한 썸네일은 다시 시도하지 않습니다.
+     * - 요청 값으로 만든 경로는 호출하는 쪽(FileUtils)에서 업로드 루트 안인지 확인한 뒤 넘겨야 합니다.
+     *
+     * @param source 원본 이미지 파일
+     * @param thumbnail 썸네일 파일
+     * @return 생성 작업을 등록했으면 true
+     */
+    public boolean submitIfMissing(File source, File thumbnail) {
+        if(thumbnail.exists() || !source.isFile()) {
+            return false;
+        }
+        String key = thumbnail.getAbsolutePath();
+        if(states.putIfAbsent(key, State.PENDING) != null) {
+            return false;
+        }
+        // 상태 확인 직전에 생성이 끝났으면 다시 만들지 않음
+        if(thumbnail.exists()) {
+            states.remove(key, State.PENDING);
+            return false;
+        }
+        log.info("썸네일이 없어 다시 생성합니다: {}", thumbnail);
+        execute(source, thumbnail, 1);
+        return true;
+    }
+
+    /**
+     * 썸네일이 준비되었는지 여부
+     *
+     * @param thumbnail 썸네일 파일
+     * @return 생성이 끝나 파일이 있으면 true
+     */
+    public boolean isReady(File thumbnail) {
+        State state = states.get(thumbnail.getAbsolutePath());
+        if(state != null) {
+            return false;
+        }
+        return thumbnail.exists();
+    }
+
+    /**
+     * 썸네일 생성 상태 조회
+     *
+     * @param thumbnail 썸네일 파일
+     * @return PENDING/FAILED, 진행 중인 작업이 없으면 null
+     */
+    public State getState(File thumbnail) {
+        return states.get(thumbnail.getAbsolutePath());
+    }
+
+    /** 대기 중인 작업 수 */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    private void execute(File source, File thumbnail, int attempt) {
+        executor.execute(() -> generate(source, thumbnail, attempt));
+    }
+
+    private void generate(File source, File thumbnail, int attempt) {
+        String key = thumbnail.getAbsolutePath();
+        long start = System.nanoTime();
+        try {
+            createThumbnail(source, thumbnail);
+            successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            states.remove(key);
+        } catch(Exception ex) {
+            failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if(attempt <= maxRetries && !retryScheduler.isShutdown()) {
+                long delay = 1000L << (attempt - 1); // 1초, 2초, 4초 ...
+                log.warn("썸네일 생성 실패({}회), {}ms 후 재시도: {}", attempt, delay, source, ex);
+                retryScheduler.schedule(() -> execute(source, thumbnail, attempt + 1), delay, TimeUnit.MILLISECONDS);
+            } else {
+                log.error("썸네일 생성 최종 실패: {}", source, ex);
+                states.put(key, State.FAILED);
+            }
+        }
+    }
+
+    /**
+     * 썸네일을 임시 파일로 만든 뒤 최종 이름으로 이동합니다.
+     * - 원본을 한 번만 디코딩하여 변형 이미지 생성에도 같이 사용합니다.
+     * - 크기: 원본 / ratio, 단 최대 가로 크기(max-width)를 넘지 않음
+     * - 벤치마크(src/jmh)에서 직접 호출할 수 있도록 package-private
+     */
+    void createThumbnail(File source, File thumbnail) throws Exception {
+        BufferedImage image = ImageIO.read(source);
+        if(image == null) {
+            throw new IOException("이미지를 읽을 수 없습니다: " + source);
+        }
+
+        double scale = Math.min(1.0 / ratio, (double) maxWidth / image.getWidth());
+
+        File tmp = new File(thumbnail.getParentFile(), ".tmp_" + thumbnail.getName());
+        try {
+            Thumbnails.of(image)
+                      .scale(Math.min(scale, 1.0))
+                      .toFile(tmp);
+            Files.move(tmp.toPath(), thumbnail.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp.toPath());
+        }
+
+        imageVariantService.createVariants(image, source);
+    }
+}
@@ -0,0 +1,88 @@
+package com.docmall.basic.common.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 초당 허용량을 제한하는 토큰 버킷(token bucket) 속도 제한기입니다.
+ *
+ * - 초당 ratePerSecond개씩 토큰이 채워지고, 최대 burst개까지 모아 둘 수 있습니다.
+ * - acquire(n)은 토큰 n개를 가져가며, 부족하면 부족한 만큼 채워질 때까지 기다립니다.
+ *   (토큰을 먼저 빌려 쓰고 대기하므로 n이 burst보다 커도 동작)
+ * - 여러 스레드에서 동시에 호출해도 안전합니다. 대기는 잠금 밖에서 하므로
+ *   가상 스레드에서도 캐리어 스레드를 점유하지 않습니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+public class TokenBucket {
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final double nanosPerToken;
+    private final double burst;
+
+    // 현재 토큰 수 (빌려 쓴 경우 음수)
+    private double tokens;
+    private long lastRefill;
+
+    /**
+     * @param ratePerSecond 초당 채워지는 토큰 수
+     * @param burst 모아 둘 수 있는 최대 토큰 수
+     */
+    public TokenBucket(double ratePerSecond, int burst) {
+        if(ratePerSecond <= 0) {
+            throw new IllegalArgumentException("ratePerSecond는 0보다 커야 합니다: " + ratePerSecond);
+        }
+        this.nanosPerToken = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        this.burst = Math.max(1, burst);
+        this.tokens = this.burst;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * 토큰 n개를 가져갑니다. 부족하면 채워질 때까지 기다립니다.
+     *
+     * @param permits 가져갈 토큰 수
+     * @throws InterruptedException 대기 중 인터럽트 시
+     */
+    public void acquire(int permits) throws InterruptedException {
+        long waitNanos;
+        lock.lock();
+        try {
+            refill(System.nanoTime());
+            tokens -= permits;
+            waitNanos = tokens < 0 ? (long) (-tokens * nanosPerToken) : 0;
+        } finally {
+            lock.unlock();
+        }
+        if(waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 기다리지 않고 토큰 n개를 가져갑니다.
+     *
+     * @param permits 가져갈 토큰 수
+     * @return 토큰이 충분해 가져갔으면 true
+     */
+    public boolean tryAcquire(int permits) {
+        lock.lock();
+        try {
+            refill(System.nanoTime());
+            if(tokens < permits) {
+                return false;
+            }
+            tokens -= permits;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(burst, tokens + (now - lastRefill) / nanosPerToken);
+        lastRefill = now;
+    }
+}
@@ -0,0 +1,81 @@
+package com.docmall.basic.mail;
+
+import java.security.SecureRandom;
+import java.util.Date;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메일 발송 요청을 처리하는 서비스 클래스입니다.
+ *
+ * - sendMail()은 메일을 발송 대기열(mail_queue_tbl)에 저장만 하고 바로 반환합니다.
+ *   SMTP 발송은 MailDispatcher 작업 스레드가 처리하므로 요청 처리 시간에 포함되지 않습니다.
+ * - 대기열은 DB에 저장되므로 SMTP 서버 장애나 애플리케이션 재시작 중에도 메일이 사라지지 않습니다.
+ * - 트랜잭션 안에서 호출하면 커밋된 뒤에 작업 스레드를 깨웁니다. (롤백되면 발송되지 않음)
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@RequiredArgsConstructor // Lombok: final 필드에 대한 생성자 자동 생성
+@Service // 해당 클래스가 서비스 계층(비즈니스 로직)임을 명시
+public class EmailService {
+
+    // 임시 비밀번호/인증코드에 사용할 문자 (혼동되는 0, O, 1, l, I 제외)
+    private static final char[] AUTH_CODE_CHARS = "ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnpqrstuvwxyz23456789".toCharArray();
+
+    // 임시 비밀번호/인증코드 길이
+    private static final int AUTH_CODE_LENGTH = 10;
+
+    private final SecureRandom random = new SecureRandom();
+
+    private final MailMapper mailMapper;
+    private final MailDispatcher mailDispatcher;
+
+    /**
+     * 메일을 발송 대기열에 등록합니다.
+     *
+     * @param type 메일 템플릿 이름 (예: mail/idsearch, mail/pwtemp)
+     * @param dto 받는 사람, 제목, 보내는 사람 이름
+     * @param value 템플릿에 전달할 값 (찾은 아이디, 임시 비밀번호 등)
+     * @return 발송 대기열 번호
+     */
+    public Long sendMail(String type, EmailDTO dto, String value) {
+        MailQueueVO vo = new MailQueueVO();
+        vo.setMq_template(type);
+        vo.setMq_sender_name(dto.getSenderName());
+        vo.setMq_receiver(dto.getReceiverMail());
+        vo.setMq_subject(dto.getSubject());
+        vo.setMq_param(value);
+        vo.setMq_next_try(new Date());
+        mailMapper.enqueue(vo);
+
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    mailDispatcher.wakeUp();
+                }
+            });
+        } else {
+            mailDispatcher.wakeUp();
+        }
+        return vo.getMq_num();
+    }
+
+    /**
+     * 임시 비밀번호/인증코드를 만듭니다. (SecureRandom 사용)
+     *
+     * @return 영문 대소문자와 숫자로 된 10자리 문자열
+     */
+    public String createAuthCode() {
+        StringBuilder sb = new StringBuilder(AUTH_CODE_LENGTH);
+        for(int i = 0; i < AUTH_CODE_LENGTH; i++) {
+            sb.append(AUTH_CODE_CHARS[random.nextInt(AUTH_CODE_CHARS.length)]);
+        }
+        return sb.toString();
+    }
+}
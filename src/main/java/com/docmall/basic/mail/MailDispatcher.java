@@ -0,0 +1,335 @@
+package com.docmall.basic.mail;
+
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import com.docmall.basic.common.utils.TokenBucket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메일 발송 대기열(mail_queue_tbl)을 읽어 SMTP로 발송하는 백그라운드 작업 클래스입니다.
+ *
+ * - 작업 스레드(com.docmall.mail.threads)가 대기열에서 batch-size건씩 가져가(claim) 발송합니다.
+ *   가져가기는 READY → SENDING 상태 변경에 성공한 건만 해당하므로 여러 서버가 같은 대기열을 사용해도 중복 발송되지 않습니다.
+ * - 한 묶음은 JavaMailSender.send(MimeMessage...) 1번으로 보내므로 SMTP 연결 1개를 재사용합니다.
+ *   (메일마다 연결/인증을 반복하지 않음)
+ * - 발송 속도는 토큰 버킷(com.docmall.mail.rate-per-second)으로 제한합니다. (SMTP 서버 발송 제한 대비)
+ * - 실패한 건은 간격을 늘려가며(retry-delay-ms × 2^(시도-1), 최대 1시간) 재시도하고,
+ *   max-attempts를 넘기면 FAILED 상태로 남깁니다.
+ * - 새 메일이 등록되면 wakeUp()으로 바로 깨우고, 그 외에는 poll-interval-ms마다 대기열을 확인합니다.
+ * - 발송 중 서버가 종료되어 SENDING으로 남은 건은 stale-minutes가 지나면 다시 READY로 되돌립니다.
+ * - spring.threads.virtual.enabled=true(virtual 프로필)이면 작업 스레드를 가상 스레드로 실행합니다.
+ * - 메트릭: docmall.mail(outcome=sent/retry/failed 건수), docmall.mail.send(묶음 발송 시간)
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
+@RequiredArgsConstructor // Lombok: final 필드 생성자 자동 생성(의존성 주입)
+@Component // 스프링 부트가 시작되면 Bean으로 등록됨
+public class MailDispatcher {
+
+    // 재시도 최대 간격
+    private static final long MAX_RETRY_DELAY_MS = TimeUnit.HOURS.toMillis(1);
+
+    private final MailMapper mailMapper;
+    private final MailTemplateRenderer mailTemplateRenderer;
+    private final JavaMailSender mailSender;
+    private final MeterRegistry meterRegistry;
+
+    // 발송 작업 사용 여부 (false면 대기열에 저장만 함)
+    @Value("${com.docmall.mail.enabled:true}")
+    private boolean enabled;
+
+    // 보내는 사람 메일주소
+    @Value("${com.docmall.mail.from:noreply@ezenmall.com}")
+    private String from;
+
+    // 작업 스레드 수
+    @Value("${com.docmall.mail.threads:2}")
+    private int threads;
+
+    // 한 번에 가져가 같은 연결로 보낼 메일 수
+    @Value("${com.docmall.mail.batch-size:20}")
+    private int batchSize;
+
+    // 새 메일 알림이 없을 때 대기열 확인 간격(ms)
+    @Value("${com.docmall.mail.poll-interval-ms:5000}")
+    private long pollIntervalMs;
+
+    // 초당 최대 발송 수 / 순간 최대 발송 수
+    @Value("${com.docmall.mail.rate-per-second:10}")
+    private double ratePerSecond;
+
+    @Value("${com.docmall.mail.burst:20}")
+    private int burst;
+
+    // 최대 발송 시도 횟수 (넘으면 FAILED)
+    @Value("${com.docmall.mail.max-attempts:5}")
+    private int maxAttempts;
+
+    // 첫 재시도 간격(ms)
+    @Value("${com.docmall.mail.retry-delay-ms:30000}")
+    private long retryDelayMs;
+
+    // SENDING 상태로 이 시간(분) 이상 남은 건은 READY로 되돌림
+    @Value("${com.docmall.mail.stale-minutes:10}")
+    private long staleMinutes;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // 새 메일 알림 (대기 중인 작업 스레드를 깨움)
+    private final ReentrantLock signalLock = new ReentrantLock();
+    private final Condition signal = signalLock.newCondition();
+    private boolean signalled;
+
+    // 마지막으로 SENDING 건을 되돌린 시각(nanoTime)
+    private final AtomicLong lastStaleCheck = new AtomicLong();
+
+    private volatile boolean running;
+    private SimpleAsyncTaskExecutor executor;
+    private TokenBucket rateLimiter;
+
+    private Counter sentCounter;
+    private Counter retryCounter;
+    private Counter failedCounter;
+    private Timer sendTimer;
+
+    /**
+     * 애플리케이션 시작이 끝나면 작업 스레드를 시작합니다.
+     * (스키마 초기화 등 시작 작업이 모두 끝난 뒤 대기열을 읽도록)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if(!enabled) {
+            log.info("메일 발송 작업 사용 안 함 (com.docmall.mail.enabled=false)");
+            return;
+        }
+        rateLimiter = new TokenBucket(ratePerSecond, burst);
+        sentCounter = mailCounter("sent");
+        retryCounter = mailCounter("retry");
+        failedCounter = mailCounter("failed");
+        sendTimer = Timer.builder("docmall.mail.send")
+                         .description("메일 묶음 발송 시간 (SMTP 연결 1개)")
+                         .register(meterRegistry);
+
+        executor = new SimpleAsyncTaskExecutor("mail-worker-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setDaemon(true);
+
+        try {
+            releaseStale();
+        } catch(RuntimeException ex) {
+            // DB에 연결할 수 없어도 애플리케이션은 시작하고, 작업 스레드가 다음 반복에서 다시 시도
+            lastStaleCheck.set(0);
+            log.warn("발송 중 상태 메일 정리 실패, 작업 스레드에서 다시 시도합니다: {}", ex.getMessage());
+        }
+
+        running = true;
+        String prefix = "mail-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+        for(int i = 1; i <= threads; i++) {
+            String owner = prefix + i;
+            executor.execute(() -> work(owner));
+        }
+        log.info("메일 발송 작업 시작: 스레드 {}개, 묶음 {}건, 초당 {}건", threads, batchSize, ratePerSecond);
+    }
+
+    private Counter mailCounter(String outcome) {
+        return Counter.builder("docmall.mail")
+                      .description("메일 발송 결과 건수")
+                      .tag("outcome", outcome)
+                      .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        wakeUp();
+    }
+
+    /**
+     * 새 메일이 등록되었음을 알려 대기 중인 작업 스레드를 깨웁니다.
+     */
+    public void wakeUp() {
+        signalLock.lock();
+        try {
+            signalled = true;
+            signal.signalAll();
+        } finally {
+            signalLock.unlock();
+        }
+    }
+
+    // 작업 스레드: 보낼 메일이 있으면 계속 보내고, 없으면 알림 또는 poll-interval-ms까지 대기
+    private void work(String owner) {
+        while(running) {
+            try {
+                if(dispatch(owner) == 0) {
+                    awaitWork();
+                    if(System.nanoTime() - lastStaleCheck.get() > TimeUnit.MINUTES.toNanos(staleMinutes)) {
+                        releaseStale();
+                    }
+                }
+            } catch(InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch(Exception ex) {
+                // DB 연결 오류 등: 잠시 후 다시 시도
+                log.error("메일 발송 작업 오류 [{}]", owner, ex);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(pollIntervalMs);
+                } catch(InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void awaitWork() throws InterruptedException {
+        signalLock.lock();
+        try {
+            if(!signalled && running) {
+                signal.await(pollIntervalMs, TimeUnit.MILLISECONDS);
+            }
+            signalled = false;
+        } finally {
+            signalLock.unlock();
+        }
+    }
+
+    private void releaseStale() {
+        lastStaleCheck.set(System.nanoTime());
+        Date cutoff = new Date(System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(staleMinutes));
+        int count = mailMapper.releaseStale(cutoff);
+        if(count > 0) {
+            log.warn("발송 중 상태로 남은 메일 {}건을 다시 대기 상태로 변경", count);
+        }
+    }
+
+    /**
+     * 대기열에서 한 묶음을 가져가 발송합니다.
+     *
+     * @param owner 작업 스레드 이름
+     * @return 발송 가능한 건이 있었으면 그 수, 없으면 0
+     */
+    private int dispatch(String owner) throws InterruptedException {
+        Date now = new Date();
+        List<Long> nums = mailMapper.getReadyNums(now, batchSize);
+        if(nums.isEmpty()) {
+            return 0;
+        }
+        if(mailMapper.claim(nums, owner, now) == 0) {
+            // 다른 작업 스레드가 먼저 가져감
+            return nums.size();
+        }
+
+        List<MailQueueVO> claimed = mailMapper.getClaimed(owner);
+        rateLimiter.acquire(claimed.size());
+
+        // 메시지 → 대기열 건 (실패한 메시지를 찾기 위해 같은 객체를 키로 사용)
+        Map<MimeMessage, MailQueueVO> messages = new LinkedHashMap<>();
+        for(MailQueueVO vo : claimed) {
+            try {
+                messages.put(createMessage(vo), vo);
+            } catch(Exception ex) {
+                fail(vo, ex);
+            }
+        }
+        if(messages.isEmpty()) {
+            return nums.size();
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        long start = System.nanoTime();
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch(MailSendException ex) {
+            // 연결 실패 시에는 모든 메시지가, 개별 실패 시에는 해당 메시지만 담겨 있음
+            failures = ex.getFailedMessages().isEmpty() ? allFailed(messages, ex) : ex.getFailedMessages();
+        } catch(MailException ex) {
+            // 인증 실패 등
+            failures = allFailed(messages, ex);
+        } finally {
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        Date sentAt = new Date();
+        for(Map.Entry<MimeMessage, MailQueueVO> entry : messages.entrySet()) {
+            Exception failure = failures.get(entry.getKey());
+            if(failure == null) {
+                mailMapper.sent(entry.getValue().getMq_num(), sentAt);
+                sentCounter.increment();
+            } else {
+                fail(entry.getValue(), failure);
+            }
+        }
+        return nums.size();
+    }
+
+    private Map<Object, Exception> allFailed(Map<MimeMessage, MailQueueVO> messages, Exception ex) {
+        Map<Object, Exception> failures = new LinkedHashMap<>();
+        for(MimeMessage message : messages.keySet()) {
+            failures.put(message, ex);
+        }
+        return failures;
+    }
+
+    private MimeMessage createMessage(MailQueueVO vo) throws MessagingException, UnsupportedEncodingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+        helper.setFrom(from, vo.getMq_sender_name());
+        helper.setTo(vo.getMq_receiver());
+        helper.setSubject(vo.getMq_subject());
+        helper.setText(mailTemplateRenderer.render(vo.getMq_template(), vo.getMq_param()), true);
+        return message;
+    }
+
+    // 실패 처리: 재시도 간격을 늘려 READY로 되돌리거나, 최대 횟수를 넘으면 FAILED
+    private void fail(MailQueueVO vo, Exception ex) {
+        int attempt = vo.getMq_attempts() + 1;
+        String error = String.valueOf(ex.getMessage());
+        if(error.length() > 500) {
+            error = error.substring(0, 500);
+        }
+
+        if(attempt >= maxAttempts) {
+            log.error("메일 발송 최종 실패({}회) [{}] {}: {}", attempt, vo.getMq_num(), vo.getMq_template(), error);
+            mailMapper.failed(vo.getMq_num(), "FAILED", new Date(), error);
+            failedCounter.increment();
+        } else {
+            long delay = Math.min(retryDelayMs << (attempt - 1), MAX_RETRY_DELAY_MS);
+            log.warn("메일 발송 실패({}회), {}ms 후 재시도 [{}] {}: {}", attempt, delay, vo.getMq_num(), vo.getMq_template(), error);
+            mailMapper.failed(vo.getMq_num(), "READY", new Date(System.currentTimeMillis() + delay), error);
+            retryCounter.increment();
+        }
+    }
+}
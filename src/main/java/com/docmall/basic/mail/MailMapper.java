@@ -0,0 +1,89 @@
+package com.docmall.basic.mail;
+
+import java.util.Date;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 메일 발송 대기열(mail_queue_tbl) 작업을 담당하는 MyBatis 매퍼 인터페이스입니다.
+ *
+ * - 이 인터페이스의 메서드는 resources/mapper/MailMapper.xml의 SQL과 매핑됩니다.
+ * - 여러 작업 스레드(또는 여러 서버)가 같은 대기열을 사용하므로, 발송할 건은
+ *   상태를 READY → SENDING으로 바꾸는 데 성공한 작업 스레드만 가져갑니다. (claim)
+ * - 현재 시각은 DB 함수 대신 파라미터로 전달합니다. (MySQL/H2 공통 SQL)
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+public interface MailMapper {
+
+    /**
+     * 발송 대기열에 저장
+     *
+     * @param vo 발송할 메일 (mq_num에 생성된 번호가 채워짐)
+     */
+    void enqueue(MailQueueVO vo);
+
+    /**
+     * 발송 가능한(READY, 재시도 시각이 지난) 대기열 번호 조회 (오래된 순)
+     *
+     * @param now 현재 시각
+     * @param limit 최대 건수
+     * @return 대기열 번호 목록
+     */
+    List<Long> getReadyNums(@Param("now") Date now, @Param("limit") int limit);
+
+    /**
+     * 대기열 건을 작업 스레드가 가져감 (READY인 건만 SENDING으로 변경)
+     *
+     * @param nums 대기열 번호 목록
+     * @param owner 작업 스레드 이름
+     * @param now 현재 시각
+     * @return 가져간 건수
+     */
+    int claim(@Param("nums") List<Long> nums, @Param("owner") String owner, @Param("now") Date now);
+
+    /**
+     * 작업 스레드가 가져간(SENDING) 건 조회
+     *
+     * @param owner 작업 스레드 이름
+     * @return 발송할 메일 목록
+     */
+    List<MailQueueVO> getClaimed(String owner);
+
+    /**
+     * 발송 완료 처리 (템플릿 값은 삭제)
+     *
+     * @param mq_num 대기열 번호
+     * @param now 발송 시각
+     */
+    void sent(@Param("mq_num") Long mq_num, @Param("now") Date now);
+
+    /**
+     * 발송 실패 처리
+     *
+     * @param mq_num 대기열 번호
+     * @param status READY(재시도) 또는 FAILED(재시도 초과)
+     * @param next_try 다음 발송 시도 시각
+     * @param error 실패 사유
+     */
+    void failed(@Param("mq_num") Long mq_num, @Param("status") String status,
+                @Param("next_try") Date next_try, @Param("error") String error);
+
+    /**
+     * 오래 SENDING 상태로 남은 건을 READY로 되돌림 (발송 중 서버가 종료된 경우)
+     *
+     * @param cutoff 이 시각 이전에 가져간 건
+     * @return 되돌린 건수
+     */
+    int releaseStale(Date cutoff);
+
+    /**
+     * 상태별 건수 (모니터링용)
+     *
+     * @param status 상태
+     * @return 건수
+     */
+    long getCount(String status);
+}
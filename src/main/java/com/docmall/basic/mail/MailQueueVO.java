@@ -0,0 +1,66 @@
+package com.docmall.basic.mail;
+
+import java.util.Date;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 메일 발송 대기열(mail_queue_tbl) 1건을 담는 VO 클래스입니다.
+ *
+ * - 요청 처리 중에는 대기열에 저장만 하고, 실제 발송은 MailDispatcher가 백그라운드에서 처리합니다.
+ * - 상태(mq_status): READY(발송 대기) → SENDING(작업 스레드가 가져감) → SENT(발송 완료) / FAILED(재시도 초과)
+ * - 메일 본문은 저장하지 않고, 템플릿 이름과 템플릿 값(mq_param)으로 발송 시 만듭니다.
+ *   (임시 비밀번호 등이 담길 수 있으므로 mq_param은 발송 완료 후 지웁니다)
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Getter // Lombok: 모든 필드의 getter 메서드 자동 생성
+@Setter // Lombok: 모든 필드의 setter 메서드 자동 생성
+@ToString(exclude = "mq_param") // Lombok: toString() 메서드 자동 생성 (템플릿 값은 로그에 남기지 않음)
+public class MailQueueVO {
+
+    /** 발송 대기열 번호 (PK) */
+    private Long mq_num;
+
+    /** 메일 템플릿 이름 (예: mail/idsearch) */
+    private String mq_template;
+
+    /** 보내는 사람 이름 */
+    private String mq_sender_name;
+
+    /** 받는 사람 메일주소 */
+    private String mq_receiver;
+
+    /** 메일 제목 */
+    private String mq_subject;
+
+    /** 템플릿에 전달할 값 (아이디, 임시 비밀번호 등) */
+    private String mq_param;
+
+    /** 상태 (READY, SENDING, SENT, FAILED) */
+    private String mq_status;
+
+    /** 발송 시도 횟수 */
+    private int mq_attempts;
+
+    /** 다음 발송 시도 가능 시각 (재시도 대기) */
+    private Date mq_next_try;
+
+    /** 가져간 작업 스레드 이름 */
+    private String mq_owner;
+
+    /** 가져간 시각 (오래 SENDING 상태로 남은 건을 되돌릴 때 사용) */
+    private Date mq_claimdate;
+
+    /** 마지막 실패 사유 */
+    private String mq_error;
+
+    /** 등록일 */
+    private Date mq_regdate;
+
+    /** 발송 완료일 */
+    private Date mq_sentdate;
+}
@@ -0,0 +1,74 @@
+package com.docmall.basic.mail;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메일 본문을 타임리프 템플릿(templates/mail/*.html)으로 만드는 클래스입니다.
+ *
+ * - 화면용 템플릿 엔진과 별도의 엔진을 사용하며, 템플릿 캐시를 항상 켭니다.
+ *   (개발 중 spring.thymeleaf.cache=false로 화면 캐시를 꺼도 메일 템플릿은 캐시)
+ * - 시작 시 메일 템플릿(com.docmall.mail.templates)을 미리 읽고 파싱하여 캐시에 올려 두고,
+ *   SpEL 식은 바이트코드로 컴파일하도록 설정합니다. (첫 발송이 느려지지 않고, 템플릿 오류는 시작 시 발견)
+ * - 템플릿에는 값 하나(value)를 전달합니다. 예: 찾은 아이디, 임시 비밀번호
+ * - 템플릿 엔진은 스레드에 안전하므로 여러 발송 작업 스레드에서 함께 사용합니다.
+ *
+ * 공식 문서: https://www.thymeleaf.org/doc/tutorials/3.1/usingthymeleaf.html#template-cache
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
+@Component // 스프링 부트가 시작되면 Bean으로 등록됨
+public class MailTemplateRenderer {
+
+    // 미리 컴파일할 메일 템플릿 목록
+    @Value("${com.docmall.mail.templates:mail/idsearch,mail/pwtemp}")
+    private List<String> templates;
+
+    // 빈으로 등록하지 않음 (등록하면 스프링 부트의 화면용 템플릿 엔진 자동 설정이 꺼짐)
+    private SpringTemplateEngine templateEngine;
+
+    @PostConstruct
+    public void init() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(true);
+
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        templateEngine.setEnableSpringELCompiler(true);
+
+        // 템플릿을 한 번씩 처리하여 파싱 결과를 캐시에 올림 (없거나 문법 오류면 시작 실패)
+        long start = System.nanoTime();
+        for(String template : templates) {
+            render(template, "");
+        }
+        log.info("메일 템플릿 {}개 준비 ({}ms)", templates.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 메일 본문(HTML)을 만듭니다.
+     *
+     * @param template 템플릿 이름 (예: mail/idsearch)
+     * @param value 템플릿에 전달할 값
+     * @return HTML 본문
+     */
+    public String render(String template, String value) {
+        Context context = new Context();
+        context.setVariable("value", value);
+        return templateEngine.process(template, context);
+    }
+}
@@ -0,0 +1,130 @@
+package com.docmall.basic.member;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 회원 정보(MemberVO)를 아이디(mbsp_id)별로 캐시하는 클래스입니다.
+ *
+ * - 로그인, 회원정보 수정 화면 등에서 같은 회원을 반복 조회할 때 DB를 거치지 않습니다.
+ * - TTL과 최대 개수가 있으며, 회원정보 수정/비밀번호 변경 시 해당 회원 항목을 무효화합니다.
+ * - 호출하는 쪽에서 반환 객체를 수정해도(예: 세션 저장 전 비밀번호 지우기) 캐시에 영향이 없도록
+ *   저장/반환 시 복사본을 사용합니다.
+ * - 없는 아이디(null)는 캐시하지 않습니다. (가입 직후 바로 조회되도록)
+ * - DB(MySQL) 비교가 대소문자를 구분하지 않으므로 키도 소문자로 정규화합니다.
+ * - DB 조회를 캐시 내부 잠금(compute) 밖에서 하도록 AsyncCache에 조회 중인 future를 넣어 둡니다.
+ *   (같은 회원 동시 조회는 1번만 DB 조회, 가상 스레드가 잠금 안에서 I/O로 고정되지 않음)
+ * - 조회 중 무효화되면 future가 캐시에서 제거되므로 이전 정보가 다시 저장되지 않습니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Component
+public class MemberCache {
+
+    // 캐시 유지 시간(초)
+    @Value("${com.docmall.member.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    // 최대 캐시 회원 수
+    @Value("${com.docmall.member.cache.max-size:10000}")
+    private long maxSize;
+
+    private AsyncCache<String, MemberVO> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * 캐시된 회원 정보를 반환하고, 없으면 loader로 조회 후 저장합니다.
+     *
+     * @param mbsp_id 회원 아이디
+     * @param loader 실제 DB 조회 함수
+     * @return 회원 정보 복사본, 없으면 null
+     */
+    public MemberVO get(String mbsp_id, Function<String, MemberVO> loader) {
+        if(mbsp_id == null) {
+            return null;
+        }
+        String key = key(mbsp_id);
+
+        // 적중/부재 통계는 getIfPresent에서 기록
+        CompletableFuture<MemberVO> future = cache.getIfPresent(key);
+        if(future == null) {
+            CompletableFuture<MemberVO> loading = new CompletableFuture<>();
+            future = cache.asMap().putIfAbsent(key, loading);
+            if(future == null) {
+                // 이 스레드가 조회 담당 (잠금 밖에서 DB 조회)
+                future = loading;
+                try {
+                    loading.complete(copy(loader.apply(mbsp_id)));
+                } catch(RuntimeException ex) {
+                    // 실패한 future는 Caffeine이 캐시에서 제거
+                    loading.completeExceptionally(ex);
+                }
+            }
+        }
+
+        try {
+            return copy(future.join());
+        } catch(CompletionException ex) {
+            if(ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * 회원 정보가 변경되었을 때 해당 회원 항목을 무효화합니다.
+     *
+     * @param mbsp_id 회원 아이디
+     */
+    public void invalidate(String mbsp_id) {
+        if(mbsp_id != null) {
+            cache.synchronous().invalidate(key(mbsp_id));
+        }
+    }
+
+    /** 적중/부재/제거 통계 */
+    public CacheStats getStats() {
+        return cache.synchronous().stats();
+    }
+
+    /** 내부 Caffeine 캐시 (메트릭 등록용) */
+    public AsyncCache<String, MemberVO> getCache() {
+        return cache;
+    }
+
+    private static String key(String mbsp_id) {
+        return mbsp_id.stripTrailing().toLowerCase(Locale.ROOT);
+    }
+
+    private static MemberVO copy(MemberVO src) {
+        if(src == null) {
+            return null;
+        }
+        MemberVO dst = new MemberVO();
+        BeanUtils.copyProperties(src, dst);
+        return dst;
+    }
+}
@@ -2,7 +2,6 @@ package com.docmall.basic.member;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,8 +10,14 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import com.docmall.basic.common.security.LoginBusyException;
+import com.docmall.basic.common.security.LoginPrincipal;
+import com.docmall.basic.common.security.LoginRateLimiter;
+import com.docmall.basic.common.security.PasswordVerifier;
 import com.docmall.basic.mail.EmailDTO;
+import com.docmall.basic.mail.EmailService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,9 +44,14 @@ public class MemberController {
     // 회원 서비스(비즈니스 로직 담당)
     private final MemberService memberService;
 
-    // 비밀번호 암호화용 PasswordEncoder (스프링 시큐리티 제공)
-    // 공식 문서: https://docs.spring.io/spring-security/reference/features/authentication/password-storage.html
-    private final PasswordEncoder passwordEncoder;
+    // 로그인/가입 비밀번호 해시를 전용 스레드 풀에서 처리 (해시 비용 재설정, 빠른 경로 포함)
+    private final PasswordVerifier passwordVerifier;
+
+    // IP별/아이디별 로그인 시도 횟수 제한
+    private final LoginRateLimiter loginRateLimiter;
+
+    // 메일 발송 서비스 (발송 대기열에 등록만 하고 바로 반환)
+    private final EmailService emailService;
 
     /**
      * 회원 가입 페이지로 이동하는 요청을 처리합니다.
@@ -91,10 +101,11 @@ public class MemberController {
     public String join(MemberVO vo) throws Exception {
 
         // 비밀번호 암호화(스프링 시큐리티 PasswordEncoder 사용)
-        // encode() 메서드는 입력받은 평문 비밀번호를 암호화된 문자열로 변환합니다.
-        vo.setMbsp_password(passwordEncoder.encode(vo.getMbsp_password()));
+        // 해시(BCrypt)는 CPU 부하가 크므로 전용 스레드 풀(PasswordVerifier)에서 처리합니다.
+        vo.setMbsp_password(passwordVerifier.encode(vo.getMbsp_password()));
 
-        log.info("회원정보 비밀번호 암호화 후: {}", vo);
+        // 회원정보 전체(암호화된 비밀번호, 개인정보 포함)는 로그에 남기지 않음
+        log.debug("회원가입: {}", vo.getMbsp_id());
 
         // DB에 회원 정보 저장
         memberService.join(vo);
@@ -121,17 +132,27 @@ public class MemberController {
      *
      * POST /member/login
      * - 사용자가 입력한 아이디/비밀번호를 확인하여 로그인 처리
-     * - 로그인 성공 시 세션에 회원정보를 저장하고, 이전 요청 URL 또는 메인 페이지로 이동
+     * - 로그인 성공 시 세션에 로그인 정보(LoginPrincipal: 아이디, 이름)만 저장하고, 이전 요청 URL 또는 메인 페이지로 이동
      * - 로그인 실패 시 상태(status)를 리다이렉트 속성에 담아 로그인 페이지로 이동
+     * - 같은 IP/아이디의 시도가 너무 많으면 비밀번호 확인 없이 거부(tooMany),
+     *   비밀번호 확인 작업이 밀려 있으면 거부(busy)
+     * - 저장된 비밀번호 해시의 비용이 현재 설정보다 낮으면 새 비용으로 다시 저장
      *
      * @param dto    로그인 폼에서 입력받은 아이디/비밀번호 DTO
      * @param session HTTP 세션 객체 (로그인 정보 저장에 사용)
      * @param rttr   리다이렉트 시 1회성 메시지 전달용 객체
+     * @param request 클라이언트 IP 확인용
      * @return 리다이렉트할 URL
      * @throws Exception 예외 발생 시
      */
     @PostMapping("/login")
-    public String login(LoginDTO dto, HttpSession session, RedirectAttributes rttr) throws Exception {
+    public String login(LoginDTO dto, HttpSession session, RedirectAttributes rttr, HttpServletRequest request) throws Exception {
+
+        // 시도 횟수 제한 (비밀번호 대입 공격 방지)
+        if(!loginRateLimiter.tryAcquire(request.getRemoteAddr(), dto.getMbsp_id())) {
+            rttr.addFlashAttribute("status", "tooMany");
+            return "redirect:/member/login";
+        }
         
         // 아이디로 회원 정보 조회
         MemberVO memberVO = memberService.login(dto.getMbsp_id());
@@ -141,10 +162,26 @@ public class MemberController {
         
         if(memberVO != null) {
             // 입력한 비밀번호와 DB에 저장된 비밀번호(암호화)를 비교
-            if(passwordEncoder.matches(dto.getMbsp_password(), memberVO.getMbsp_password())) {
+            PasswordVerifier.Result result;
+            try {
+                result = passwordVerifier.verify(memberVO.getMbsp_id(), dto.getMbsp_password(), memberVO.getMbsp_password());
+            } catch(LoginBusyException ex) {
+                log.warn("로그인 처리 지연: {}", ex.getMessage());
+                rttr.addFlashAttribute("status", "busy");
+                return "redirect:/member/login";
+            }
+
+            if(result.matched()) {
                 // 비밀번호 일치: 로그인 성공
-                memberVO.setMbsp_password(""); // 보안을 위해 비밀번호 정보는 세션에 저장하지 않음
-                session.setAttribute("login_auth", memberVO); // 세션에 로그인 정보 저장
+                if(result.rehashed() != null) {
+                    // 이전 비용으로 저장된 비밀번호를 현재 비용으로 다시 저장
+                    memberService.pwchange(memberVO.getMbsp_id(), result.rehashed());
+                }
+                // 로그인 전 세션 아이디를 그대로 쓰지 않도록 변경 (세션 고정 공격 방지)
+                request.changeSessionId();
+                // 세션에는 아이디/이름만 저장 (회원 정보, 비밀번호 해시는 저장하지 않음)
+                session.setAttribute(LoginPrincipal.MEMBER_SESSION_KEY,
+                        LoginPrincipal.member(memberVO.getMbsp_id(), memberVO.getMbsp_name()));
 
                 // 로그인 전 이동하려던 페이지가 있다면 해당 URL로 이동
                 if(session.getAttribute("targetUrl") != null) {
@@ -152,7 +189,7 @@ public class MemberController {
 
                     // POST 방식 데이터가 있으면 URL에 쿼리스트링으로 추가
                     if(session.getAttribute("postData") != null) {
-                        log.info("데이터 : " + session.getAttribute("postData"));
+                        log.debug("데이터 : {}", session.getAttribute("postData"));
                         url = url + "?" + (String) session.getAttribute("postData");
                     }
                 } else {
@@ -195,7 +232,7 @@ public class MemberController {
     /**
      * 회원정보 수정 페이지로 이동
      *
-     * - 세션에서 로그인한 회원의 아이디를 가져와 DB에서 회원정보를 조회합니다.
+     * - 세션에서 로그인한 회원의 아이디를 가져와 회원정보를 조회합니다. (회원 캐시 사용)
      * - 조회한 회원 정보를 모델에 담아 수정 페이지에 전달합니다.
      *
      * @param session 현재 사용자 세션
@@ -207,7 +244,7 @@ public class MemberController {
         log.info("modify 호출");
 
         // 세션에서 로그인 회원 정보 가져오기
-        String mbsp_id = ((MemberVO) session.getAttribute("login_auth")).getMbsp_id();
+        String mbsp_id = LoginPrincipal.currentMember(session).id();
 
         // 회원 정보 조회
         MemberVO memberVO = memberService.modify(mbsp_id);
@@ -221,14 +258,17 @@ public class MemberController {
      * 회원정보 수정 저장 처리
      *
      * - 수정된 회원 정보를 DB에 저장합니다.
+     * - 수정 대상 아이디는 폼 값이 아닌 로그인 세션의 아이디를 사용합니다.
      * - 저장 후 메인 페이지로 리다이렉트합니다.
      *
      * @param vo 수정할 회원 정보
+     * @param session 현재 사용자 세션
      * @return 메인 페이지로 리다이렉트
      * @throws Exception 예외 발생 시
      */
     @PostMapping("/modify")
-    public String modify(MemberVO vo) throws Exception {
+    public String modify(MemberVO vo, HttpSession session) throws Exception {
+        vo.setMbsp_id(LoginPrincipal.currentMember(session).id());
         memberService.modify_save(vo); // 회원 정보 저장
         return "redirect:/";
     }
@@ -261,6 +301,8 @@ public class MemberController {
      * 비밀번호 변경 요청을 처리하는 컨트롤러 메서드입니다.
      *
      * - 현재 비밀번호가 맞는지 확인 후, 새 비밀번호로 변경합니다.
+     *   (세션에는 비밀번호 해시가 없으므로 회원 캐시/DB에 저장된 해시와 비교)
+     * - 비밀번호 확인 작업이 밀려 있으면 변경하지 않고 "busy"를 전달합니다.
      * - 변경 성공 시 메인 페이지로 리다이렉트, 실패 시 비밀번호 변경 페이지로 리다이렉트합니다.
      * - RedirectAttributes를 활용해 1회성 메시지를 전달합니다.
      * - (이메일 알림 기능은 주석 처리되어 있음)
@@ -318,33 +360,39 @@ public class MemberController {
         String url = "";
         String msg = "";
 
-        // 세션에서 로그인 회원 정보 추출
-        MemberVO loginMember = (MemberVO) session.getAttribute("login_auth");
-        String db_mbsp_password = loginMember.getMbsp_password();
-        String mbsp_id = loginMember.getMbsp_id();
-        String mbsp_email = loginMember.getMbsp_email();
-
-        // 입력한 현재 비밀번호가 DB의 암호화된 비밀번호와 일치하는지 확인
-        if (passwordEncoder.matches(mbsp_password, db_mbsp_password)) {
-            // 새 비밀번호 암호화
-            String encode_new_pw = passwordEncoder.encode(new_pw);
-
-            // 비밀번호 변경 서비스 호출
-            memberService.pwchange(mbsp_id, encode_new_pw);
-
-            url = "/";
-            msg = "success";
-
-            // 비밀번호 변경 알림 이메일 발송(주석 처리)
-            // String type = "mail/pwchange";
-            // EmailDTO dto = new EmailDTO();
-            // dto.setReceiverMail(mbsp_email);
-            // dto.setSubject("Ezen Mall 비밀번호 변경 알림입니다.");
-            // emailService.sendMail(type, dto, new_pw);
-        } else {
-            // 현재 비밀번호가 일치하지 않을 때
+        // 세션의 아이디로 저장된 회원 정보(비밀번호 해시 포함) 조회
+        String mbsp_id = LoginPrincipal.currentMember(session).id();
+        MemberVO loginMember = memberService.login(mbsp_id);
+        String db_mbsp_password = loginMember != null ? loginMember.getMbsp_password() : null;
+        String mbsp_email = loginMember != null ? loginMember.getMbsp_email() : null;
+
+        try {
+            // 입력한 현재 비밀번호가 DB의 암호화된 비밀번호와 일치하는지 확인
+            if (passwordVerifier.verify(mbsp_id, mbsp_password, db_mbsp_password).matched()) {
+                // 새 비밀번호 암호화
+                String encode_new_pw = passwordVerifier.encode(new_pw);
+
+                // 비밀번호 변경 서비스 호출
+                memberService.pwchange(mbsp_id, encode_new_pw);
+
+                url = "/";
+                msg = "success";
+
+                // 비밀번호 변경 알림 이메일 발송(주석 처리)
+                // String type = "mail/pwchange";
+                // EmailDTO dto = new EmailDTO();
+                // dto.setReceiverMail(mbsp_email);
+                // dto.setSubject("Ezen Mall 비밀번호 변경 알림입니다.");
+                // emailService.sendMail(type, dto, new_pw);
+            } else {
+                // 현재 비밀번호가 일치하지 않을 때
+                url = "/member/pwchange";
+                msg = "fail";
+            }
+        } catch(LoginBusyException ex) {
+            log.warn("비밀번호 변경 처리 지연: {}", ex.getMessage());
             url = "/member/pwchange";
-            msg = "fail";
+            msg = "busy";
         }
 
         // 1회성 메시지(성공/실패)를 리다이렉트 대상 컨트롤러로 전달
@@ -369,6 +417,8 @@ public class MemberController {
     /**
      * 아이디 찾기(메일 발송) 요청을 처리합니다.
      *
+     * - 찾은 아이디를 메일 발송 대기열에 등록하고 바로 응답합니다. (SMTP 발송은 백그라운드)
+     *
      * @param mbsp_name 회원 이름
      * @param mbsp_email 회원 이메일
      * @return "success" 또는 "fail" 문자열과 HTTP 상태 코드
@@ -385,14 +435,13 @@ public class MemberController {
         String mbsp_id = memberService.idsearch(mbsp_name, mbsp_email);
 
         if (mbsp_id != null) {
-            // 아이디가 존재하면 메일 발송 (아래 코드는 실제 메일 발송 로직, 현재는 주석 처리)
-            /*
+            // 아이디가 존재하면 메일 발송 대기열에 등록
             String type = "mail/idsearch";
             EmailDTO dto = new EmailDTO();
             dto.setReceiverMail(mbsp_email); // 받는 사람 메일주소
             dto.setSubject("Ezen Mall 아이디 찾기 결과를 보냅니다.");
             emailService.sendMail(type, dto, mbsp_id);
-            */
+
             result = "success";
         } else {
             result = "fail";
@@ -405,6 +454,8 @@ public class MemberController {
     /**
      * 임시 비밀번호 발급(메일 발송) 요청을 처리합니다.
      *
+     * - 임시 비밀번호를 만들어 암호화하여 저장하고, 메일 발송 대기열에 등록한 뒤 바로 응답합니다.
+     *
      * @param mbsp_id 회원 아이디
      * @param mbsp_email 회원 이메일
      * @return "success" 또는 "fail" 문자열과 HTTP 상태 코드
@@ -423,21 +474,18 @@ public class MemberController {
         if (d_u_email != null) {
             result = "success";
 
-            // 임시 비밀번호 생성 및 메일 발송 (아래 코드는 실제 메일 발송 및 임시 비밀번호 생성/저장 로직, 현재는 주석 처리)
-            /*
-            // 임시 비밀번호 생성 (EmailServiceImpl의 메서드 사용)
+            // 임시 비밀번호 생성
             String imsi_pw = emailService.createAuthCode();
 
             // 임시 비밀번호를 암호화하여 DB에 저장
-            memberService.pwchange(mbsp_id, passwordEncoder.encode(imsi_pw));
+            memberService.pwchange(mbsp_id, passwordVerifier.encode(imsi_pw));
 
-            // 임시 비밀번호 메일 발송
+            // 임시 비밀번호 메일 발송 대기열에 등록
             String type = "mail/pwtemp";
             EmailDTO dto = new EmailDTO();
             dto.setReceiverMail(d_u_email); // 받는 사람 메일주소
             dto.setSubject("Ezen Mall 임시비밀번호를 보냅니다.");
             emailService.sendMail(type, dto, imsi_pw);
-            */
         } else {
             result = "fail";
         }
@@ -0,0 +1,149 @@
+package com.docmall.basic.member;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.docmall.basic.common.utils.BloomFilter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가입된 회원 아이디 집합을 블룸 필터로 보관하여 아이디 중복 체크를 빠르게 처리하는 클래스입니다.
+ *
+ * - 회원가입 화면에서 입력할 때마다 호출되는 아이디 중복 체크(idCheck)의 대부분은
+ *   "없는 아이디"이므로, 필터가 "확실히 없음"이라고 하면 DB를 조회하지 않습니다.
+ * - 필터가 "있을 수도 있음"이라고 하면 DB로 확인합니다. (오탐률 설정값 이내)
+ * - 처음 사용할 때 전체 아이디를 스트리밍으로 읽어 만들고, 가입 시 추가합니다.
+ *   가입 수가 예상 개수를 넘으면 오탐률이 올라가므로 더 큰 필터로 다시 만듭니다.
+ * - DB 비교가 대소문자를 구분하지 않으므로 아이디를 소문자로 정규화하며,
+ *   ASCII 외 문자가 들어간 아이디는 DB 정렬 규칙(악센트 무시 등)과 다를 수 있어 항상 DB로 확인합니다.
+ * - 필터 생성 중 DB를 읽으므로 synchronized 대신 ReentrantLock을 사용합니다.
+ *   (가상 스레드가 synchronized 안에서 I/O로 대기하면 캐리어 스레드를 붙잡음)
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
+@RequiredArgsConstructor // Lombok: final 필드 생성자 자동 생성(의존성 주입)
+@Component // 스프링 부트가 시작되면 Bean으로 등록됨
+public class MemberIdFilter {
+
+    // 회원 관련 DB 작업을 담당하는 MyBatis 매퍼
+    private final MemberMapper memberMapper;
+
+    // 필터 최소 예상 아이디 수
+    @Value("${com.docmall.member.id-filter.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    // 허용 오탐률
+    @Value("${com.docmall.member.id-filter.fpp:0.01}")
+    private double fpp;
+
+    // 현재 필터 (volatile: 교체 즉시 모든 요청 스레드에 보이도록)
+    private volatile BloomFilter filter;
+
+    // 현재 필터의 예상 개수 / 들어 있는 아이디 수
+    private long capacity;
+    private final AtomicLong count = new AtomicLong();
+
+    // 필터 추가/재생성 잠금
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * 아이디가 가입되어 있을 수 있는지 확인합니다.
+     *
+     * @param mbsp_id 회원 아이디
+     * @return false면 확실히 없음(DB 조회 불필요), true면 DB 확인 필요
+     */
+    public boolean mightExist(String mbsp_id) {
+        if(mbsp_id == null || !isAscii(mbsp_id)) {
+            return true;
+        }
+        return filter().mightContain(normalize(mbsp_id));
+    }
+
+    /**
+     * 가입된 아이디를 필터에 추가합니다. (회원가입 후 호출)
+     *
+     * @param mbsp_id 회원 아이디
+     */
+    public void add(String mbsp_id) {
+        lock.lock();
+        try {
+            if(filter == null || mbsp_id == null) {
+                // 아직 만들어지지 않았으면 처음 사용할 때 DB에서 함께 읽힘
+                return;
+            }
+            filter.put(normalize(mbsp_id));
+            if(count.incrementAndGet() > capacity) {
+                rebuild();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * DB의 전체 아이디로 필터를 다시 만듭니다.
+     *
+     * @return 필터에 들어간 아이디 수
+     */
+    public long rebuild() {
+        lock.lock();
+        try {
+            long total = memberMapper.getMemberCount();
+            long newCapacity = Math.max(expectedInsertions, total * 2);
+
+            BloomFilter newFilter = new BloomFilter(newCapacity, fpp);
+            AtomicLong loaded = new AtomicLong();
+            memberMapper.getAllMemberIds(ctx -> {
+                newFilter.put(normalize(ctx.getResultObject()));
+                loaded.incrementAndGet();
+            });
+
+            capacity = newCapacity;
+            count.set(loaded.get());
+            filter = newFilter;
+            log.info("회원 아이디 필터 생성: {}개, 비트 {}, 해시 {}개",
+                    loaded.get(), newFilter.getBitSize(), newFilter.getHashCount());
+            return loaded.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 필터 반환 (없으면 생성, double-checked locking)
+    private BloomFilter filter() {
+        BloomFilter current = filter;
+        if(current == null) {
+            lock.lock();
+            try {
+                if(filter == null) {
+                    rebuild();
+                }
+                current = filter;
+            } finally {
+                lock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private static String normalize(String mbsp_id) {
+        return mbsp_id.stripTrailing().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isAscii(String value) {
+        for(int i = 0; i < value.length(); i++) {
+            if(value.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
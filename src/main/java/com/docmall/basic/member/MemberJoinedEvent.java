@@ -0,0 +1,17 @@
+package com.docmall.basic.member;
+
+import java.util.Date;
+
+/**
+ * 회원 가입이 저장된 뒤 발행되는 이벤트입니다.
+ *
+ * - 가입자 수 통계(SalesRollup)에 사용합니다.
+ *
+ * @param mbsp_id 가입한 회원 아이디
+ * @param joinDate 가입 시각
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+public record MemberJoinedEvent(String mbsp_id, Date joinDate) {
+}
@@ -1,6 +1,7 @@
 package com.docmall.basic.member;
 
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 /**
  * 회원 관련 데이터베이스 작업을 담당하는 MyBatis 매퍼 인터페이스입니다.
@@ -26,6 +27,20 @@ public interface MemberMapper {
      */
     String idCheck(String mbsp_id);
 
+    /**
+     * 전체 회원 수 (아이디 필터 크기 계산용)
+     *
+     * @return 회원 수
+     */
+    long getMemberCount();
+
+    /**
+     * 전체 회원 아이디를 한 건씩 전달 (아이디 필터 생성용, 목록을 메모리에 모으지 않음)
+     *
+     * @param handler 아이디를 한 건씩 받을 핸들러
+     */
+    void getAllMemberIds(ResultHandler<String> handler);
+
     /**
      * 회원 가입(INSERT)
      *
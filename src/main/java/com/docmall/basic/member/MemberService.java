@@ -1,5 +1,8 @@
 package com.docmall.basic.member;
 
+import java.util.Date;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 
@@ -8,6 +11,10 @@ import lombok.RequiredArgsConstructor;
  *
  * - MemberMapper(매퍼 인터페이스)를 주입받아 DB 연동 작업을 수행합니다.
  * - 주로 회원 가입, 로그인, 아이디 중복 체크 등 핵심 로직을 구현합니다.
+ * - 아이디로 회원 정보를 조회할 때는 회원 캐시(MemberCache)를 거치며,
+ *   회원정보 수정/비밀번호 변경 시 해당 회원의 캐시를 무효화합니다.
+ * - 회원 가입 후 가입 이벤트(MemberJoinedEvent)를 발행합니다. (가입자 수 통계)
+ * - 아이디 중복 체크는 아이디 필터(MemberIdFilter)가 "확실히 없음"이면 DB를 조회하지 않습니다.
  * - @Service 어노테이션을 통해 스프링 빈으로 등록됩니다.
  * - @RequiredArgsConstructor는 final 필드에 대한 생성자를 자동으로 생성합니다.
  *   (Lombok 공식 문서: https://projectlombok.org/features/RequiredArgsConstructor)
@@ -22,6 +29,15 @@ public class MemberService {
     // 회원 관련 DB 작업을 담당하는 MyBatis 매퍼
     private final MemberMapper memberMapper;
 
+    // 아이디별 회원 정보 캐시
+    private final MemberCache memberCache;
+
+    // 가입된 아이디 블룸 필터
+    private final MemberIdFilter memberIdFilter;
+
+    // 가입 이벤트 발행 (통계 집계)
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * 아이디 중복 체크
      *
@@ -29,7 +45,11 @@ public class MemberService {
      * @return 이미 존재하면 아이디(String), 없으면 null
      */
     public String idCheck(String mbsp_id) {
-        // MemberMapper의 idCheck 메서드를 호출하여 아이디 존재 여부 확인
+        // 필터에 확실히 없는 아이디면 DB 조회 없이 사용 가능
+        if(!memberIdFilter.mightExist(mbsp_id)) {
+            return null;
+        }
+        // 있을 수도 있으면 MemberMapper의 idCheck 메서드를 호출하여 아이디 존재 여부 확인
         return memberMapper.idCheck(mbsp_id);
     }
 
@@ -40,26 +60,29 @@ public class MemberService {
      */
     public void join(MemberVO vo) {
         memberMapper.join(vo);
+        memberIdFilter.add(vo.getMbsp_id());
+        eventPublisher.publishEvent(new MemberJoinedEvent(vo.getMbsp_id(), new Date()));
     }
 
     /**
      * 회원 로그인: 아이디로 회원 정보를 조회합니다.
      *
      * @param mbsp_id 로그인할 회원의 아이디
-     * @return 해당 아이디의 회원 정보(MemberVO), 없으면 null
+     * @return 해당 아이디의 회원 정보(MemberVO, 복사본), 없으면 null
      */
     public MemberVO login(String mbsp_id) {
-        return memberMapper.login(mbsp_id);
+        return memberCache.get(mbsp_id, memberMapper::login);
     }
 
     /**
      * 회원정보 수정 화면에 출력할 회원 정보를 조회합니다.
+     * - 로그인과 같은 조회이므로 같은 캐시를 사용합니다.
      *
      * @param mbsp_id 회원 아이디
-     * @return 회원 정보(MemberVO)
+     * @return 회원 정보(MemberVO, 복사본)
      */
     public MemberVO modify(String mbsp_id) {
-        return memberMapper.modify(mbsp_id);
+        return memberCache.get(mbsp_id, memberMapper::login);
     }
 
     /**
@@ -69,6 +92,7 @@ public class MemberService {
      */
     public void modify_save(MemberVO vo) {
         memberMapper.modify_save(vo);
+        memberCache.invalidate(vo.getMbsp_id());
     }
 
     /**
@@ -79,6 +103,7 @@ public class MemberService {
      */
     public void pwchange(String mbsp_id, String mbsp_password) {
         memberMapper.pwchange(mbsp_id, mbsp_password);
+        memberCache.invalidate(mbsp_id);
     }
 
     /**
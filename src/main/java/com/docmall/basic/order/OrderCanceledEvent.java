@@ -0,0 +1,14 @@
+package com.docmall.basic.order;
+
+/**
+ * 주문이 취소(커밋)된 뒤 발행되는 이벤트입니다.
+ *
+ * - 매출 통계(SalesRollup)에서 주문일의 집계 값을 차감하는 데 사용합니다.
+ *
+ * @param order 취소된 주문 (주문일, 결제 금액, 주문 상품의 카테고리/수량/단가 포함)
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+public record OrderCanceledEvent(OrderVO order) {
+}
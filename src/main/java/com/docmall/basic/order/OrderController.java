@@ -0,0 +1,107 @@
+package com.docmall.basic.order;
+
+import java.util.List;
+
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+import com.docmall.basic.common.security.LoginPrincipal;
+import com.docmall.basic.common.utils.PageMaker;
+import com.docmall.basic.common.utils.SearchCriteria;
+
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원 주문 관련 웹 요청을 처리하는 컨트롤러 클래스입니다.
+ *
+ * - "/order"로 시작하는 요청을 처리합니다. (주문하기, 주문 목록)
+ * - 로그인한 회원만 사용할 수 있으며, 주문자 아이디는 로그인 세션(LoginPrincipal)에서 가져옵니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
+@RequiredArgsConstructor // Lombok: final 필드 생성자 자동 생성(의존성 주입)
+@RequestMapping("/order") // "/order"로 시작하는 요청을 이 컨트롤러에서 처리
+@Controller // 스프링 MVC 컨트롤러로 등록
+public class OrderController {
+
+    // 주문 서비스
+    private final OrderService orderService;
+
+    /**
+     * 주문하기
+     *
+     * POST /order/checkout
+     * - 폼 파라미터: ord_name, ord_zipcode, ord_addr, ord_deaddr, ord_phone,
+     *   details[0].pro_num, details[0].dt_amount, details[1].pro_num, ...
+     * - 결제 금액은 서버에서 상품 가격으로 계산합니다.
+     * - 재고가 부족하면 주문하지 않고 msg=soldout 전달
+     *
+     * @param vo 주문 정보
+     * @param session 로그인 세션
+     * @param rttr 리다이렉트 시 1회성 메시지 전달
+     * @return 주문 목록 페이지로 리다이렉트
+     * @throws Exception 예외 발생 시
+     */
+    @PostMapping("/checkout")
+    public String checkout(OrderVO vo, HttpSession session, RedirectAttributes rttr) throws Exception {
+        LoginPrincipal principal = LoginPrincipal.currentMember(session);
+        if(principal == null) {
+            return "redirect:/member/login";
+        }
+        vo.setMbsp_id(principal.id());
+
+        try {
+            Long ord_code = orderService.checkout(vo);
+            rttr.addFlashAttribute("msg", "success");
+            rttr.addFlashAttribute("ord_code", ord_code);
+        } catch(SoldOutException ex) {
+            log.info("주문 실패(재고 부족): {} 상품 {}", principal.id(), ex.getPro_num());
+            rttr.addFlashAttribute("msg", "soldout");
+        } catch(IllegalArgumentException ex) {
+            log.info("주문 실패(잘못된 요청): {} {}", principal.id(), ex.getMessage());
+            rttr.addFlashAttribute("msg", "fail");
+        }
+        return "redirect:/order/order_list";
+    }
+
+    /**
+     * 주문 목록 페이지
+     *
+     * GET /order/order_list
+     *
+     * @param cri 페이징 조건
+     * @param session 로그인 세션
+     * @param model 뷰에 데이터 전달
+     * @return 주문 목록 뷰, 로그인하지 않았으면 로그인 페이지로 리다이렉트
+     * @throws Exception 예외 발생 시
+     */
+    @GetMapping("/order_list")
+    public String order_list(@ModelAttribute("cri") SearchCriteria cri, HttpSession session, Model model) throws Exception {
+        LoginPrincipal principal = LoginPrincipal.currentMember(session);
+        if(principal == null) {
+            return "redirect:/member/login";
+        }
+
+        List<OrderVO> order_list = orderService.order_list(principal.id(), cri);
+        for(OrderVO order : order_list) {
+            order.setDetails(orderService.order_detail_list(order.getOrd_code()));
+        }
+
+        PageMaker pageMaker = new PageMaker();
+        pageMaker.setCri(cri);
+        pageMaker.setTotalCount(orderService.getTotalCount(principal.id()));
+
+        model.addAttribute("order_list", order_list);
+        model.addAttribute("pageMaker", pageMaker);
+        return "order/order_list";
+    }
+}
@@ -0,0 +1,44 @@
+package com.docmall.basic.order;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 주문 상품(order_detail_tbl) 1건을 담는 VO 클래스입니다.
+ *
+ * - dt_price는 주문 시점의 할인 적용 단가입니다. (이후 상품 가격이 바뀌어도 주문 금액은 유지)
+ * - cate_code, pro_name, pro_up_folder, pro_img는 목록 출력/통계 집계용으로 상품 테이블에서 함께 조회합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Getter // Lombok: 모든 필드의 getter 메서드 자동 생성
+@Setter // Lombok: 모든 필드의 setter 메서드 자동 생성
+@ToString // Lombok: toString() 메서드 자동 생성
+public class OrderDetailVO {
+
+    /** 주문 번호 */
+    private Long ord_code;
+
+    /** 상품 번호 */
+    private Integer pro_num;
+
+    /** 주문 수량 */
+    private int dt_amount;
+
+    /** 주문 시점의 할인 적용 단가 */
+    private int dt_price;
+
+    /** 상품 카테고리 코드 (조회용, 통계 집계에 사용) */
+    private Integer cate_code;
+
+    /** 상품명 (조회용) */
+    private String pro_name;
+
+    /** 이미지 업로드 날짜 폴더명 (조회용) */
+    private String pro_up_folder;
+
+    /** 상품 이미지 파일명 (조회용) */
+    private String pro_img;
+}
@@ -0,0 +1,95 @@
+package com.docmall.basic.order;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Param;
+
+import com.docmall.basic.admin.product.ProductVO;
+import com.docmall.basic.common.utils.SearchCriteria;
+
+/**
+ * 주문(order_tbl, order_detail_tbl)과 상품 재고(product_tbl.pro_amount) 작업을 담당하는 MyBatis 매퍼 인터페이스입니다.
+ *
+ * - 이 인터페이스의 메서드는 resources/mapper/OrderMapper.xml의 SQL과 매핑됩니다.
+ * - 재고는 조회 후 계산해서 저장하지 않고, 조건부 update 한 문장으로 차감합니다.
+ *   (update ... set pro_amount = pro_amount - ? where pro_amount >= ?)
+ *   동시에 여러 주문이 같은 상품을 차감해도 DB가 행 단위로 순서대로 처리하므로 재고가 음수가 되지 않습니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+public interface OrderMapper {
+
+    /**
+     * 주문할 상품의 가격 정보 조회 (번호, 상품명, 가격, 할인율, 구매 가능 여부)
+     *
+     * @param pro_nums 상품 번호 목록
+     * @return 상품 목록 (없는 상품은 제외)
+     */
+    List<ProductVO> getOrderProducts(@Param("pro_nums") List<Integer> pro_nums);
+
+    /**
+     * 재고 차감(확보) - 재고가 수량 이상이고 구매 가능한 상품만 차감
+     *
+     * @param pro_num 상품 번호
+     * @param amount 차감할 수량
+     * @return 차감했으면 1, 재고 부족/구매 불가면 0
+     */
+    int reserveStock(@Param("pro_num") Integer pro_num, @Param("amount") int amount);
+
+    /**
+     * 재고 되돌리기 (주문 저장 실패, 주문 취소)
+     *
+     * @param pro_num 상품 번호
+     * @param amount 되돌릴 수량
+     */
+    void releaseStock(@Param("pro_num") Integer pro_num, @Param("amount") int amount);
+
+    /**
+     * 주문 저장
+     *
+     * @param vo 주문 정보 (ord_code에 생성된 번호가 채워짐)
+     */
+    void order_insert(OrderVO vo);
+
+    /**
+     * 주문 상품 저장(multi-row INSERT)
+     *
+     * @param ord_code 주문 번호
+     * @param list 주문 상품 목록
+     */
+    void order_detail_insert(@Param("ord_code") Long ord_code, @Param("list") List<OrderDetailVO> list);
+
+    /**
+     * 회원의 주문 목록 조회 (최근 주문 순, 페이징)
+     *
+     * @param mbsp_id 회원 아이디
+     * @param cri 페이징 조건
+     * @return 주문 목록
+     */
+    List<OrderVO> order_list(@Param("mbsp_id") String mbsp_id, @Param("cri") SearchCriteria cri);
+
+    /**
+     * 회원의 주문 수 조회
+     *
+     * @param mbsp_id 회원 아이디
+     * @return 주문 수
+     */
+    int getTotalCount(@Param("mbsp_id") String mbsp_id);
+
+    /**
+     * 주문 정보 조회
+     *
+     * @param ord_code 주문 번호
+     * @return 주문 정보, 없으면 null
+     */
+    OrderVO order_info(Long ord_code);
+
+    /**
+     * 주문 상품 목록 조회 (상품명, 이미지 포함)
+     *
+     * @param ord_code 주문 번호
+     * @return 주문 상품 목록
+     */
+    List<OrderDetailVO> order_detail_list(Long ord_code);
+}
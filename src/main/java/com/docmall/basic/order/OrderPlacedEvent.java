@@ -0,0 +1,14 @@
+package com.docmall.basic.order;
+
+/**
+ * 주문이 저장(커밋)된 뒤 발행되는 이벤트입니다.
+ *
+ * - 매출 통계(SalesRollup) 등 주문 저장과 분리된 후속 처리에 사용합니다.
+ *
+ * @param order 저장된 주문 (주문일, 결제 금액, 주문 상품의 카테고리/수량/단가 포함)
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+public record OrderPlacedEvent(OrderVO order) {
+}
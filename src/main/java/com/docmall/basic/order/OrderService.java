@@ -0,0 +1,172 @@
+package com.docmall.basic.order;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.docmall.basic.admin.product.ProductVO;
+import com.docmall.basic.common.utils.SearchCriteria;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문(결제) 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
+ *
+ * - 주문 처리 순서
+ *   1) 주문 상품의 가격/할인율을 DB에서 조회하여 결제 금액 계산 (화면에서 받은 금액은 사용하지 않음)
+ *   2) 상품별 재고 차감(StockReserver) - 트랜잭션 밖에서 바로 커밋되어 인기 상품 행 잠금을 짧게 유지
+ *      하나라도 재고가 부족하면 앞에서 차감한 재고를 되돌리고 SoldOutException
+ *   3) 주문/주문 상품 저장(트랜잭션) - 실패하면 차감한 재고를 되돌림
+ *   4) 주문 저장 이벤트(OrderPlacedEvent) 발행 - 매출 통계 집계
+ * - 상품 번호 순서로 차감하므로 여러 상품을 담은 주문끼리 서로의 행 잠금을 기다리는 교착 상태가 생기지 않습니다.
+ * - 같은 상품이 여러 번 담겨 있으면 수량을 합칩니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
+@RequiredArgsConstructor // Lombok: final 필드에 대한 생성자 자동 생성
+@Service // 해당 클래스가 서비스 계층(비즈니스 로직)임을 명시
+public class OrderService {
+
+    private final OrderMapper orderMapper;
+    private final StockReserver stockReserver;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 주문을 저장합니다. (재고 차감 포함)
+     *
+     * @param vo 주문 정보 (mbsp_id, 받는 사람 정보, details의 pro_num/dt_amount)
+     * @return 생성된 주문 번호
+     * @throws SoldOutException 재고가 부족한 상품이 있을 때 (차감한 재고는 모두 되돌림)
+     * @throws IllegalArgumentException 주문 상품이 없거나, 없는 상품/잘못된 수량이 있을 때
+     */
+    public Long checkout(OrderVO vo) {
+        List<OrderDetailVO> details = mergeDetails(vo.getDetails());
+
+        // 1) DB 가격으로 결제 금액 계산
+        Map<Integer, ProductVO> products = orderMapper.getOrderProducts(
+                details.stream().map(OrderDetailVO::getPro_num).toList())
+                .stream()
+                .collect(Collectors.toMap(ProductVO::getPro_num, Function.identity()));
+        int ord_price = 0;
+        for(OrderDetailVO detail : details) {
+            ProductVO product = products.get(detail.getPro_num());
+            if(product == null) {
+                throw new IllegalArgumentException("없는 상품입니다: " + detail.getPro_num());
+            }
+            detail.setCate_code(product.getCate_code());
+            detail.setDt_price(product.getPro_price() * (100 - product.getPro_discount()) / 100);
+            ord_price += detail.getDt_price() * detail.getDt_amount();
+        }
+        vo.setDetails(details);
+        vo.setOrd_price(ord_price);
+        vo.setOrd_regdate(new Date());
+
+        // 2) 재고 차감 (상품 번호 순)
+        List<OrderDetailVO> reserved = new ArrayList<>();
+        try {
+            for(OrderDetailVO detail : details) {
+                if(!stockReserver.reserve(detail.getPro_num(), detail.getDt_amount())) {
+                    throw new SoldOutException(detail.getPro_num());
+                }
+                reserved.add(detail);
+            }
+
+            // 3) 주문/주문 상품 저장
+            transactionTemplate.executeWithoutResult(status -> {
+                orderMapper.order_insert(vo);
+                orderMapper.order_detail_insert(vo.getOrd_code(), details);
+            });
+        } catch(RuntimeException ex) {
+            release(reserved);
+            throw ex;
+        }
+
+        eventPublisher.publishEvent(new OrderPlacedEvent(vo));
+        log.debug("주문 저장: {} ({}건, {}원)", vo.getOrd_code(), details.size(), ord_price);
+        return vo.getOrd_code();
+    }
+
+    /**
+     * 회원의 주문 목록 조회 (최근 주문 순)
+     *
+     * @param mbsp_id 회원 아이디
+     * @param cri 페이징 조건
+     * @return 주문 목록
+     */
+    public List<OrderVO> order_list(String mbsp_id, SearchCriteria cri) {
+        return orderMapper.order_list(mbsp_id, cri);
+    }
+
+    /**
+     * 회원의 주문 수 조회
+     *
+     * @param mbsp_id 회원 아이디
+     * @return 주문 수
+     */
+    public int getTotalCount(String mbsp_id) {
+        return orderMapper.getTotalCount(mbsp_id);
+    }
+
+    /**
+     * 주문 상품 목록 조회
+     *
+     * @param ord_code 주문 번호
+     * @return 주문 상품 목록
+     */
+    public List<OrderDetailVO> order_detail_list(Long ord_code) {
+        return orderMapper.order_detail_list(ord_code);
+    }
+
+    // 차감한 재고 되돌리기 (되돌리기 실패는 로그만 남기고 나머지 계속 진행)
+    private void release(List<OrderDetailVO> reserved) {
+        for(OrderDetailVO detail : reserved) {
+            try {
+                stockReserver.release(detail.getPro_num(), detail.getDt_amount());
+            } catch(RuntimeException ex) {
+                log.error("재고 되돌리기 실패: 상품 {} 수량 {}", detail.getPro_num(), detail.getDt_amount(), ex);
+            }
+        }
+    }
+
+    // 같은 상품 수량 합치기, 수량 확인, 상품 번호 순 정렬
+    private static List<OrderDetailVO> mergeDetails(List<OrderDetailVO> details) {
+        if(details == null || details.isEmpty()) {
+            throw new IllegalArgumentException("주문 상품이 없습니다.");
+        }
+        Map<Integer, OrderDetailVO> merged = new LinkedHashMap<>();
+        for(OrderDetailVO detail : details) {
+            if(detail.getPro_num() == null || detail.getDt_amount() <= 0) {
+                throw new IllegalArgumentException("잘못된 주문 상품입니다: " + detail);
+            }
+            merged.merge(detail.getPro_num(), detail, (a, b) -> {
+                a.setDt_amount(Math.addExact(a.getDt_amount(), b.getDt_amount()));
+                return a;
+            });
+        }
+        List<OrderDetailVO> list = new ArrayList<>(merged.values());
+        list.sort(Comparator.comparing(OrderDetailVO::getPro_num));
+        return list;
+    }
+}
@@ -0,0 +1,58 @@
+package com.docmall.basic.order;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 주문(order_tbl) 1건을 담는 VO 클래스입니다.
+ *
+ * - 받는 사람 정보(이름, 주소, 전화번호)와 결제 금액, 주문 상태를 포함합니다.
+ * - 주문 상태(ord_status): ORDERED(주문 접수) → SHIPPING(배송 중) → DELIVERED(배송 완료) / CANCELED(취소)
+ * - 주문 상품은 details에 담으며, order_detail_tbl에 따로 저장됩니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Getter // Lombok: 모든 필드의 getter 메서드 자동 생성
+@Setter // Lombok: 모든 필드의 setter 메서드 자동 생성
+@ToString // Lombok: toString() 메서드 자동 생성
+public class OrderVO {
+
+    /** 주문 번호 (PK) */
+    private Long ord_code;
+
+    /** 주문한 회원 아이디 */
+    private String mbsp_id;
+
+    /** 받는 사람 이름 */
+    private String ord_name;
+
+    /** 받는 사람 우편번호 */
+    private String ord_zipcode;
+
+    /** 받는 사람 기본 주소 */
+    private String ord_addr;
+
+    /** 받는 사람 상세 주소 */
+    private String ord_deaddr;
+
+    /** 받는 사람 전화번호 */
+    private String ord_phone;
+
+    /** 결제 금액 (주문 상품 할인가 × 수량의 합) */
+    private int ord_price;
+
+    /** 주문 상태 */
+    private String ord_status;
+
+    /** 주문일 */
+    private Date ord_regdate;
+
+    /** 주문 상품 목록 */
+    private List<OrderDetailVO> details = new ArrayList<>();
+}
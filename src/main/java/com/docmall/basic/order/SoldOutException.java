@@ -0,0 +1,27 @@
+package com.docmall.basic.order;
+
+/**
+ * 주문 수량만큼 재고를 확보하지 못했을 때 발생하는 예외입니다.
+ *
+ * - 재고가 부족하거나 구매 불가(pro_buy = 'N') 상품인 경우입니다.
+ * - 먼저 확보한 다른 상품의 재고는 예외를 던지기 전에 되돌립니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+public class SoldOutException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    // 재고를 확보하지 못한 상품 번호
+    private final Integer pro_num;
+
+    public SoldOutException(Integer pro_num) {
+        super("재고가 부족합니다. (상품 번호: " + pro_num + ")");
+        this.pro_num = pro_num;
+    }
+
+    public Integer getPro_num() {
+        return pro_num;
+    }
+}
@@ -0,0 +1,188 @@
+package com.docmall.basic.order;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 상품의 재고를 차감(확보)하는 클래스입니다.
+ *
+ * - 재고 차감은 조건부 update 한 문장(OrderMapper.reserveStock)으로 처리하므로 동시 주문에도 재고가 음수가 되지 않습니다.
+ * - 인기 상품(hot SKU) 묶음 처리: 같은 상품에 주문이 몰리면 상품 행 잠금을 기다리는 update가 줄을 서게 됩니다.
+ *   상품마다 대기열을 두고, 잠금을 얻은 스레드 하나가 그동안 쌓인 요청을 모아
+ *   합계 수량으로 update 1번만 실행합니다. (나머지 스레드는 결과만 받음)
+ *   · 합계만큼 재고가 없으면(품절 직전) 도착 순서대로 한 건씩 차감하여, 남은 재고 안에서 가능한 주문은 성공합니다.
+ *   · 한 번에 묶는 최대 요청 수는 com.docmall.order.stock.max-batch
+ * - 트랜잭션 밖에서 호출해야 합니다. (각 update가 바로 커밋되어 상품 행 잠금을 짧게 유지)
+ *   주문 저장에 실패하면 호출한 쪽(OrderService)에서 release()로 되돌립니다.
+ * - 메트릭: docmall.order.stock(outcome=reserved/soldout), docmall.order.stock.batch(묶음 크기)
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@RequiredArgsConstructor // Lombok: final 필드 생성자 자동 생성(의존성 주입)
+@Component // 스프링 부트가 시작되면 Bean으로 등록됨
+public class StockReserver {
+
+    private final OrderMapper orderMapper;
+    private final MeterRegistry meterRegistry;
+
+    // 같은 상품 요청 묶음 처리 사용 여부 (false면 요청마다 update 실행)
+    @Value("${com.docmall.order.stock.batch-enabled:true}")
+    private boolean batchEnabled;
+
+    // 한 번에 묶어서 차감할 최대 요청 수
+    @Value("${com.docmall.order.stock.max-batch:100}")
+    private int maxBatch;
+
+    // 상품 번호 → 대기열 (최근 주문이 없는 상품은 제거)
+    private Cache<Integer, Lane> lanes;
+
+    private Counter reservedCounter;
+    private Counter soldOutCounter;
+    private DistributionSummary batchSummary;
+
+    // 상품 1개의 차감 요청 대기열
+    private static final class Lane {
+        final ConcurrentLinkedQueue<Request> pending = new ConcurrentLinkedQueue<>();
+        final ReentrantLock lock = new ReentrantLock();
+    }
+
+    // 차감 요청 1건
+    private record Request(int amount, CompletableFuture<Boolean> result) {
+    }
+
+    @PostConstruct
+    public void init() {
+        lanes = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .maximumSize(10_000)
+                .build();
+
+        reservedCounter = outcomeCounter("reserved");
+        soldOutCounter = outcomeCounter("soldout");
+        batchSummary = DistributionSummary.builder("docmall.order.stock.batch")
+                                          .description("update 1번으로 처리한 재고 차감 요청 수")
+                                          .register(meterRegistry);
+    }
+
+    private Counter outcomeCounter(String outcome) {
+        return Counter.builder("docmall.order.stock")
+                      .description("재고 차감 요청 수")
+                      .tag("outcome", outcome)
+                      .register(meterRegistry);
+    }
+
+    /**
+     * 재고를 차감합니다.
+     *
+     * @param pro_num 상품 번호
+     * @param amount 차감할 수량 (1 이상)
+     * @return 차감했으면 true, 재고 부족/구매 불가면 false
+     */
+    public boolean reserve(Integer pro_num, int amount) {
+        if(amount <= 0) {
+            throw new IllegalArgumentException("주문 수량은 1 이상이어야 합니다: " + amount);
+        }
+
+        boolean reserved;
+        if(batchEnabled) {
+            reserved = reserveBatched(pro_num, amount);
+        } else {
+            batchSummary.record(1);
+            reserved = orderMapper.reserveStock(pro_num, amount) == 1;
+        }
+
+        (reserved ? reservedCounter : soldOutCounter).increment();
+        return reserved;
+    }
+
+    /**
+     * 차감한 재고를 되돌립니다. (주문 저장 실패, 주문 취소)
+     *
+     * @param pro_num 상품 번호
+     * @param amount 되돌릴 수량
+     */
+    public void release(Integer pro_num, int amount) {
+        orderMapper.releaseStock(pro_num, amount);
+    }
+
+    private boolean reserveBatched(Integer pro_num, int amount) {
+        // 대기열이 만료 직후 다시 만들어져 같은 상품에 대기열이 2개가 되어도
+        // 각 update가 조건부이므로 묶음 효과만 줄고 재고는 정확함
+        Lane lane = lanes.get(pro_num, key -> new Lane());
+        Request request = new Request(amount, new CompletableFuture<>());
+        lane.pending.add(request);
+
+        // 잠금을 얻은 스레드가 쌓인 요청을 모아서 처리
+        // 잠금을 기다리는 동안 다른 스레드가 이 요청까지 처리했으면 바로 결과 반환
+        while(!request.result().isDone()) {
+            lane.lock.lock();
+            try {
+                if(!request.result().isDone()) {
+                    drain(pro_num, lane);
+                }
+            } finally {
+                lane.lock.unlock();
+            }
+        }
+
+        try {
+            return request.result().join();
+        } catch(CompletionException ex) {
+            if(ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    // 쌓인 요청을 최대 maxBatch건 모아서 차감 (lane.lock을 가진 스레드만 호출)
+    private void drain(Integer pro_num, Lane lane) {
+        List<Request> batch = new ArrayList<>();
+        int total = 0;
+        Request next;
+        while(batch.size() < maxBatch && (next = lane.pending.poll()) != null) {
+            batch.add(next);
+            total += next.amount();
+        }
+        if(batch.isEmpty()) {
+            return;
+        }
+        batchSummary.record(batch.size());
+
+        try {
+            if(orderMapper.reserveStock(pro_num, total) == 1) {
+                batch.forEach(r -> r.result().complete(true));
+                return;
+            }
+            if(batch.size() == 1) {
+                batch.get(0).result().complete(false);
+                return;
+            }
+            // 합계만큼 재고가 없으면 도착 순서대로 한 건씩
+            for(Request r : batch) {
+                r.result().complete(orderMapper.reserveStock(pro_num, r.amount()) == 1);
+            }
+        } catch(RuntimeException ex) {
+            // DB 오류는 아직 결과가 없는 요청 모두에 전달
+            batch.forEach(r -> r.result().completeExceptionally(ex));
+        }
+    }
+}
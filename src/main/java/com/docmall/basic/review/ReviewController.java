@@ -0,0 +1,164 @@
+package com.docmall.basic.review;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.docmall.basic.common.security.LoginPrincipal;
+import com.docmall.basic.common.utils.PageMaker;
+import com.docmall.basic.common.utils.SearchCriteria;
+
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 리뷰 관련 웹 요청을 처리하는 컨트롤러 클래스입니다.
+ *
+ * - "/review"로 시작하는 요청을 처리합니다.
+ * - 상품 리뷰 목록(더보기)은 누구나 조회할 수 있고, 작성/수정/삭제/리뷰 관리는 로그인한 회원만 사용할 수 있습니다.
+ * - 작성자 아이디는 로그인 세션(LoginPrincipal)에서 가져옵니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
+@RequiredArgsConstructor // Lombok: final 필드 생성자 자동 생성(의존성 주입)
+@RequestMapping("/review") // "/review"로 시작하는 요청을 이 컨트롤러에서 처리
+@Controller // 스프링 MVC 컨트롤러로 등록
+public class ReviewController {
+
+    // 상품 리뷰 "더보기" 1회 조회 개수
+    private static final int PRODUCT_PAGE_SIZE = 10;
+
+    // 리뷰 서비스
+    private final ReviewService reviewService;
+
+    /**
+     * 상품 리뷰 목록 (REST API, 커서 페이징)
+     *
+     * GET /review/review_list?pro_num=1&cursor=123
+     * - 첫 요청은 cursor 없이, 다음 요청은 응답의 nextCursor를 cursor로 보냅니다.
+     *
+     * @param pro_num 상품 번호
+     * @param cursor 마지막으로 본 리뷰 번호
+     * @return ResponseEntity<ReviewPage> (리뷰 목록, 다음 커서, 더보기 여부)
+     * @throws Exception 예외 발생 시
+     */
+    @GetMapping("/review_list")
+    public ResponseEntity<ReviewPage> review_list(Integer pro_num,
+                                                  @RequestParam(required = false) Integer cursor) throws Exception {
+        return new ResponseEntity<>(reviewService.review_list_product(pro_num, cursor, PRODUCT_PAGE_SIZE), HttpStatus.OK);
+    }
+
+    /**
+     * 리뷰 작성 (REST API)
+     *
+     * POST /review/review_insert
+     * - 폼 파라미터: pro_num, rev_content, rev_rating
+     *
+     * @param vo 리뷰 정보
+     * @param session 로그인 세션
+     * @return "success", 로그인하지 않았으면 "login", 입력값이 잘못되었으면 "fail"
+     * @throws Exception 예외 발생 시
+     */
+    @PostMapping("/review_insert")
+    public ResponseEntity<String> review_insert(ReviewVO vo, HttpSession session) throws Exception {
+        LoginPrincipal principal = LoginPrincipal.currentMember(session);
+        if(principal == null) {
+            return new ResponseEntity<>("login", HttpStatus.OK);
+        }
+        vo.setMbsp_id(principal.id());
+
+        try {
+            reviewService.review_insert(vo);
+        } catch(IllegalArgumentException ex) {
+            log.info("리뷰 작성 실패: {} {}", principal.id(), ex.getMessage());
+            return new ResponseEntity<>("fail", HttpStatus.OK);
+        }
+        return new ResponseEntity<>("success", HttpStatus.OK);
+    }
+
+    /**
+     * 리뷰 수정 (REST API, 작성자만)
+     *
+     * POST /review/review_modify
+     * - 폼 파라미터: rev_code, rev_content, rev_rating
+     *
+     * @param vo 리뷰 정보
+     * @param session 로그인 세션
+     * @return "success", 로그인하지 않았으면 "login", 수정하지 못했으면 "fail"
+     * @throws Exception 예외 발생 시
+     */
+    @PostMapping("/review_modify")
+    public ResponseEntity<String> review_modify(ReviewVO vo, HttpSession session) throws Exception {
+        LoginPrincipal principal = LoginPrincipal.currentMember(session);
+        if(principal == null) {
+            return new ResponseEntity<>("login", HttpStatus.OK);
+        }
+        vo.setMbsp_id(principal.id());
+
+        boolean modified;
+        try {
+            modified = reviewService.review_update(vo);
+        } catch(IllegalArgumentException ex) {
+            log.info("리뷰 수정 실패: {} {}", principal.id(), ex.getMessage());
+            modified = false;
+        }
+        return new ResponseEntity<>(modified ? "success" : "fail", HttpStatus.OK);
+    }
+
+    /**
+     * 리뷰 삭제 (REST API, 작성자만)
+     *
+     * POST /review/review_delete
+     *
+     * @param rev_code 리뷰 번호
+     * @param session 로그인 세션
+     * @return "success", 로그인하지 않았으면 "login", 삭제하지 못했으면 "fail"
+     * @throws Exception 예외 발생 시
+     */
+    @PostMapping("/review_delete")
+    public ResponseEntity<String> review_delete(Integer rev_code, HttpSession session) throws Exception {
+        LoginPrincipal principal = LoginPrincipal.currentMember(session);
+        if(principal == null) {
+            return new ResponseEntity<>("login", HttpStatus.OK);
+        }
+        boolean deleted = reviewService.review_delete(rev_code, principal.id());
+        return new ResponseEntity<>(deleted ? "success" : "fail", HttpStatus.OK);
+    }
+
+    /**
+     * 내 리뷰 관리 페이지 (커서 페이징)
+     *
+     * GET /review/review_manage
+     *
+     * @param cri 커서 조건 (cursor, direction, perPageNum)
+     * @param session 로그인 세션
+     * @param model 뷰에 데이터 전달
+     * @return 리뷰 관리 뷰, 로그인하지 않았으면 로그인 페이지로 리다이렉트
+     * @throws Exception 예외 발생 시
+     */
+    @GetMapping("/review_manage")
+    public String review_manage(@ModelAttribute("cri") SearchCriteria cri, HttpSession session, Model model) throws Exception {
+        LoginPrincipal principal = LoginPrincipal.currentMember(session);
+        if(principal == null) {
+            return "redirect:/member/login";
+        }
+
+        PageMaker pageMaker = new PageMaker();
+        List<ReviewVO> review_list = reviewService.review_list_member(principal.id(), cri, pageMaker);
+
+        model.addAttribute("review_list", review_list);
+        model.addAttribute("pageMaker", pageMaker);
+        return "review/review_manage";
+    }
+}
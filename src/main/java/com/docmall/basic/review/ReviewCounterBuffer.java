@@ -0,0 +1,223 @@
+package com.docmall.basic.review;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 리뷰 수(pro_review)/평점 합계(pro_rating_sum) 증가분을 모아서 저장하는 클래스입니다. (write-behind)
+ *
+ * - 리뷰 저장/수정/삭제/숨김이 커밋되면 상품별 증가분을 메모리 카운터(LongAdder)에 더하기만 합니다.
+ *   리뷰 요청마다 인기 상품 행을 update 하지 않으므로, 상품 행 잠금(재고 차감과 같은 행) 경합이 생기지 않습니다.
+ * - 작업 스레드가 주기적으로(com.docmall.review.flush-seconds) 모인 증가분을
+ *   BATCH 실행기(SqlSessionTemplate, ExecutorType.BATCH)로 한 번에 전송하고 한 트랜잭션으로 커밋합니다.
+ *   상품 번호 순으로 update 하므로 다른 상품 update와 교착 상태가 생기지 않습니다.
+ * - 저장에 실패하면 증가분을 다시 메모리에 합쳐 다음 주기에 재시도합니다.
+ *   애플리케이션 종료 시 남은 증가분을 저장합니다. (비정상 종료 시 유실분은 recount()로 보정)
+ * - 메트릭: docmall.review.counter.pending(저장 대기 상품 수), docmall.review.counter.flush(저장 시간)
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
+@RequiredArgsConstructor // Lombok: final 필드 생성자 자동 생성(의존성 주입)
+@Component // 스프링 부트가 시작되면 Bean으로 등록됨
+public class ReviewCounterBuffer {
+
+    private final ReviewMapper reviewMapper;
+    private final SqlSessionFactory sqlSessionFactory;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    // 메모리 증가분을 상품 테이블에 저장하는 주기(초)
+    @Value("${com.docmall.review.flush-seconds:5}")
+    private long flushSeconds;
+
+    // 상품 1개의 증가분
+    private static final class Delta {
+        final LongAdder count = new LongAdder();
+        final LongAdder ratingSum = new LongAdder();
+
+        boolean isZero() {
+            return count.sum() == 0 && ratingSum.sum() == 0;
+        }
+    }
+
+    // 증가분 기록(읽기 잠금, 동시 실행)과 맵 교체(쓰기 잠금)를 구분
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    // 저장/보정은 한 번에 하나만
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // 상품 번호 → 다음 저장 때까지 모이는 증가분
+    private volatile Map<Integer, Delta> current = new ConcurrentHashMap<>();
+
+    private TransactionTemplate transactionTemplate;
+    private ReviewMapper batchMapper;
+    private SqlSessionTemplate batchSqlSession;
+    private ScheduledExecutorService scheduler;
+    private Timer flushTimer;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // 스프링 트랜잭션에 참여하는 BATCH 실행기 (update를 모아 두었다가 flushStatements/커밋 때 한 번에 전송)
+        batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        batchMapper = batchSqlSession.getMapper(ReviewMapper.class);
+
+        flushTimer = Timer.builder("docmall.review.counter.flush")
+                          .description("리뷰 집계 증가분 저장 시간")
+                          .register(meterRegistry);
+        Gauge.builder("docmall.review.counter.pending", this, b -> b.current.size())
+             .description("리뷰 집계 저장 대기 중인 상품 수")
+             .register(meterRegistry);
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "review-counter-flush");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushSeconds, flushSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        flushQuietly();
+    }
+
+    /**
+     * 상품의 리뷰 수/평점 합계 증가분을 더합니다. (리뷰 변경이 커밋된 뒤 호출)
+     *
+     * @param pro_num 상품 번호
+     * @param count 리뷰 수 증가분 (추가 1, 삭제/숨김 -1, 수정 0)
+     * @param ratingSum 평점 합계 증가분
+     */
+    public void add(Integer pro_num, int count, int ratingSum) {
+        if(count == 0 && ratingSum == 0) {
+            return;
+        }
+        swapLock.readLock().lock();
+        try {
+            Delta delta = current.computeIfAbsent(pro_num, k -> new Delta());
+            delta.count.add(count);
+            delta.ratingSum.add(ratingSum);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모인 증가분을 상품 테이블에 저장합니다. (주기 실행, 관리자 화면에서 즉시 반영할 때)
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Integer, Delta> pending = swap();
+            if(pending.isEmpty()) {
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                // 상품 번호 순으로 정렬하여 전송
+                Map<Integer, Delta> sorted = new TreeMap<>(pending);
+                transactionTemplate.executeWithoutResult(status -> {
+                    sorted.forEach((pro_num, delta) -> {
+                        if(!delta.isZero()) {
+                            batchMapper.addReviewCounts(pro_num, delta.count.sum(), delta.ratingSum.sum());
+                        }
+                    });
+                    batchSqlSession.flushStatements();
+                });
+            } catch(RuntimeException ex) {
+                // 다음 주기에 다시 저장
+                merge(pending);
+                throw ex;
+            } finally {
+                flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch(RuntimeException ex) {
+            log.warn("리뷰 집계 저장 실패 (다음 주기에 재시도): {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * 상품의 리뷰 수/평점 합계를 review_tbl에서 다시 계산합니다. (유실/오차 보정용)
+     *
+     * - 메모리에 있던 이 상품의 증가분은 review_tbl에 이미 반영되어 있으므로 버립니다.
+     *
+     * @param pro_num 상품 번호
+     */
+    public void recount(Integer pro_num) {
+        flushLock.lock();
+        try {
+            swapLock.writeLock().lock();
+            try {
+                current.remove(pro_num);
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            reviewMapper.recountReviews(pro_num);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 현재 증가분을 꺼내고 새 맵으로 교체 (기록 중인 스레드가 끝날 때까지 대기)
+    private Map<Integer, Delta> swap() {
+        swapLock.writeLock().lock();
+        try {
+            Map<Integer, Delta> pending = current;
+            current = new ConcurrentHashMap<>();
+            return pending;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    // 저장에 실패한 증가분을 현재 맵에 다시 합침
+    private void merge(Map<Integer, Delta> pending) {
+        swapLock.readLock().lock();
+        try {
+            Map<Integer, Delta> map = current;
+            pending.forEach((pro_num, delta) -> {
+                Delta target = map.computeIfAbsent(pro_num, k -> new Delta());
+                target.count.add(delta.count.sum());
+                target.ratingSum.add(delta.ratingSum.sum());
+            });
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+}
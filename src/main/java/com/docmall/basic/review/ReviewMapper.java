@@ -0,0 +1,98 @@
+package com.docmall.basic.review;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Param;
+
+import com.docmall.basic.common.utils.SearchCriteria;
+
+/**
+ * 상품 리뷰(review_tbl)와 상품 리뷰 집계(product_tbl.pro_review, pro_rating_sum) 작업을 담당하는 MyBatis 매퍼 인터페이스입니다.
+ *
+ * - 이 인터페이스의 메서드는 resources/mapper/ReviewMapper.xml의 SQL과 매핑됩니다.
+ * - 리뷰 목록은 커서(keyset) 방식으로 조회합니다. (rev_code 역순, 마지막으로 본 rev_code 다음부터)
+ *   count(*)와 offset 없이 인덱스 범위만 읽으므로, 리뷰가 많은 상품도 몇 번째 페이지든 같은 비용입니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+public interface ReviewMapper {
+
+    /**
+     * 리뷰 저장
+     *
+     * @param vo 리뷰 정보 (rev_code에 생성된 번호가 채워짐)
+     */
+    void review_insert(ReviewVO vo);
+
+    /**
+     * 리뷰 1건 조회 (수정/삭제 전 이전 평점 확인용, 행 잠금)
+     *
+     * @param rev_code 리뷰 번호
+     * @return 리뷰 정보, 없으면 null
+     */
+    ReviewVO review_get_for_update(Integer rev_code);
+
+    /**
+     * 리뷰 내용/평점 수정
+     *
+     * @param vo 리뷰 정보 (rev_code, rev_content, rev_rating)
+     */
+    void review_update(ReviewVO vo);
+
+    /**
+     * 리뷰 삭제
+     *
+     * @param rev_code 리뷰 번호
+     */
+    void review_delete(Integer rev_code);
+
+    /**
+     * 노출 여부 변경 - 현재 값이 from일 때만 변경
+     *
+     * @param rev_code 리뷰 번호
+     * @param from 현재 노출 여부
+     * @param to 변경할 노출 여부
+     * @return 변경했으면 1, 이미 변경되었으면 0
+     */
+    int review_status(@Param("rev_code") Integer rev_code, @Param("from") String from, @Param("to") String to);
+
+    /**
+     * 상품의 노출 리뷰 목록 (커서 페이징, 최근 순)
+     *
+     * @param pro_num 상품 번호
+     * @param cursor 마지막으로 본 리뷰 번호 (null이면 처음부터)
+     * @param fetchSize 조회할 행 수 (화면 개수 + 1)
+     * @return 리뷰 목록
+     */
+    List<ReviewVO> review_list_product(@Param("pro_num") Integer pro_num,
+                                       @Param("cursor") Integer cursor,
+                                       @Param("fetchSize") int fetchSize);
+
+    /**
+     * 회원의 리뷰 목록 (커서 페이징)
+     *
+     * @param mbsp_id 회원 아이디
+     * @param cri 커서/방향 (cursorNum, direction, fetchSize)
+     * @return 리뷰 목록 (prev 방향은 오름차순)
+     */
+    List<ReviewVO> review_list_member(@Param("mbsp_id") String mbsp_id, @Param("cri") SearchCriteria cri);
+
+    /**
+     * 상품 리뷰 수/평점 합계에 증가분 더하기
+     *
+     * @param pro_num 상품 번호
+     * @param count 리뷰 수 증가분 (음수 가능)
+     * @param rating_sum 평점 합계 증가분 (음수 가능)
+     */
+    void addReviewCounts(@Param("pro_num") Integer pro_num,
+                         @Param("count") long count,
+                         @Param("rating_sum") long rating_sum);
+
+    /**
+     * 상품 리뷰 수/평점 합계를 review_tbl에서 다시 계산 (관리자 보정용)
+     *
+     * @param pro_num 상품 번호
+     */
+    void recountReviews(Integer pro_num);
+}
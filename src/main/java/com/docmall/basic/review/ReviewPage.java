@@ -0,0 +1,18 @@
+package com.docmall.basic.review;
+
+import java.util.List;
+
+/**
+ * 상품 리뷰 "더보기" 응답 (커서 페이징)
+ *
+ * - 다음 요청에서 nextCursor를 cursor 파라미터로 보내면 이어서 조회합니다.
+ *
+ * @param review_list 리뷰 목록 (최근 작성 순)
+ * @param nextCursor 마지막 리뷰 번호 (결과가 없으면 null)
+ * @param hasMore 다음 리뷰가 더 있는지 여부
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+public record ReviewPage(List<ReviewVO> review_list, Integer nextCursor, boolean hasMore) {
+}
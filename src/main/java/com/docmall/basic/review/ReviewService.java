@@ -0,0 +1,219 @@
+package com.docmall.basic.review;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.docmall.basic.common.utils.PageMaker;
+import com.docmall.basic.common.utils.SearchCriteria;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 리뷰 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
+ *
+ * - 리뷰 저장/수정/삭제/숨김은 review_tbl만 변경하고,
+ *   상품의 리뷰 수/평점 합계 증가분은 커밋된 뒤 ReviewCounterBuffer에 더합니다. (주기적으로 모아서 저장)
+ * - 상품 목록은 product_tbl.pro_review, pro_rating_sum을 읽으므로 review_tbl count(*)/avg()가 필요 없습니다.
+ * - 리뷰 목록은 커서(keyset) 페이징으로 조회합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@RequiredArgsConstructor // Lombok: final 필드에 대한 생성자 자동 생성
+@Service // 해당 클래스가 서비스 계층(비즈니스 로직)임을 명시
+public class ReviewService {
+
+    public static final String VISIBLE = "Y";
+    public static final String HIDDEN = "N";
+
+    // 리뷰 내용 최대 길이 (review_tbl.rev_content)
+    public static final int MAX_CONTENT_LENGTH = 1000;
+
+    private final ReviewMapper reviewMapper;
+    private final ReviewCounterBuffer reviewCounterBuffer;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 리뷰 저장
+     *
+     * @param vo 리뷰 정보 (mbsp_id, pro_num, rev_content, rev_rating)
+     * @return 생성된 리뷰 번호
+     * @throws IllegalArgumentException 상품 번호/내용/평점이 잘못되었을 때
+     */
+    public Integer review_insert(ReviewVO vo) {
+        validate(vo);
+        if(vo.getPro_num() == null) {
+            throw new IllegalArgumentException("상품 번호가 없습니다.");
+        }
+        reviewMapper.review_insert(vo);
+        reviewCounterBuffer.add(vo.getPro_num(), 1, vo.getRev_rating());
+        return vo.getRev_code();
+    }
+
+    /**
+     * 리뷰 수정 (작성자만)
+     *
+     * @param vo 리뷰 정보 (rev_code, mbsp_id, rev_content, rev_rating)
+     * @return 수정했으면 true, 없는 리뷰/다른 회원의 리뷰면 false
+     * @throws IllegalArgumentException 내용/평점이 잘못되었을 때
+     */
+    public boolean review_update(ReviewVO vo) {
+        validate(vo);
+        ReviewVO old = transactionTemplate.execute(status -> {
+            ReviewVO review = reviewMapper.review_get_for_update(vo.getRev_code());
+            if(review == null || !review.getMbsp_id().equals(vo.getMbsp_id())) {
+                return null;
+            }
+            reviewMapper.review_update(vo);
+            return review;
+        });
+        if(old == null) {
+            return false;
+        }
+        // 숨긴 리뷰는 집계에 없으므로 평점이 바뀌어도 반영하지 않음
+        if(VISIBLE.equals(old.getRev_status())) {
+            reviewCounterBuffer.add(old.getPro_num(), 0, vo.getRev_rating() - old.getRev_rating());
+        }
+        return true;
+    }
+
+    /**
+     * 리뷰 삭제
+     *
+     * @param rev_code 리뷰 번호
+     * @param mbsp_id 작성자 아이디 (null이면 관리자 삭제, 작성자 확인 안 함)
+     * @return 삭제했으면 true, 없는 리뷰/다른 회원의 리뷰면 false
+     */
+    public boolean review_delete(Integer rev_code, String mbsp_id) {
+        ReviewVO old = transactionTemplate.execute(status -> {
+            ReviewVO review = reviewMapper.review_get_for_update(rev_code);
+            if(review == null || (mbsp_id != null && !review.getMbsp_id().equals(mbsp_id))) {
+                return null;
+            }
+            reviewMapper.review_delete(rev_code);
+            return review;
+        });
+        if(old == null) {
+            return false;
+        }
+        if(VISIBLE.equals(old.getRev_status())) {
+            reviewCounterBuffer.add(old.getPro_num(), -1, -old.getRev_rating());
+        }
+        return true;
+    }
+
+    /**
+     * 리뷰 숨김/노출 (관리자)
+     *
+     * @param rev_code 리뷰 번호
+     * @param visible true면 노출, false면 숨김
+     * @return 변경했으면 true, 없는 리뷰/이미 같은 상태면 false
+     */
+    public boolean review_status(Integer rev_code, boolean visible) {
+        String from = visible ? HIDDEN : VISIBLE;
+        String to = visible ? VISIBLE : HIDDEN;
+        ReviewVO old = transactionTemplate.execute(status -> {
+            ReviewVO review = reviewMapper.review_get_for_update(rev_code);
+            if(review == null || reviewMapper.review_status(rev_code, from, to) != 1) {
+                return null;
+            }
+            return review;
+        });
+        if(old == null) {
+            return false;
+        }
+        int sign = visible ? 1 : -1;
+        reviewCounterBuffer.add(old.getPro_num(), sign, sign * old.getRev_rating());
+        return true;
+    }
+
+    /**
+     * 상품의 노출 리뷰 목록 (커서 페이징, 최근 순)
+     *
+     * @param pro_num 상품 번호
+     * @param cursor 마지막으로 본 리뷰 번호 (null이면 처음부터)
+     * @param size 조회할 리뷰 수
+     * @return 리뷰 목록과 다음 커서
+     */
+    public ReviewPage review_list_product(Integer pro_num, Integer cursor, int size) {
+        List<ReviewVO> list = new ArrayList<>(reviewMapper.review_list_product(pro_num, cursor, size + 1));
+        boolean hasMore = list.size() > size;
+        if(hasMore) {
+            list.remove(list.size() - 1);
+        }
+        Integer nextCursor = list.isEmpty() ? null : list.get(list.size() - 1).getRev_code();
+        return new ReviewPage(list, nextCursor, hasMore);
+    }
+
+    /**
+     * 회원의 리뷰 목록 (커서 페이징)
+     *
+     * - perPageNum + 1건을 조회하여 반대편 페이지 존재 여부를 count(*) 없이 판단합니다.
+     * - prev 방향은 오름차순으로 조회되므로 화면 순서(역순)로 뒤집어서 반환합니다.
+     *
+     * @param mbsp_id 회원 아이디
+     * @param cri 커서 조건
+     * @param pageMaker 이전/다음 커서를 설정할 PageMaker
+     * @return 리뷰 목록, 최대 perPageNum건
+     */
+    public List<ReviewVO> review_list_member(String mbsp_id, SearchCriteria cri, PageMaker pageMaker) {
+        List<ReviewVO> list = new ArrayList<>(reviewMapper.review_list_member(mbsp_id, cri));
+        return toCursorPage(list, cri, pageMaker);
+    }
+
+    /**
+     * 커서 페이징 결과 정리 (관리자 리뷰 목록과 공용)
+     *
+     * @param list perPageNum + 1건까지 조회한 목록 (prev 방향은 오름차순)
+     * @param cri 커서 조건
+     * @param pageMaker 이전/다음 커서를 설정할 PageMaker
+     * @return 화면 순서(최근 순)의 목록, 최대 perPageNum건
+     */
+    public static List<ReviewVO> toCursorPage(List<ReviewVO> list, SearchCriteria cri, PageMaker pageMaker) {
+        // 1건 더 조회되었다면 진행 방향으로 페이지가 더 있음
+        boolean hasMore = list.size() > cri.getPerPageNum();
+        if(hasMore) {
+            list.remove(list.size() - 1);
+        }
+        if(cri.isPrevDirection()) {
+            Collections.reverse(list);
+        }
+
+        String firstCursor = null;
+        String lastCursor = null;
+        if(!list.isEmpty()) {
+            firstCursor = String.valueOf(list.get(0).getRev_code());
+            lastCursor = String.valueOf(list.get(list.size() - 1).getRev_code());
+        }
+
+        pageMaker.setCri(cri);
+        pageMaker.setCursorPage(firstCursor, lastCursor, hasMore);
+        return list;
+    }
+
+    // 내용/평점 확인
+    private static void validate(ReviewVO vo) {
+        if(vo.getRev_rating() < 1 || vo.getRev_rating() > 5) {
+            throw new IllegalArgumentException("평점은 1~5 사이여야 합니다: " + vo.getRev_rating());
+        }
+        if(vo.getRev_content() == null || vo.getRev_content().isBlank()) {
+            throw new IllegalArgumentException("리뷰 내용이 없습니다.");
+        }
+        if(vo.getRev_content().length() > MAX_CONTENT_LENGTH) {
+            throw new IllegalArgumentException("리뷰 내용은 " + MAX_CONTENT_LENGTH + "자 이하여야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.docmall.basic.review;
+
+import java.util.Date;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 상품 리뷰(review_tbl) 정보를 담는 VO 클래스입니다.
+ *
+ * - rev_status: 'Y' 노출, 'N' 숨김(관리자 처리)
+ * - 노출 중인 리뷰만 상품의 리뷰 수(pro_review)/평점 합계(pro_rating_sum)에 집계됩니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Getter // Lombok: 모든 필드의 getter 메서드 자동 생성
+@Setter // Lombok: 모든 필드의 setter 메서드 자동 생성
+@ToString // Lombok: toString() 메서드 자동 생성
+public class ReviewVO {
+
+    /** 리뷰 번호 */
+    private Integer rev_code;
+
+    /** 작성자 아이디 */
+    private String mbsp_id;
+
+    /** 상품 번호 */
+    private Integer pro_num;
+
+    /** 리뷰 내용 */
+    private String rev_content;
+
+    /** 평점 (1~5) */
+    private int rev_rating;
+
+    /** 노출 여부 ('Y', 'N') */
+    private String rev_status;
+
+    /** 작성일 */
+    private Date rev_regdate;
+
+    /** 수정일 */
+    private Date rev_updatedate;
+
+    /** 상품명 (조회용) */
+    private String pro_name;
+}
@@ -0,0 +1,97 @@
+package com.docmall.basic;
+
+import java.sql.Timestamp;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+/**
+ * 통합 테스트용 상품 행(product_tbl) 생성기
+ *
+ * - 테스트마다 필요한 값만 바꾸고 나머지는 기본값으로 상품 1건을 저장합니다.
+ * - 기본값: 카테고리 1, 가격 10000, 할인율 0, 재고 10, 판매 중(Y), 수정일은 저장 시각
+ * - 상품 테이블 컬럼이 바뀌면 이 클래스만 고치면 됩니다.
+ *
+ * 사용 예) int pro_num = new ProductFixture(jdbcTemplate).amount(100).insert();
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+public class ProductFixture {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private int cate_code = 1;
+    private String pro_name = "테스트 상품";
+    private int pro_price = 10000;
+    private int pro_discount = 0;
+    private String pro_content = "";
+    private int pro_amount = 10;
+    private Timestamp pro_updatedate;
+
+    public ProductFixture(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** 카테고리 코드 */
+    public ProductFixture category(int cate_code) {
+        this.cate_code = cate_code;
+        return this;
+    }
+
+    /** 상품명 */
+    public ProductFixture name(String pro_name) {
+        this.pro_name = pro_name;
+        return this;
+    }
+
+    /** 가격과 할인율 */
+    public ProductFixture price(int pro_price, int pro_discount) {
+        this.pro_price = pro_price;
+        this.pro_discount = pro_discount;
+        return this;
+    }
+
+    /** 상품 설명 */
+    public ProductFixture content(String pro_content) {
+        this.pro_content = pro_content;
+        return this;
+    }
+
+    /** 재고 */
+    public ProductFixture amount(int pro_amount) {
+        this.pro_amount = pro_amount;
+        return this;
+    }
+
+    /** 수정일 (예: "2025-05-01 10:00:00", 지정하지 않으면 저장 시각) */
+    public ProductFixture updatedate(String pro_updatedate) {
+        this.pro_updatedate = Timestamp.valueOf(pro_updatedate);
+        return this;
+    }
+
+    /**
+     * 상품 1건 저장
+     *
+     * @return 생성된 상품 번호
+     */
+    public int insert() {
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            var ps = con.prepareStatement(
+                    "insert into product_tbl(cate_code, pro_name, pro_price, pro_discount, pro_publisher, pro_content,"
+                    + " pro_up_folder, pro_img, pro_amount, pro_buy, pro_updatedate)"
+                    + " values (?, ?, ?, ?, '테스트', ?, '', '', ?, 'Y', coalesce(?, current_timestamp))",
+                    new String[] {"pro_num"});
+            ps.setInt(1, cate_code);
+            ps.setString(2, pro_name);
+            ps.setInt(3, pro_price);
+            ps.setInt(4, pro_discount);
+            ps.setString(5, pro_content);
+            ps.setInt(6, pro_amount);
+            ps.setTimestamp(7, pro_updatedate);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().intValue();
+    }
+}
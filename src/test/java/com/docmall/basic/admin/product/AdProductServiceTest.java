@@ -0,0 +1,226 @@
+package com.docmall.basic.admin.product;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.docmall.basic.ProductFixture;
+import com.docmall.basic.admin.product.AdProductService.EditResult;
+import com.docmall.basic.common.utils.PageMaker;
+import com.docmall.basic.common.utils.SearchCriteria;
+
+/**
+ * 상품 수정(바뀐 컬럼만 저장, 낙관적 잠금)과 검색 색인 목록 페이징 테스트
+ *
+ * - 내장 H2(test 프로필)를 사용합니다.
+ * - 검색 색인 후보를 페이지 구간만큼 잘라 조회해도 offset/커서 페이징 결과가 빠짐없이 한 번씩 나오는지 확인합니다.
+ * - 바뀐 컬럼만 UPDATE 되는지, 같은 폼을 연 두 관리자 중 나중에 저장한 쪽이 충돌로 거부되는지,
+ *   폼을 연 뒤 주문으로 재고가 바뀌거나 같은 초에 일괄 변경이 있으면 수정이 거부되는지 확인합니다.
+ * - 같은 상품을 여러 탭에서 열어도 각 폼이 자신의 스냅샷(토큰)과 비교되는지 확인합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AdProductServiceTest {
+
+    @Autowired
+    private AdProductService adProductService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void writesOnlyChangedColumns() {
+        int pro_num = insertProduct();
+        ProductVO form = adProductService.pro_edit_form(pro_num);
+        ProductEditSnapshot snapshot = ProductEditSnapshot.of(form);
+
+        // 폼을 연 뒤 설명만 직접 변경 (수정일은 그대로) → 가격만 바꾼 저장이 설명을 덮어쓰지 않아야 함
+        jdbcTemplate.update("update product_tbl set pro_content = '다른 설명' where pro_num = ?", pro_num);
+        form.setPro_price(20000);
+
+        assertEquals(EditResult.UPDATED, adProductService.pro_edit_ok(form, snapshot));
+        assertEquals(20000, column(pro_num, "pro_price", Integer.class));
+        assertEquals("다른 설명", column(pro_num, "pro_content", String.class));
+    }
+
+    @Test
+    void skipsUpdateWhenNothingChanged() {
+        int pro_num = insertProduct();
+        ProductVO form = adProductService.pro_edit_form(pro_num);
+
+        assertEquals(EditResult.UNCHANGED, adProductService.pro_edit_ok(form, ProductEditSnapshot.of(form)));
+    }
+
+    @Test
+    void rejectsSecondEditFromStaleForm() {
+        int pro_num = insertProduct();
+        ProductVO first = adProductService.pro_edit_form(pro_num);
+        ProductVO second = adProductService.pro_edit_form(pro_num);
+        ProductEditSnapshot firstSnapshot = ProductEditSnapshot.of(first);
+        ProductEditSnapshot secondSnapshot = ProductEditSnapshot.of(second);
+
+        first.setPro_name("첫 번째 관리자");
+        second.setPro_name("두 번째 관리자");
+
+        assertEquals(EditResult.UPDATED, adProductService.pro_edit_ok(first, firstSnapshot));
+        assertEquals(EditResult.CONFLICT, adProductService.pro_edit_ok(second, secondSnapshot));
+        assertEquals("첫 번째 관리자", column(pro_num, "pro_name", String.class));
+
+        // 최신 값으로 폼을 다시 열면 저장됨
+        ProductVO retry = adProductService.pro_edit_form(pro_num);
+        ProductEditSnapshot retrySnapshot = ProductEditSnapshot.of(retry);
+        retry.setPro_name("두 번째 관리자");
+        assertEquals(EditResult.UPDATED, adProductService.pro_edit_ok(retry, retrySnapshot));
+        assertEquals("두 번째 관리자", column(pro_num, "pro_name", String.class));
+    }
+
+    @Test
+    void comparesEachTabWithItsOwnSnapshot() {
+        int pro_num = insertProduct();
+        MockHttpSession session = new MockHttpSession();
+
+        // 탭 1에서 폼을 엶
+        ProductVO tab1 = adProductService.pro_edit_form(pro_num);
+        ProductEditSnapshot tab1Snapshot = ProductEditSnapshot.of(tab1);
+        ProductEditSnapshot.save(session, tab1Snapshot);
+
+        // 다른 관리자가 먼저 저장
+        ProductVO other = adProductService.pro_edit_form(pro_num);
+        ProductEditSnapshot otherSnapshot = ProductEditSnapshot.of(other);
+        other.setPro_price(30000);
+        assertEquals(EditResult.UPDATED, adProductService.pro_edit_ok(other, otherSnapshot));
+
+        // 같은 관리자가 탭 2에서 다시 엶 → 탭 1의 스냅샷은 바뀌지 않아야 함
+        ProductEditSnapshot tab2Snapshot = ProductEditSnapshot.of(adProductService.pro_edit_form(pro_num));
+        ProductEditSnapshot.save(session, tab2Snapshot);
+
+        ProductEditSnapshot found = ProductEditSnapshot.get(session, tab1Snapshot.token(), pro_num);
+        assertEquals(tab1Snapshot, found);
+        assertNull(ProductEditSnapshot.get(session, tab1Snapshot.token(), pro_num + 1));
+
+        tab1.setPro_name("탭 1 관리자");
+        assertEquals(EditResult.CONFLICT, adProductService.pro_edit_ok(tab1, found));
+        assertEquals(30000, column(pro_num, "pro_price", Integer.class));
+    }
+
+    @Test
+    void rejectsStockEditAfterOrderChangedStock() {
+        int pro_num = insertProduct();
+        ProductVO form = adProductService.pro_edit_form(pro_num);
+        ProductEditSnapshot snapshot = ProductEditSnapshot.of(form);
+
+        // 주문 재고 차감은 수정일을 바꾸지 않음
+        jdbcTemplate.update("update product_tbl set pro_amount = pro_amount - 3 where pro_num = ?", pro_num);
+
+        form.setPro_amount(50);
+        assertEquals(EditResult.CONFLICT, adProductService.pro_edit_ok(form, snapshot));
+        assertEquals(7, column(pro_num, "pro_amount", Integer.class));
+
+        // 재고를 건드리지 않는 수정은 저장됨
+        form.setPro_amount(snapshot.pro_amount());
+        form.setPro_discount(30);
+        assertEquals(EditResult.UPDATED, adProductService.pro_edit_ok(form, snapshot));
+        assertEquals(7, column(pro_num, "pro_amount", Integer.class));
+    }
+
+    @Test
+    void rejectsEditAfterBulkUpdateInSameSecond() {
+        int pro_num = insertProduct();
+
+        // 수정으로 수정일이 현재보다 앞선 시각(이전 값 + 1초 또는 현재)으로 바뀐 직후 폼을 엶
+        ProductVO edit = adProductService.pro_edit_form(pro_num);
+        ProductEditSnapshot editSnapshot = ProductEditSnapshot.of(edit);
+        edit.setPro_price(11000);
+        assertEquals(EditResult.UPDATED, adProductService.pro_edit_ok(edit, editSnapshot));
+
+        ProductVO stale = adProductService.pro_edit_form(pro_num);
+        ProductEditSnapshot staleSnapshot = ProductEditSnapshot.of(stale);
+
+        // 같은 초에 일괄 변경 → 수정일이 다시 바뀌어야 함
+        ProductBulkDTO dto = new ProductBulkDTO();
+        dto.setPro_discount(50);
+        assertEquals(1, adProductService.pro_bulk_update(new int[] {pro_num}, dto));
+
+        stale.setPro_name("늦게 저장한 관리자");
+        assertEquals(EditResult.CONFLICT, adProductService.pro_edit_ok(stale, staleSnapshot));
+        assertEquals(50, column(pro_num, "pro_discount", Integer.class));
+    }
+
+    @Test
+    void pagesThroughSearchCandidates() {
+        String keyword = "색인" + UUID.randomUUID().toString().substring(0, 8);
+        List<Integer> expected = new ArrayList<>();
+        for(int i = 0; i < 25; i++) {
+            ProductVO vo = new ProductVO();
+            vo.setCate_code(1);
+            vo.setPro_name(keyword + " " + i);
+            vo.setPro_price(1000);
+            vo.setPro_publisher("테스트");
+            vo.setPro_content("");
+            vo.setPro_up_folder("");
+            vo.setPro_img("");
+            vo.setPro_buy("Y");
+            adProductService.pro_insert(vo);
+            expected.add(0, vo.getPro_num());
+        }
+
+        // offset 페이징 (10건씩 3페이지)
+        List<Integer> offsetNums = new ArrayList<>();
+        for(int page = 1; page <= 3; page++) {
+            SearchCriteria cri = criteria(keyword);
+            cri.setPage(page);
+            adProductService.pro_list(cri).forEach(vo -> offsetNums.add(vo.getPro_num()));
+            assertEquals(25, adProductService.getTotalCount(cri));
+            assertTrue(cri.getCandidatePage().length <= cri.getLimitSize());
+        }
+        assertEquals(expected, offsetNums);
+
+        // 커서 페이징 (다음 방향으로 끝까지)
+        List<Integer> cursorNums = new ArrayList<>();
+        String cursor = null;
+        boolean hasNext = true;
+        while(hasNext) {
+            SearchCriteria cri = criteria(keyword);
+            cri.setMode(SearchCriteria.MODE_CURSOR);
+            cri.setCursor(cursor);
+            PageMaker pageMaker = new PageMaker();
+            List<ProductVO> list = adProductService.pro_list_cursor(cri, pageMaker);
+            list.forEach(vo -> cursorNums.add(vo.getPro_num()));
+            assertTrue(cri.getCandidatePage().length <= cri.getFetchSize());
+            hasNext = pageMaker.isNext();
+            cursor = list.isEmpty() ? null : String.valueOf(list.get(list.size() - 1).getPro_num());
+        }
+        assertEquals(expected, cursorNums);
+    }
+
+    private SearchCriteria criteria(String keyword) {
+        SearchCriteria cri = new SearchCriteria();
+        cri.setSearchType("n");
+        cri.setKeyword(keyword);
+        cri.setPerPageNum(10);
+        return cri;
+    }
+
+    private int insertProduct() {
+        return new ProductFixture(jdbcTemplate).name("수정 테스트").price(10000, 10).content("<p>설명</p>")
+                .updatedate("2025-05-01 10:00:00").insert();
+    }
+
+    private <T> T column(int pro_num, String column, Class<T> type) {
+        return jdbcTemplate.queryForObject("select " + column + " from product_tbl where pro_num = ?", type, pro_num);
+    }
+}
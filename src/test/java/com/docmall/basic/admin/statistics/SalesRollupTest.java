@@ -0,0 +1,129 @@
+package com.docmall.basic.admin.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.docmall.basic.ProductFixture;
+import com.docmall.basic.admin.order.AdOrderService;
+import com.docmall.basic.order.OrderDetailVO;
+import com.docmall.basic.order.OrderService;
+import com.docmall.basic.order.OrderVO;
+
+/**
+ * 통계 집계(SalesRollup) 테스트
+ *
+ * - 내장 H2(test 프로필)를 사용합니다.
+ * - 주문 저장/취소 이벤트로 모은 증가분을 저장(flush)한 집계 테이블(일별/카테고리/상품)이
+ *   같은 기간을 원본 테이블에서 재집계(rebuild)한 결과와 같은지 확인합니다.
+ * - 다른 테스트의 주문과 섞이지 않도록 테스트마다 새 카테고리 코드를 사용하고,
+ *   일별 행은 시작 전에 재집계하여 기준을 맞춥니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SalesRollupTest {
+
+    @Autowired
+    private SalesRollup salesRollup;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private AdOrderService adOrderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void flushedRollupsMatchRebuild() {
+        LocalDate today = LocalDate.now();
+        salesRollup.rebuild(today, today);
+
+        int cate_code = 100_000 + ThreadLocalRandom.current().nextInt(900_000);
+        int first = insertProduct(cate_code, 10000, 10);
+        int second = insertProduct(cate_code, 5000, 0);
+
+        Long kept = checkout(detail(first, 2), detail(second, 1));
+        Long canceled = checkout(detail(first, 1), detail(second, 3));
+        checkout(detail(second, 2));
+
+        assertTrue(adOrderService.order_cancel(canceled));
+        // 이미 취소된 주문은 다시 취소되지 않음 (통계에서 두 번 빠지지 않아야 함)
+        assertFalse(adOrderService.order_cancel(canceled));
+        assertTrue(kept > 0);
+
+        salesRollup.flush();
+        List<Map<String, Object>> daily = daily(today);
+        List<Map<String, Object>> category = category(today, cate_code);
+        List<Map<String, Object>> product = product(today, cate_code);
+
+        // 취소 주문은 빠지고 남은 주문만 집계됨 (2 x 9000 + 1 x 5000, 2 x 5000)
+        assertEquals(1, category.size());
+        assertEquals(5, ((Number) category.get(0).get("item_count")).intValue());
+        assertEquals(33000L, ((Number) category.get(0).get("sales_price")).longValue());
+        assertEquals(2, product.size());
+
+        salesRollup.rebuild(today, today);
+        assertEquals(daily, daily(today));
+        assertEquals(category, category(today, cate_code));
+        assertEquals(product, product(today, cate_code));
+    }
+
+    private Long checkout(OrderDetailVO... details) {
+        OrderVO vo = new OrderVO();
+        vo.setMbsp_id("user1");
+        vo.setOrd_name("홍길동");
+        vo.setOrd_zipcode("12345");
+        vo.setOrd_addr("서울시");
+        vo.setOrd_deaddr("1동");
+        vo.setOrd_phone("010-0000-0000");
+        vo.getDetails().addAll(List.of(details));
+        return orderService.checkout(vo);
+    }
+
+    private OrderDetailVO detail(int pro_num, int amount) {
+        OrderDetailVO detail = new OrderDetailVO();
+        detail.setPro_num(pro_num);
+        detail.setDt_amount(amount);
+        return detail;
+    }
+
+    private int insertProduct(int cate_code, int price, int discount) {
+        return new ProductFixture(jdbcTemplate).category(cate_code).name("통계 테스트")
+                .price(price, discount).amount(100).insert();
+    }
+
+    private List<Map<String, Object>> daily(LocalDate date) {
+        return jdbcTemplate.queryForList(
+                "select order_count, item_count, sales_price, cancel_count, signup_count"
+                + " from stat_daily_tbl where stat_date = ?", Date.valueOf(date));
+    }
+
+    private List<Map<String, Object>> category(LocalDate date, int cate_code) {
+        return jdbcTemplate.queryForList(
+                "select item_count, sales_price from stat_category_daily_tbl where stat_date = ? and cate_code = ?",
+                Date.valueOf(date), cate_code);
+    }
+
+    private List<Map<String, Object>> product(LocalDate date, int cate_code) {
+        return jdbcTemplate.queryForList(
+                "select pro_num, item_count, sales_price from stat_product_daily_tbl"
+                + " where stat_date = ? and cate_code = ? order by pro_num", Date.valueOf(date), cate_code);
+    }
+}
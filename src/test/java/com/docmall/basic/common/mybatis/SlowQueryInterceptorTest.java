@@ -0,0 +1,88 @@
+package com.docmall.basic.common.mybatis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.docmall.basic.mail.MailQueueVO;
+
+/**
+ * 느린 쿼리 기록의 파라미터 가림 테스트
+ *
+ * - 내장 H2(test 프로필)를 사용합니다.
+ * - 기준 시간 0ms인 플러그인으로 실제 매퍼 문장을 실행한 것처럼 기록하고,
+ *   메일 템플릿 값(mq_param, 임시 비밀번호 포함)과 비밀번호, 개인정보 문자열이 남지 않는지 확인합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SlowQueryInterceptorTest {
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Test
+    void masksTemporaryPasswordInMailQueueParameters() throws Throwable {
+        MailQueueVO vo = new MailQueueVO();
+        vo.setMq_template("pwtemp");
+        vo.setMq_sender_name("DocMall");
+        vo.setMq_receiver("user1@example.com");
+        vo.setMq_subject("임시 비밀번호");
+        vo.setMq_param("{\"pw\":\"Tmp-Secret-123\"}");
+        vo.setMq_next_try(new Date());
+
+        String parameters = record("com.docmall.basic.mail.MailMapper.enqueue", vo);
+
+        assertFalse(parameters.contains("Tmp-Secret-123"), parameters);
+        assertFalse(parameters.contains("user1@example.com"), parameters);
+        assertTrue(parameters.contains("mq_param=****"), parameters);
+        assertTrue(parameters.contains("mq_template=pwtemp"), parameters);
+    }
+
+    @Test
+    void masksPasswordButKeepsMemberId() throws Throwable {
+        Map<String, Object> param = new HashMap<>();
+        param.put("mbsp_id", "user1");
+        param.put("mbsp_password", "$2a$10$hash");
+
+        String parameters = record("com.docmall.basic.member.MemberMapper.pwchange", param);
+
+        assertFalse(parameters.contains("$2a$10$hash"), parameters);
+        assertTrue(parameters.contains("mbsp_password=****"), parameters);
+        assertTrue(parameters.contains("mbsp_id=user1"), parameters);
+    }
+
+    // 기준 시간 0ms 플러그인으로 1건 실행 후 기록된 파라미터 문자열 반환
+    private String record(String statement, Object parameter) throws Throwable {
+        MappedStatement ms = sqlSessionFactory.getConfiguration().getMappedStatement(statement);
+        SlowQueryInterceptor interceptor = new SlowQueryInterceptor(0, 10, 5);
+        Invocation invocation = new Invocation(new FakeExecutor(),
+                FakeExecutor.class.getMethod("update", MappedStatement.class, Object.class),
+                new Object[] {ms, parameter});
+
+        assertEquals(1, interceptor.intercept(invocation));
+        assertEquals(1, interceptor.getSlowQueries().size());
+        return interceptor.getSlowQueries().get(0).parameters();
+    }
+
+    // Executor.update 대신 호출되는 대상 (실제 SQL은 실행하지 않음)
+    public static class FakeExecutor {
+        public int update(MappedStatement ms, Object parameter) {
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.docmall.basic.common.mybatis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.docmall.basic.member.MemberVO;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+/**
+ * 샘플링 SQL 추적 로그의 파라미터 가림 테스트
+ *
+ * - 내장 H2(test 프로필)를 사용합니다.
+ * - 회원 정보(MemberVO)를 넘긴 문장을 추적해도 비밀번호 해시, 주소, 연락처가 로그에 남지 않는지 확인합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SqlTraceInterceptorTest {
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Test
+    void logsBoundValuesWithoutMemberSecrets() throws Throwable {
+        MemberVO vo = new MemberVO();
+        vo.setMbsp_id("user1");
+        vo.setMbsp_name("홍길동");
+        vo.setMbsp_email("user1@example.com");
+        vo.setMbsp_password("$2a$10$secrethash");
+        vo.setMbsp_zipcode("12345");
+        vo.setMbsp_addr("서울시 비밀구");
+        vo.setMbsp_deaddr("1동");
+        vo.setMbsp_phone("010-1234-5678");
+        vo.setMbsp_nick("길동");
+        vo.setMbsp_receive("Y");
+
+        Logger logger = (Logger) LoggerFactory.getLogger("sql.trace");
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        try {
+            MappedStatement ms = sqlSessionFactory.getConfiguration()
+                    .getMappedStatement("com.docmall.basic.member.MemberMapper.join");
+            Invocation invocation = new Invocation(new SlowQueryInterceptorTest.FakeExecutor(),
+                    SlowQueryInterceptorTest.FakeExecutor.class.getMethod("update", MappedStatement.class, Object.class),
+                    new Object[] {ms, vo});
+
+            assertEquals(1, new SqlTraceInterceptor(1.0).intercept(invocation));
+        } finally {
+            logger.detachAppender(appender);
+        }
+
+        assertEquals(1, appender.list.size());
+        String line = appender.list.get(0).getFormattedMessage();
+        assertTrue(line.contains("mbsp_id=user1"), line);
+        for(String secret : new String[] {"$2a$10$secrethash", "서울시 비밀구", "010-1234-5678", "user1@example.com"}) {
+            assertFalse(line.contains(secret), line);
+        }
+    }
+}
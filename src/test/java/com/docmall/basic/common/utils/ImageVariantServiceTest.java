@@ -0,0 +1,67 @@
+package com.docmall.basic.common.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 변형 이미지(JPEG/WebP) 생성 테스트
+ *
+ * - 내장 H2(test 프로필)를 사용합니다.
+ * - 프로필별 JPEG와 WebP 파일이 만들어지고, WebP를 지원하는 브라우저에는 WebP 파일이 선택되는지 확인합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ImageVariantServiceTest {
+
+    @Autowired
+    private ImageVariantService imageVariantService;
+
+    @TempDir
+    Path folder;
+
+    @Test
+    void writesWebpVariants() throws Exception {
+        File source = folder.resolve("uuid_sample.jpg").toFile();
+        BufferedImage image = new BufferedImage(1000, 600, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.ORANGE);
+        g.fillRect(0, 0, 1000, 600);
+        g.dispose();
+        ImageIO.write(image, "jpg", source);
+
+        imageVariantService.createVariants(image, source);
+
+        List<ImageVariantService.Variant> variants = imageVariantService.getVariants(source.getParentFile(), source.getName());
+        assertEquals(3, variants.size());
+        for(ImageVariantService.Variant variant : variants) {
+            assertNotNull(variant.webpFileName());
+            File webp = new File(source.getParentFile(), variant.webpFileName());
+            assertTrue(webp.isFile() && webp.length() > 0, variant.webpFileName());
+
+            BufferedImage decoded = ImageIO.read(webp);
+            assertEquals(variant.width(), decoded.getWidth());
+        }
+
+        String selected = imageVariantService.pick(source.getParentFile(), source.getName(), 300, true);
+        assertEquals("card_uuid_sample.webp", selected);
+    }
+}
@@ -0,0 +1,93 @@
+package com.docmall.basic.common.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 썸네일 다시 생성 테스트
+ *
+ * - 내장 H2(test 프로필)를 사용합니다.
+ * - 생성 상태가 없는데(재시작으로 대기 작업 유실) 썸네일 파일도 없으면,
+ *   조회할 때 원본으로 다시 생성되어 대체 이미지가 계속 나가지 않는지 확인합니다.
+ * - 업로드 루트 밖의 경로(../)로 조회하면 생성 작업이 등록되지 않고 404로 응답하는지 확인합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ThumbnailGeneratorTest {
+
+    @Autowired
+    private FileUtils fileUtils;
+
+    @Autowired
+    private ThumbnailGenerator thumbnailGenerator;
+
+    @TempDir
+    Path uploadPath;
+
+    @Test
+    void regeneratesMissingThumbnailOnRead() throws Exception {
+        File folder = uploadPath.resolve("pds/2025/05/01").toFile();
+        writeImage(folder, "uuid_lost.jpg");
+
+        String root = uploadPath.resolve("pds").toString();
+        assertFalse(fileUtils.isThumbnailReady(root, "2025/05/01", "s_uuid_lost.jpg"));
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while(!fileUtils.isThumbnailReady(root, "2025/05/01", "s_uuid_lost.jpg")
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(new File(folder, "s_uuid_lost.jpg").isFile());
+        assertTrue(fileUtils.isThumbnailReady(root, "2025/05/01", "s_uuid_lost.jpg"));
+    }
+
+    @Test
+    void ignoresFoldersOutsideUploadRoot() throws Exception {
+        File outside = uploadPath.resolve("outside").toFile();
+        writeImage(outside, "uuid_secret.jpg");
+        assertTrue(uploadPath.resolve("pds").toFile().mkdirs());
+
+        String root = uploadPath.resolve("pds").toString();
+        assertFalse(fileUtils.isThumbnailReady(root, "../outside", "s_uuid_secret.jpg"));
+        assertEquals(HttpStatus.NOT_FOUND,
+                fileUtils.getImage(root, "../outside", "s_uuid_secret.jpg").getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND,
+                fileUtils.getImage(root, "../outside", "uuid_secret.jpg", 300, true).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, fileUtils.getImage(root, "..", "pds", 300, true).getStatusCode());
+
+        // 생성 작업이 등록되지 않아 루트 밖 폴더에 파일이 생기지 않음
+        assertNull(thumbnailGenerator.getState(new File(outside, "s_uuid_secret.jpg")));
+        Thread.sleep(500);
+        assertEquals(1, outside.list().length);
+    }
+
+    private void writeImage(File folder, String name) throws Exception {
+        assertTrue(folder.mkdirs());
+        BufferedImage image = new BufferedImage(600, 400, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.BLUE);
+        g.fillRect(0, 0, 600, 400);
+        g.dispose();
+        ImageIO.write(image, "jpg", new File(folder, name));
+    }
+}
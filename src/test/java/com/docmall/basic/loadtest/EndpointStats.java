@@ -0,0 +1,86 @@
+package com.docmall.basic.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 엔드포인트 1개의 부하 테스트 측정 결과
+ *
+ * - 성공 응답의 지연 시간(ns)을 모두 보관했다가 종료 후 정렬하여 백분위수를 계산합니다.
+ *   (측정 시간 동안의 요청 수가 수십만 건 수준이므로 그대로 보관해도 충분함)
+ * - 실패(5xx, 예상하지 못한 상태 코드, 연결 오류)는 개수만 집계합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+public class EndpointStats {
+
+    private final String name;
+
+    private long[] latencies = new long[1024];
+    private int count;
+
+    private final AtomicLong errors = new AtomicLong();
+
+    // 종료 후 계산되는 값
+    private long[] sorted;
+
+    public EndpointStats(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** 성공 응답 지연 시간 기록 */
+    public synchronized void record(long nanos) {
+        if(count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+    }
+
+    /** 실패 1건 기록 */
+    public void error() {
+        errors.incrementAndGet();
+    }
+
+    public synchronized int getCount() {
+        return count;
+    }
+
+    public long getErrors() {
+        return errors.get();
+    }
+
+    /** 오류율 (0~1) */
+    public double getErrorRate() {
+        long total = getCount() + getErrors();
+        return total == 0 ? 0 : (double) getErrors() / total;
+    }
+
+    /** 초당 성공 요청 수 */
+    public double getThroughput(double seconds) {
+        return seconds <= 0 ? 0 : getCount() / seconds;
+    }
+
+    /**
+     * 백분위수 지연 시간(ms)
+     *
+     * @param percentile 0 ~ 100 (예: 50, 99)
+     * @return 지연 시간(ms), 측정값이 없으면 0
+     */
+    public synchronized double percentileMillis(double percentile) {
+        if(count == 0) {
+            return 0;
+        }
+        if(sorted == null || sorted.length != count) {
+            sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+        }
+        // nearest-rank 방식
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return sorted[Math.max(rank, 1) - 1] / 1_000_000.0;
+    }
+}
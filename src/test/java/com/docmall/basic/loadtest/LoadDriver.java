@@ -0,0 +1,212 @@
+package com.docmall.basic.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 부하 테스트 요청 발생기
+ *
+ * - 여러 스레드가 JDK HttpClient로 요청 비율(mix)에 따라 요청을 보내고, 엔드포인트별 결과를 집계합니다.
+ * - 시나리오: 상품 목록(페이징/깊은 페이지/검색), 로그인, 아이디 중복 체크, 상품 이미지
+ * - 워밍업 중 요청은 집계하지 않습니다.
+ * - ShopLoadTest(회귀 기준 검사), ThreadModeLoadTest(플랫폼/가상 스레드 비교)에서 사용합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+public class LoadDriver {
+
+    /**
+     * 부하 시나리오
+     *
+     * @param name 엔드포인트 이름 (설정 키, 결과 출력에 사용)
+     * @param weight 요청 비율 가중치
+     * @param request 요청 생성 함수 (서버 기본 URL → 요청)
+     */
+    record Scenario(String name, int weight, Function<String, HttpRequest> request) {}
+
+    /** 시나리오 이름 (설정 키 loadtest.mix.{이름}) */
+    public static final List<String> SCENARIOS = List.of("pro-list", "login", "id-check", "image");
+
+    private final int products;
+    private final int members;
+    private final int images;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+
+    /**
+     * @param products 합성 상품 수
+     * @param members 합성 회원 수
+     * @param images 합성 상품 이미지 수
+     */
+    public LoadDriver(int products, int members, int images) {
+        this.products = products;
+        this.members = members;
+        this.images = images;
+    }
+
+    /**
+     * 부하를 발생시키고 엔드포인트별 결과를 반환합니다.
+     *
+     * @param baseUrl 서버 기본 URL (예: http://localhost:8080)
+     * @param mix 시나리오 이름 → 가중치
+     * @param threads 동시 사용자(스레드) 수
+     * @param warmupSeconds 워밍업 시간(초)
+     * @param durationSeconds 측정 시간(초)
+     * @return 시나리오 이름 → 측정 결과 (SCENARIOS 순서)
+     * @throws InterruptedException 대기 중 인터럽트 시
+     */
+    public Map<String, EndpointStats> run(String baseUrl, Map<String, Integer> mix, int threads,
+                                          int warmupSeconds, int durationSeconds) throws InterruptedException {
+        List<Scenario> scenarios = new ArrayList<>();
+        Map<String, Function<String, HttpRequest>> requests = Map.of(
+            "pro-list", this::proList,
+            "login", this::login,
+            "id-check", this::idCheck,
+            "image", this::image
+        );
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        for(String name : SCENARIOS) {
+            scenarios.add(new Scenario(name, mix.getOrDefault(name, 0), requests.get(name)));
+            stats.put(name, new EndpointStats(name));
+        }
+        int totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+
+        long measureStart = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureStart + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        for(int i = 0; i < threads; i++) {
+            pool.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while(System.nanoTime() < end) {
+                    // 가중치에 따라 시나리오 선택
+                    int pick = random.nextInt(totalWeight);
+                    Scenario scenario = scenarios.get(0);
+                    for(Scenario candidate : scenarios) {
+                        if(pick < candidate.weight()) {
+                            scenario = candidate;
+                            break;
+                        }
+                        pick -= candidate.weight();
+                    }
+
+                    HttpRequest request = scenario.request().apply(baseUrl);
+                    long start = System.nanoTime();
+                    boolean ok;
+                    try {
+                        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                        ok = response.statusCode() < 400;
+                    } catch(Exception ex) {
+                        ok = false;
+                    }
+                    long elapsed = System.nanoTime() - start;
+
+                    // 워밍업 중 요청은 집계하지 않음
+                    if(start < measureStart) {
+                        continue;
+                    }
+                    if(ok) {
+                        stats.get(scenario.name()).record(elapsed);
+                    } else {
+                        stats.get(scenario.name()).error();
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        if(!pool.awaitTermination(warmupSeconds + durationSeconds + 60L, TimeUnit.SECONDS)) {
+            pool.shutdownNow();
+            throw new IllegalStateException("부하 스레드가 종료되지 않았습니다.");
+        }
+        return stats;
+    }
+
+    /**
+     * 결과 표 문자열 (엔드포인트별 요청 수, 오류 수, 처리량, p50, p99)
+     *
+     * @param stats 측정 결과
+     * @param durationSeconds 측정 시간(초)
+     * @return 출력용 문자열
+     */
+    public static String format(Map<String, EndpointStats> stats, int durationSeconds) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%n%-10s %10s %8s %10s %10s %10s%n", "endpoint", "count", "errors", "req/s", "p50(ms)", "p99(ms)"));
+        for(EndpointStats stat : stats.values()) {
+            sb.append(String.format("%-10s %10d %8d %10.1f %10.2f %10.2f%n",
+                    stat.getName(), stat.getCount(), stat.getErrors(), stat.getThroughput(durationSeconds),
+                    stat.percentileMillis(50), stat.percentileMillis(99)));
+        }
+        return sb.toString();
+    }
+
+    // ===== [ 요청 생성 ] =====
+
+    /** 상품 목록: 앞쪽 페이지 60%, 깊은 페이지 20%, 검색 20% */
+    private HttpRequest proList(String baseUrl) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int lastPage = Math.max(products / 10, 1);
+        int roll = random.nextInt(100);
+        String query;
+        if(roll < 60) {
+            query = "page=" + random.nextInt(1, Math.min(lastPage, 50) + 1);
+        } else if(roll < 80) {
+            query = "page=" + random.nextInt(Math.max(lastPage / 2, 1), lastPage + 1);
+        } else {
+            String keyword = LoadTestDataSeeder.KEYWORDS[random.nextInt(LoadTestDataSeeder.KEYWORDS.length)];
+            query = "searchType=np&keyword=" + URLEncoder.encode(keyword, StandardCharsets.UTF_8)
+                  + "&page=" + random.nextInt(1, 4);
+        }
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/admin/product/pro_list?" + query)).GET().build();
+    }
+
+    /** 로그인: 90%는 올바른 비밀번호, 10%는 틀린 비밀번호 (둘 다 302 응답) */
+    private HttpRequest login(String baseUrl) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String id = LoadTestDataSeeder.memberId(random.nextInt(1, members + 1));
+        String password = random.nextInt(10) == 0 ? "wrong-password" : LoadTestDataSeeder.PASSWORD;
+        String form = "mbsp_id=" + URLEncoder.encode(id, StandardCharsets.UTF_8)
+                    + "&mbsp_password=" + URLEncoder.encode(password, StandardCharsets.UTF_8);
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/member/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+    }
+
+    /** 아이디 중복 체크: 70%는 사용 중인 아이디, 30%는 새 아이디 */
+    private HttpRequest idCheck(String baseUrl) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String id = random.nextInt(10) < 7
+                ? LoadTestDataSeeder.memberId(random.nextInt(1, members + 1))
+                : "new" + random.nextInt(1_000_000);
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/member/idCheck?mbsp_id=" + id)).GET().build();
+    }
+
+    /** 상품 이미지: 목록 화면의 's_' 썸네일 80%, 상세 화면의 원본 20% */
+    private HttpRequest image(String baseUrl) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String fileName = LoadTestDataSeeder.imageName(random.nextInt(1, images + 1));
+        if(random.nextInt(10) < 8) {
+            fileName = "s_" + fileName;
+        }
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/admin/product/image_display?dateFolderName="
+                + LoadTestDataSeeder.IMAGE_FOLDER + "&fileName=" + fileName)).GET().build();
+    }
+}
@@ -0,0 +1,160 @@
+package com.docmall.basic.loadtest;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 부하 테스트용 합성 데이터(카탈로그/회원/상품 이미지) 생성기
+ *
+ * - 카테고리: 1차 5개 × 2차 4개
+ * - 상품: products건, 상품명/제조사에 검색어로 쓸 단어를 섞어 검색 결과가 적당히 나오도록 구성
+ * - 회원: "user1" ~ "user{members}", 비밀번호는 모두 PASSWORD (BCrypt 해시는 1번만 계산해 재사용)
+ * - 이미지: 업로드 폴더의 IMAGE_FOLDER에 원본과 's_' 썸네일을 images개씩 생성
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
+public class LoadTestDataSeeder {
+
+    /** 합성 회원 공통 비밀번호 */
+    public static final String PASSWORD = "loadtest1234!";
+
+    /** 상품 이미지가 저장되는 날짜 폴더 */
+    public static final String IMAGE_FOLDER = "2025/05/01";
+
+    /** 상품명/제조사에 섞어 넣는 검색어 (검색 시나리오에서 사용) */
+    public static final String[] KEYWORDS = {"스프링", "자바", "데이터", "클라우드", "보안"};
+
+    // 한 번에 보내는 batch insert 행 수
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    public LoadTestDataSeeder(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    /** 회원 아이디 (1부터 시작) */
+    public static String memberId(int no) {
+        return "user" + no;
+    }
+
+    /** 원본 이미지 파일명 (1부터 시작) */
+    public static String imageName(int no) {
+        return "product_" + no + ".jpg";
+    }
+
+    /**
+     * 카테고리, 상품, 회원 데이터 생성
+     *
+     * @param products 상품 수
+     * @param members 회원 수
+     * @param images 상품 이미지 수 (상품들이 나누어 사용)
+     */
+    public void seedDatabase(int products, int members, int images) {
+        long start = System.currentTimeMillis();
+
+        List<Object[]> categories = new ArrayList<>();
+        for(int first = 1; first <= 5; first++) {
+            categories.add(new Object[] {first, null, "1차 카테고리 " + first});
+            for(int second = 1; second <= 4; second++) {
+                categories.add(new Object[] {first * 10 + second, first, "2차 카테고리 " + first + "-" + second});
+            }
+        }
+        jdbcTemplate.batchUpdate("insert into category_tbl(cate_code, cate_prtcode, cate_name) values (?, ?, ?)", categories);
+
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for(int i = 1; i <= products; i++) {
+            String keyword = KEYWORDS[i % KEYWORDS.length];
+            rows.add(new Object[] {
+                (i % 5 + 1) * 10 + (i % 4 + 1),
+                keyword + " 상품 " + i,
+                10_000 + (i * 37) % 90_000,
+                i % 30,
+                (i % 7 == 0 ? keyword : "제조사") + " " + (i % 300),
+                "상품 " + i + "의 상세 설명입니다. " + keyword,
+                IMAGE_FOLDER,
+                imageName(i % images + 1),
+                100,
+                "Y"
+            });
+            if(rows.size() == BATCH_SIZE) {
+                insertProducts(rows);
+            }
+        }
+        insertProducts(rows);
+
+        // BCrypt는 의도적으로 느리므로 해시는 1번만 계산
+        String encoded = passwordEncoder.encode(PASSWORD);
+        for(int i = 1; i <= members; i++) {
+            rows.add(new Object[] {
+                memberId(i), "회원" + i, memberId(i) + "@loadtest.com", encoded,
+                "12345", "서울시 부하구", "테스트동 " + i, "010-0000-" + String.format("%04d", i % 10_000),
+                "닉네임" + i, "N"
+            });
+            if(rows.size() == BATCH_SIZE) {
+                insertMembers(rows);
+            }
+        }
+        insertMembers(rows);
+
+        log.info("부하 테스트 데이터 생성: 상품 {}건, 회원 {}명 ({}ms)", products, members, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 상품 이미지(원본 + 's_' 썸네일) 생성
+     *
+     * @param uploadPath 업로드 루트 경로
+     * @param images 이미지 수
+     * @throws IOException 파일 저장 실패 시
+     */
+    public void seedImages(String uploadPath, int images) throws IOException {
+        File folder = new File(uploadPath, IMAGE_FOLDER);
+        folder.mkdirs();
+        for(int i = 1; i <= images; i++) {
+            ImageIO.write(createImage(800, 600, i), "jpg", new File(folder, imageName(i)));
+            ImageIO.write(createImage(266, 200, i), "jpg", new File(folder, "s_" + imageName(i)));
+        }
+    }
+
+    private void insertProducts(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("insert into product_tbl(cate_code, pro_name, pro_price, pro_discount, pro_publisher,"
+                + " pro_content, pro_up_folder, pro_img, pro_amount, pro_buy) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+
+    private void insertMembers(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("insert into mbsp_tbl(mbsp_id, mbsp_name, mbsp_email, mbsp_password, mbsp_zipcode,"
+                + " mbsp_addr, mbsp_deaddr, mbsp_phone, mbsp_nick, mbsp_receive) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+
+    // 이미지마다 색이 다른 단순 이미지 (파일 크기가 실제 상품 사진과 비슷한 수준이 되도록 줄무늬 추가)
+    private BufferedImage createImage(int width, int height, int seed) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(new Color(Color.HSBtoRGB((seed % 36) / 36f, 0.6f, 0.9f)));
+        g.fillRect(0, 0, width, height);
+        g.setColor(Color.WHITE);
+        for(int x = seed % 13; x < width; x += 13) {
+            g.drawLine(x, 0, x + height / 2, height);
+        }
+        g.dispose();
+        return image;
+    }
+}
@@ -0,0 +1,176 @@
+package com.docmall.basic.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 쇼핑몰 주요 요청 혼합 부하 테스트
+ *
+ * - 내장 H2(loadtest 프로필)로 애플리케이션을 실제 포트에 띄우고 합성 데이터를 생성한 뒤,
+ *   LoadDriver로 요청 비율(loadtest.mix.*)에 따라 요청을 보냅니다.
+ * - 시나리오: 상품 목록(페이징/깊은 페이지/검색), 로그인, 아이디 중복 체크, 상품 이미지
+ * - 워밍업 이후 측정 시간 동안의 엔드포인트별 p50/p99 지연 시간과 처리량(req/s)을 출력하고
+ *   loadtest.report 파일에 저장합니다.
+ * - p99 상한, 오류율, 기준선(loadtest.baseline) 대비 증가율을 넘으면 실패합니다.
+ * - 일반 빌드에서는 실행되지 않으며, 다음과 같이 명시적으로 실행합니다.
+ *     mvn test -Dtest=ShopLoadTest -Dloadtest=true
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ShopLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private Environment env;
+
+    @Value("${com.docmall.upload.path}")
+    private String uploadPath;
+
+    @Value("${loadtest.products}")
+    private int products;
+
+    @Value("${loadtest.members}")
+    private int members;
+
+    @Value("${loadtest.images}")
+    private int images;
+
+    @Value("${loadtest.threads}")
+    private int threads;
+
+    @Value("${loadtest.warmup-seconds}")
+    private int warmupSeconds;
+
+    @Value("${loadtest.duration-seconds}")
+    private int durationSeconds;
+
+    @Value("${loadtest.threshold.max-error-rate}")
+    private double maxErrorRate;
+
+    @Value("${loadtest.threshold.regression-percent}")
+    private double regressionPercent;
+
+    @Value("${loadtest.baseline}")
+    private String baselinePath;
+
+    @Value("${loadtest.report}")
+    private String reportPath;
+
+    @BeforeAll
+    void seed() throws Exception {
+        LoadTestDataSeeder seeder = new LoadTestDataSeeder(jdbcTemplate, passwordEncoder);
+        seeder.seedDatabase(products, members, images);
+        seeder.seedImages(uploadPath, images);
+    }
+
+    @Test
+    void mixedLoad() throws Exception {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for(String name : LoadDriver.SCENARIOS) {
+            mix.put(name, env.getProperty("loadtest.mix." + name, Integer.class, 0));
+        }
+
+        log.info("부하 테스트 시작: 스레드 {}개, 워밍업 {}초, 측정 {}초", threads, warmupSeconds, durationSeconds);
+
+        Map<String, EndpointStats> stats = new LoadDriver(products, members, images)
+                .run("http://localhost:" + port, mix, threads, warmupSeconds, durationSeconds);
+
+        report(stats);
+        verify(stats);
+    }
+
+    // ===== [ 결과 출력/검증 ] =====
+
+    private void report(Map<String, EndpointStats> stats) throws Exception {
+        Properties report = new Properties();
+        for(EndpointStats stat : stats.values()) {
+            report.setProperty(stat.getName() + ".count", String.valueOf(stat.getCount()));
+            report.setProperty(stat.getName() + ".errors", String.valueOf(stat.getErrors()));
+            report.setProperty(stat.getName() + ".throughput", String.format("%.1f", stat.getThroughput(durationSeconds)));
+            report.setProperty(stat.getName() + ".p50-ms", String.format("%.2f", stat.percentileMillis(50)));
+            report.setProperty(stat.getName() + ".p99-ms", String.format("%.2f", stat.percentileMillis(99)));
+        }
+        log.info("부하 테스트 결과 (측정 {}초){}", durationSeconds, LoadDriver.format(stats, durationSeconds));
+
+        File file = new File(reportPath);
+        if(file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        try(OutputStream out = new FileOutputStream(file)) {
+            report.store(out, "ShopLoadTest threads=" + threads + " duration-seconds=" + durationSeconds);
+        }
+    }
+
+    private void verify(Map<String, EndpointStats> stats) throws Exception {
+        Properties baseline = new Properties();
+        File baselineFile = new File(baselinePath);
+        if(baselineFile.isFile()) {
+            try(InputStream in = new FileInputStream(baselineFile)) {
+                baseline.load(in);
+            }
+        }
+
+        List<String> failures = new ArrayList<>();
+        for(EndpointStats stat : stats.values()) {
+            String name = stat.getName();
+            double p99 = stat.percentileMillis(99);
+
+            if(stat.getErrorRate() > maxErrorRate) {
+                failures.add(String.format("%s: 오류율 %.2f%% > %.2f%%", name, stat.getErrorRate() * 100, maxErrorRate * 100));
+            }
+
+            Double limit = env.getProperty("loadtest.threshold." + name + ".p99-ms", Double.class);
+            if(limit != null && p99 > limit) {
+                failures.add(String.format("%s: p99 %.2fms > 상한 %.2fms", name, p99, limit));
+            }
+
+            String base = baseline.getProperty(name + ".p99-ms");
+            if(base != null) {
+                double allowed = Double.parseDouble(base) * (1 + regressionPercent / 100);
+                if(p99 > allowed) {
+                    failures.add(String.format("%s: p99 %.2fms > 기준선 %sms + %.0f%%", name, p99, base, regressionPercent));
+                }
+            }
+        }
+        assertTrue(failures.isEmpty(), "부하 테스트 회귀 기준 초과\n" + String.join("\n", failures));
+    }
+}
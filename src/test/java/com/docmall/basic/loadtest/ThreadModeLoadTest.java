@@ -0,0 +1,141 @@
+package com.docmall.basic.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.docmall.basic.DemoshopApplication;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 처리량 비교 부하 테스트
+ *
+ * - 같은 설정(loadtest 프로필, 같은 커넥션 풀/톰캣 연결 수)으로 애플리케이션을 두 번 띄우고
+ *   spring.threads.virtual.enabled만 false/true로 바꿔 같은 요청 비율로 부하를 줍니다.
+ * - 동시 사용자 수(loadtest.thread-mode.threads)는 톰캣 기본 최대 작업 스레드(200)보다 많게 두어
+ *   플랫폼 스레드 모드에서 요청이 작업 스레드를 기다리는 상황을 만듭니다.
+ * - 모드별 처리량(req/s)과 p99를 나란히 출력하고 loadtest.thread-mode.report 파일에 저장합니다.
+ *   (비교용 테스트이므로 오류율만 검사합니다)
+ * - Java 21 이상에서만 실행되며, 다음과 같이 명시적으로 실행합니다.
+ *     mvn -Pjava21 test -Dtest=ThreadModeLoadTest -Dloadtest=true
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@Slf4j // Lombok: 로그 객체 자동 생성(log)
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class ThreadModeLoadTest {
+
+    // 설정값 (각 모드 실행 시 애플리케이션 Environment에서 읽음)
+    private int threads;
+    private int durationSeconds;
+    private double maxErrorRate;
+    private String reportPath;
+
+    @Test
+    void platformVersusVirtual() throws Exception {
+        Map<String, EndpointStats> platform = runMode(false);
+        Map<String, EndpointStats> virtual = runMode(true);
+
+        report(platform, virtual);
+
+        for(EndpointStats stat : virtual.values()) {
+            assertTrue(stat.getErrorRate() <= maxErrorRate,
+                    String.format("%s: 가상 스레드 오류율 %.2f%% > %.2f%%", stat.getName(), stat.getErrorRate() * 100, maxErrorRate * 100));
+        }
+    }
+
+    // 지정한 스레드 모드로 애플리케이션을 띄워 데이터 생성 후 부하를 주고 종료
+    private Map<String, EndpointStats> runMode(boolean virtual) throws Exception {
+        String mode = virtual ? "virtual" : "platform";
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(DemoshopApplication.class)
+                .profiles("loadtest")
+                .properties(
+                    "server.port=0",
+                    "spring.threads.virtual.enabled=" + virtual,
+                    // 모드마다 별도 DB (이전 실행 데이터와 섞이지 않도록)
+                    "spring.datasource.url=jdbc:h2:mem:loadtest_" + mode + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                    "spring.datasource.hikari.maximum-pool-size=${loadtest.thread-mode.pool-size}",
+                    "spring.datasource.hikari.connection-timeout=3000",
+                    "server.tomcat.max-connections=${loadtest.thread-mode.max-connections}");
+
+        try(ConfigurableApplicationContext context = builder.run()) {
+            Environment env = context.getEnvironment();
+            int products = env.getProperty("loadtest.products", Integer.class);
+            int members = env.getProperty("loadtest.members", Integer.class);
+            int images = env.getProperty("loadtest.images", Integer.class);
+            int warmupSeconds = env.getProperty("loadtest.warmup-seconds", Integer.class);
+            threads = env.getProperty("loadtest.thread-mode.threads", Integer.class);
+            durationSeconds = env.getProperty("loadtest.duration-seconds", Integer.class);
+            maxErrorRate = env.getProperty("loadtest.threshold.max-error-rate", Double.class);
+            reportPath = env.getProperty("loadtest.thread-mode.report");
+
+            LoadTestDataSeeder seeder = new LoadTestDataSeeder(context.getBean(JdbcTemplate.class), context.getBean(PasswordEncoder.class));
+            seeder.seedDatabase(products, members, images);
+            seeder.seedImages(env.getProperty("com.docmall.upload.path"), images);
+
+            Map<String, Integer> mix = new LinkedHashMap<>();
+            for(String name : LoadDriver.SCENARIOS) {
+                mix.put(name, env.getProperty("loadtest.mix." + name, Integer.class, 0));
+            }
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            log.info("[{}] 부하 테스트 시작: 스레드 {}개, 워밍업 {}초, 측정 {}초", mode, threads, warmupSeconds, durationSeconds);
+
+            Map<String, EndpointStats> stats = new LoadDriver(products, members, images)
+                    .run("http://localhost:" + port, mix, threads, warmupSeconds, durationSeconds);
+            log.info("[{}] 부하 테스트 결과 (측정 {}초){}", mode, durationSeconds, LoadDriver.format(stats, durationSeconds));
+            return stats;
+        }
+    }
+
+    private void report(Map<String, EndpointStats> platform, Map<String, EndpointStats> virtual) throws Exception {
+        Properties report = new Properties();
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%n%-10s %14s %14s %8s %14s %14s%n",
+                "endpoint", "platform req/s", "virtual req/s", "ratio", "platform p99", "virtual p99"));
+        for(String name : LoadDriver.SCENARIOS) {
+            EndpointStats p = platform.get(name);
+            EndpointStats v = virtual.get(name);
+            double pThroughput = p.getThroughput(durationSeconds);
+            double vThroughput = v.getThroughput(durationSeconds);
+            double ratio = pThroughput == 0 ? 0 : vThroughput / pThroughput;
+            sb.append(String.format("%-10s %14.1f %14.1f %7.2fx %12.2fms %12.2fms%n",
+                    name, pThroughput, vThroughput, ratio, p.percentileMillis(99), v.percentileMillis(99)));
+
+            report.setProperty("platform." + name + ".throughput", String.format("%.1f", pThroughput));
+            report.setProperty("platform." + name + ".p99-ms", String.format("%.2f", p.percentileMillis(99)));
+            report.setProperty("platform." + name + ".errors", String.valueOf(p.getErrors()));
+            report.setProperty("virtual." + name + ".throughput", String.format("%.1f", vThroughput));
+            report.setProperty("virtual." + name + ".p99-ms", String.format("%.2f", v.percentileMillis(99)));
+            report.setProperty("virtual." + name + ".errors", String.valueOf(v.getErrors()));
+        }
+        log.info("플랫폼/가상 스레드 비교 (측정 {}초){}", durationSeconds, sb);
+
+        File file = new File(reportPath);
+        if(file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        try(OutputStream out = new FileOutputStream(file)) {
+            report.store(out, "ThreadModeLoadTest threads=" + threads + " duration-seconds=" + durationSeconds);
+        }
+    }
+}
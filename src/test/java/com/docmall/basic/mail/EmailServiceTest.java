@@ -0,0 +1,151 @@
+package com.docmall.basic.mail;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import jakarta.mail.Message;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * 메일 발송 대기열 테스트
+ *
+ * - 내장 H2(test 프로필)와 GreenMail(내장 SMTP 서버, localhost:3025)을 사용합니다.
+ * - 등록 즉시 반환되고 백그라운드에서 발송되는지, 템플릿이 적용되는지,
+ *   SMTP 서버 장애 시 재시도/최종 실패 처리가 되는지 확인합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EmailServiceTest {
+
+    // 테스트마다 새로 시작되는 내장 SMTP 서버
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void sendsQueuedMailWithTemplate() throws Exception {
+        EmailDTO dto = new EmailDTO();
+        dto.setReceiverMail("idsearch@test.com");
+        dto.setSubject("Ezen Mall 아이디 찾기 결과를 보냅니다.");
+
+        Long num = emailService.sendMail("mail/idsearch", dto, "user1");
+
+        MimeMessage message = awaitMessages("idsearch@test.com", 1).get(0);
+        assertEquals("Ezen Mall 아이디 찾기 결과를 보냅니다.", message.getSubject());
+        assertTrue(((String) message.getContent()).contains("user1"));
+
+        // 발송 완료 후 템플릿 값(아이디, 임시 비밀번호 등)은 대기열에 남기지 않음
+        Map<String, Object> row = awaitRow(num, r -> "SENT".equals(r.get("mq_status")));
+        assertNull(row.get("mq_param"));
+    }
+
+    @Test
+    void sendsMoreThanOneBatch() throws Exception {
+        // batch-size(20)보다 많은 메일
+        for(int i = 1; i <= 30; i++) {
+            EmailDTO dto = new EmailDTO();
+            dto.setReceiverMail("batch@test.com");
+            dto.setSubject("Ezen Mall 임시비밀번호를 보냅니다.");
+            emailService.sendMail("mail/pwtemp", dto, "temp" + i);
+        }
+
+        assertEquals(30, awaitMessages("batch@test.com", 30).size());
+    }
+
+    @Test
+    void retriesWhenSmtpServerIsDown() throws Exception {
+        greenMail.stop();
+
+        EmailDTO dto = new EmailDTO();
+        dto.setReceiverMail("retry@test.com");
+        dto.setSubject("Ezen Mall 아이디 찾기 결과를 보냅니다.");
+        Long num = emailService.sendMail("mail/idsearch", dto, "user2");
+
+        // 첫 시도 실패 후 재시도 대기
+        Map<String, Object> row = awaitRow(num, r -> ((Number) r.get("mq_attempts")).intValue() >= 1);
+        assertEquals("READY", row.get("mq_status"));
+
+        // SMTP 서버가 돌아오면 재시도에서 발송
+        greenMail.start();
+        awaitMessages("retry@test.com", 1);
+        awaitRow(num, r -> "SENT".equals(r.get("mq_status")));
+    }
+
+    @Test
+    void failsAfterMaxAttempts() throws Exception {
+        greenMail.stop();
+
+        EmailDTO dto = new EmailDTO();
+        dto.setReceiverMail("failed@test.com");
+        dto.setSubject("Ezen Mall 아이디 찾기 결과를 보냅니다.");
+        Long num = emailService.sendMail("mail/idsearch", dto, "user3");
+
+        // max-attempts(5)번 실패하면 더 이상 재시도하지 않음
+        Map<String, Object> row = awaitRow(num, r -> "FAILED".equals(r.get("mq_status")));
+        assertEquals(5, ((Number) row.get("mq_attempts")).intValue());
+        assertTrue(row.get("mq_error") != null);
+    }
+
+    // 받는 사람의 메일이 count건 도착할 때까지 대기 (최대 10초)
+    private List<MimeMessage> awaitMessages(String receiver, int count) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while(true) {
+            List<MimeMessage> messages = Arrays.stream(greenMail.getReceivedMessages())
+                    .filter(m -> hasRecipient(m, receiver))
+                    .toList();
+            if(messages.size() >= count) {
+                return messages;
+            }
+            assertTrue(System.currentTimeMillis() < deadline,
+                    receiver + " 메일 " + count + "건을 기다리다 시간 초과 (" + messages.size() + "건 도착)");
+            Thread.sleep(50);
+        }
+    }
+
+    private boolean hasRecipient(MimeMessage message, String receiver) {
+        try {
+            return Arrays.stream(message.getRecipients(Message.RecipientType.TO))
+                         .anyMatch(address -> address.toString().equals(receiver));
+        } catch(Exception ex) {
+            return false;
+        }
+    }
+
+    // 대기열 건이 조건을 만족할 때까지 대기 (최대 10초)
+    private Map<String, Object> awaitRow(Long num, Predicate<Map<String, Object>> condition) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while(true) {
+            Map<String, Object> row = jdbcTemplate.queryForMap(
+                    "select mq_status, mq_attempts, mq_param, mq_error from mail_queue_tbl where mq_num = ?", num);
+            if(condition.test(row)) {
+                return row;
+            }
+            assertTrue(System.currentTimeMillis() < deadline, "대기열 " + num + " 상태를 기다리다 시간 초과: " + row);
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.docmall.basic.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.docmall.basic.ProductFixture;
+import com.docmall.basic.admin.order.AdOrderService;
+
+/**
+ * 주문 재고 차감 동시성 테스트
+ *
+ * - 내장 H2(test 프로필)를 사용합니다.
+ * - 같은 상품에 재고보다 많은 주문이 동시에 들어와도 재고만큼만 주문되고(초과 판매 없음),
+ *   실패한 주문의 재고는 되돌려지는지 확인합니다.
+ * - 관리자가 주문을 취소하면 재고가 한 번만 되돌려지는지 확인합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderServiceTest {
+
+    // 동시 주문 스레드 수
+    private static final int THREADS = 200;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private AdOrderService adOrderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void doesNotOversellHotProduct() throws Exception {
+        int pro_num = insertProduct(100);
+
+        List<Boolean> results = runConcurrently(500, i -> checkout(pro_num, 1));
+
+        assertEquals(100, results.stream().filter(ok -> ok).count());
+        assertEquals(0, stock(pro_num));
+        assertEquals(100, orderedAmount(pro_num));
+    }
+
+    @Test
+    void doesNotOversellWithMixedAmounts() throws Exception {
+        int pro_num = insertProduct(250);
+
+        runConcurrently(400, i -> checkout(pro_num, 1 + ThreadLocalRandom.current().nextInt(3)));
+
+        // 남은 재고 + 주문된 수량 = 처음 재고 (음수 재고, 잃어버린 차감 없음)
+        int stock = stock(pro_num);
+        assertEquals(250, stock + orderedAmount(pro_num));
+        assertTrue(stock >= 0);
+    }
+
+    @Test
+    void releasesReservedStockWhenAnotherItemIsSoldOut() {
+        int available = insertProduct(10);
+        int soldOut = insertProduct(0);
+
+        OrderVO vo = order();
+        vo.getDetails().add(detail(available, 3));
+        vo.getDetails().add(detail(soldOut, 1));
+
+        SoldOutException ex = assertThrows(SoldOutException.class, () -> orderService.checkout(vo));
+        assertEquals(soldOut, ex.getPro_num());
+        assertEquals(10, stock(available));
+    }
+
+    @Test
+    void releasesStockOnceWhenOrderIsCanceled() {
+        int first = insertProduct(10);
+        int second = insertProduct(10);
+
+        OrderVO vo = order();
+        // 상품 번호 역순으로 담아도 상품 번호 순으로 차감/되돌림
+        vo.getDetails().add(detail(second, 4));
+        vo.getDetails().add(detail(first, 2));
+        Long ord_code = orderService.checkout(vo);
+        assertEquals(8, stock(first));
+        assertEquals(6, stock(second));
+
+        assertTrue(adOrderService.order_cancel(ord_code));
+        assertFalse(adOrderService.order_cancel(ord_code));
+        assertEquals(10, stock(first));
+        assertEquals(10, stock(second));
+    }
+
+    // 동시에 count건 주문 (성공 여부 목록 반환)
+    private List<Boolean> runConcurrently(int count, Task task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for(int i = 0; i < count; i++) {
+                int n = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.run(n);
+                }));
+            }
+            start.countDown();
+
+            List<Boolean> results = new ArrayList<>();
+            for(Future<Boolean> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        boolean run(int n) throws Exception;
+    }
+
+    private boolean checkout(int pro_num, int amount) {
+        OrderVO vo = order();
+        vo.getDetails().add(detail(pro_num, amount));
+        try {
+            orderService.checkout(vo);
+            return true;
+        } catch(SoldOutException ex) {
+            return false;
+        }
+    }
+
+    private OrderVO order() {
+        OrderVO vo = new OrderVO();
+        vo.setMbsp_id("user1");
+        vo.setOrd_name("홍길동");
+        vo.setOrd_zipcode("12345");
+        vo.setOrd_addr("서울시");
+        vo.setOrd_deaddr("1동");
+        vo.setOrd_phone("010-0000-0000");
+        return vo;
+    }
+
+    private OrderDetailVO detail(int pro_num, int amount) {
+        OrderDetailVO detail = new OrderDetailVO();
+        detail.setPro_num(pro_num);
+        detail.setDt_amount(amount);
+        return detail;
+    }
+
+    private int insertProduct(int amount) {
+        return new ProductFixture(jdbcTemplate).name("재고 테스트").price(10000, 10).amount(amount).insert();
+    }
+
+    private int stock(int pro_num) {
+        return jdbcTemplate.queryForObject("select pro_amount from product_tbl where pro_num = ?", Integer.class, pro_num);
+    }
+
+    private int orderedAmount(int pro_num) {
+        return jdbcTemplate.queryForObject(
+                "select coalesce(sum(dt_amount), 0) from order_detail_tbl where pro_num = ?", Integer.class, pro_num);
+    }
+}
@@ -0,0 +1,152 @@
+package com.docmall.basic.review;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.docmall.basic.ProductFixture;
+
+/**
+ * 상품 리뷰 집계/커서 페이징 테스트
+ *
+ * - 내장 H2(test 프로필)를 사용합니다.
+ * - 리뷰 작성/수정/숨김/삭제가 동시에 일어나도, 모아서 저장한 상품 리뷰 수/평점 합계가
+ *   review_tbl의 노출 리뷰와 일치하는지 확인합니다.
+ * - 상품 리뷰 "더보기"로 끝까지 조회하면 모든 노출 리뷰가 한 번씩 최근 순으로 나오는지 확인합니다.
+ *
+ * @author main
+ * @since 2025.05.01
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReviewServiceTest {
+
+    // 동시 요청 스레드 수
+    private static final int THREADS = 50;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ReviewCounterBuffer reviewCounterBuffer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void keepsProductCountersInSyncWithVisibleReviews() throws Exception {
+        int pro_num = insertProduct();
+
+        // 리뷰 200건 동시 작성
+        List<Integer> codes = runConcurrently(200, i -> reviewService.review_insert(review(pro_num, "user" + (i % 20), 1 + i % 5)));
+
+        // 수정 / 숨김 / 삭제(숨긴 리뷰 포함)를 동시에
+        runConcurrently(60, i -> {
+            Integer rev_code = codes.get(i);
+            if(i < 20) {
+                ReviewVO vo = review(pro_num, "user" + (i % 20), 5 - i % 5);
+                vo.setRev_code(rev_code);
+                reviewService.review_update(vo);
+            } else if(i < 40) {
+                reviewService.review_status(rev_code, false);
+            } else {
+                reviewService.review_delete(codes.get(i - 10), null);
+            }
+            return rev_code;
+        });
+
+        reviewCounterBuffer.flush();
+
+        int visible = jdbcTemplate.queryForObject(
+                "select count(*) from review_tbl where pro_num = ? and rev_status = 'Y'", Integer.class, pro_num);
+        int ratingSum = jdbcTemplate.queryForObject(
+                "select coalesce(sum(rev_rating), 0) from review_tbl where pro_num = ? and rev_status = 'Y'", Integer.class, pro_num);
+        assertEquals(visible, productColumn("pro_review", pro_num));
+        assertEquals(ratingSum, productColumn("pro_rating_sum", pro_num));
+    }
+
+    @Test
+    void pagesThroughProductReviewsWithCursor() {
+        int pro_num = insertProduct();
+        for(int i = 0; i < 25; i++) {
+            reviewService.review_insert(review(pro_num, "user1", 4));
+        }
+
+        List<Integer> seen = new ArrayList<>();
+        Integer cursor = null;
+        ReviewPage page;
+        do {
+            page = reviewService.review_list_product(pro_num, cursor, 10);
+            page.review_list().forEach(vo -> seen.add(vo.getRev_code()));
+            cursor = page.nextCursor();
+        } while(page.hasMore());
+
+        assertEquals(25, seen.size());
+        assertEquals(25, seen.stream().distinct().count());
+        for(int i = 1; i < seen.size(); i++) {
+            assertTrue(seen.get(i - 1) > seen.get(i));
+        }
+        assertFalse(reviewService.review_list_product(pro_num, cursor, 10).hasMore());
+    }
+
+    // 동시에 count건 실행 (결과 목록 반환)
+    private List<Integer> runConcurrently(int count, Task task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for(int i = 0; i < count; i++) {
+                int n = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.run(n);
+                }));
+            }
+            start.countDown();
+
+            List<Integer> results = new ArrayList<>();
+            for(Future<Integer> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        Integer run(int n) throws Exception;
+    }
+
+    private ReviewVO review(int pro_num, String mbsp_id, int rating) {
+        ReviewVO vo = new ReviewVO();
+        vo.setPro_num(pro_num);
+        vo.setMbsp_id(mbsp_id);
+        vo.setRev_content("리뷰 테스트");
+        vo.setRev_rating(rating);
+        return vo;
+    }
+
+    private int insertProduct() {
+        return new ProductFixture(jdbcTemplate).name("리뷰 테스트").insert();
+    }
+
+    private int productColumn(String column, int pro_num) {
+        return jdbcTemplate.queryForObject("select " + column + " from product_tbl where pro_num = ?", Integer.class, pro_num);
+    }
+}
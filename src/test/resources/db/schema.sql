@@ -0,0 +1,149 @@
+-- =========================
+-- 내장 DB(H2, MySQL 호환 모드) 스키마
+-- =========================
+-- - 벤치마크(src/jmh), 부하 테스트, 통합 테스트에서 공통으로 사용합니다.
+-- - 운영 MySQL 테이블과 컬럼명/타입을 맞추었습니다. (H2 MySQL 호환 모드 기준 문법)
+-- - 접속 URL 예: jdbc:h2:mem:ezenshop;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1
+
+-- 관리자
+create table if not exists admin_tbl (
+    ad_userid       varchar(15)     not null primary key,
+    ad_passwd       varchar(60)     not null,
+    login_date      datetime        default current_timestamp
+);
+
+-- 회원
+create table if not exists mbsp_tbl (
+    mbsp_id         varchar(15)     not null primary key,
+    mbsp_name       varchar(30)     not null,
+    mbsp_email      varchar(50)     not null,
+    mbsp_password   varchar(60)     not null,
+    mbsp_zipcode    char(5)         not null,
+    mbsp_addr       varchar(100)    not null,
+    mbsp_deaddr     varchar(100)    not null,
+    mbsp_phone      varchar(15)     not null,
+    mbsp_nick       varchar(20)     not null,
+    mbsp_receive    char(1)         not null,
+    mbsp_point      int             default 0 not null,
+    mbsp_lastlogin  datetime        default current_timestamp,
+    mbsp_datesub    datetime        default current_timestamp,
+    mbsp_updatedate datetime        default current_timestamp
+);
+
+-- 카테고리 (cate_prtcode가 null이면 1차 카테고리)
+create table if not exists category_tbl (
+    cate_code       int             not null primary key,
+    cate_prtcode    int             null,
+    cate_name       varchar(50)     not null
+);
+
+-- 상품
+create table if not exists product_tbl (
+    pro_num         int             not null auto_increment primary key,
+    cate_code       int             not null,
+    pro_name        varchar(50)     not null,
+    pro_price       int             not null,
+    pro_discount    int             not null,
+    pro_publisher   varchar(50)     not null,
+    pro_content     varchar(4000)   not null,
+    pro_up_folder   varchar(50)     not null,
+    pro_img         varchar(100)    not null,
+    pro_amount      int             not null,
+    pro_buy         char(1)         not null,
+    pro_review      int             default 0 not null,
+    pro_rating_sum  int             default 0 not null,
+    pro_date        datetime        default current_timestamp,
+    -- MySQL datetime과 같이 초 단위로 저장 (낙관적 잠금에서 읽은 값 그대로 비교)
+    pro_updatedate  datetime(0)     default current_timestamp
+);
+
+create index if not exists idx_product_date on product_tbl (pro_date, pro_num);
+
+-- 메일 발송 대기열 (mq_status: READY → SENDING → SENT / FAILED)
+create table if not exists mail_queue_tbl (
+    mq_num          bigint          not null auto_increment primary key,
+    mq_template     varchar(50)     not null,
+    mq_sender_name  varchar(50)     not null,
+    mq_receiver     varchar(50)     not null,
+    mq_subject      varchar(200)    not null,
+    mq_param        varchar(200)    null,
+    mq_status       varchar(10)     default 'READY' not null,
+    mq_attempts     int             default 0 not null,
+    mq_next_try     datetime        default current_timestamp not null,
+    mq_owner        varchar(50)     null,
+    mq_claimdate    datetime        null,
+    mq_error        varchar(500)    null,
+    mq_regdate      datetime        default current_timestamp,
+    mq_sentdate     datetime        null
+);
+
+create index if not exists idx_mail_queue_status on mail_queue_tbl (mq_status, mq_next_try);
+
+-- 주문 (ord_status: ORDERED → SHIPPING → DELIVERED / CANCELED)
+create table if not exists order_tbl (
+    ord_code        bigint          not null auto_increment primary key,
+    mbsp_id         varchar(15)     not null,
+    ord_name        varchar(30)     not null,
+    ord_zipcode     char(5)         not null,
+    ord_addr        varchar(100)    not null,
+    ord_deaddr      varchar(100)    not null,
+    ord_phone       varchar(15)     not null,
+    ord_price       int             not null,
+    ord_status      varchar(10)     default 'ORDERED' not null,
+    ord_regdate     datetime        default current_timestamp
+);
+
+create index if not exists idx_order_member on order_tbl (mbsp_id, ord_code);
+
+-- 주문 상품 (dt_price: 주문 시점의 할인 적용 단가)
+create table if not exists order_detail_tbl (
+    ord_code        bigint          not null,
+    pro_num         int             not null,
+    dt_amount       int             not null,
+    dt_price        int             not null,
+    primary key (ord_code, pro_num)
+);
+
+-- 일별 통계 (취소된 주문은 주문일에서 차감, cancel_count에 집계)
+create table if not exists stat_daily_tbl (
+    stat_date       date            not null primary key,
+    order_count     int             default 0 not null,
+    item_count      int             default 0 not null,
+    sales_price     bigint          default 0 not null,
+    cancel_count    int             default 0 not null,
+    signup_count    int             default 0 not null
+);
+
+-- 일별 카테고리 매출
+create table if not exists stat_category_daily_tbl (
+    stat_date       date            not null,
+    cate_code       int             not null,
+    item_count      int             default 0 not null,
+    sales_price     bigint          default 0 not null,
+    primary key (stat_date, cate_code)
+);
+
+-- 일별 상품 매출
+create table if not exists stat_product_daily_tbl (
+    stat_date       date            not null,
+    pro_num         int             not null,
+    cate_code       int             not null,
+    item_count      int             default 0 not null,
+    sales_price     bigint          default 0 not null,
+    primary key (stat_date, pro_num)
+);
+
+-- 상품 리뷰 (rev_status: Y 노출 / N 숨김, 노출 리뷰만 product_tbl.pro_review, pro_rating_sum에 집계)
+create table if not exists review_tbl (
+    rev_code        int             not null auto_increment primary key,
+    mbsp_id         varchar(15)     not null,
+    pro_num         int             not null,
+    rev_content     varchar(1000)   not null,
+    rev_rating      int             not null,
+    rev_status      char(1)         default 'Y' not null,
+    rev_regdate     datetime        default current_timestamp,
+    rev_updatedate  datetime        default current_timestamp
+);
+
+create index if not exists idx_review_product on review_tbl (pro_num, rev_status, rev_code);
+create index if not exists idx_review_member on review_tbl (mbsp_id, rev_code);